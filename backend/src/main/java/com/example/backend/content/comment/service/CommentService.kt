@@ -13,7 +13,10 @@ import com.example.backend.entity.CommentEntity
 import com.example.backend.entity.CommentRepository
 import com.example.backend.entity.MemberRepository
 import com.example.backend.entity.PostRepository
+import com.example.backend.entity.PostStatsRepository
 import com.example.backend.global.event.CommentEvent
+import com.example.backend.social.feed.constant.FeedConstants
+import com.example.backend.social.feed.implement.PostPopularityIndex
 import org.springframework.context.ApplicationEventPublisher
 import org.springframework.data.domain.Page
 import org.springframework.data.domain.Pageable
@@ -25,8 +28,10 @@ import java.util.*
 open class CommentService(
 	private val commentRepository: CommentRepository,
 	private val postRepository: PostRepository,
+	private val postStatsRepository: PostStatsRepository,
 	private val memberRepository: MemberRepository,
-	private val applicationEventPublisher: ApplicationEventPublisher
+	private val applicationEventPublisher: ApplicationEventPublisher,
+	private val postPopularityIndex: PostPopularityIndex
 ) {
 
 	/**
@@ -70,6 +75,10 @@ open class CommentService(
 		}
 
 		val savedComment = commentRepository.save(comment)
+		postStatsRepository.increaseCommentCount(post.getId(), 1)
+
+		// 추천 피드 인기 점수 반영
+		postPopularityIndex.increase(post.getId(), FeedConstants.POPULARITY_COMMENT_WEIGHT.toDouble())
 
 		// 이벤트 발행
 		applicationEventPublisher.publishEvent(
@@ -125,15 +134,25 @@ open class CommentService(
 		} else {
 			// 자식 없으면 DB에서 직접 삭제
 			commentRepository.delete(comment)
+			var deletedCount = 1L
 
 			// 부모 댓글 정리
 			val parentNum = comment.getParentNum()
 			if (parentNum != null) {
 				val parentOpt = commentRepository.findById(parentNum)
-				parentOpt
+				val deletedParent = parentOpt
 					.filter { parent -> !commentRepository.existsByParentNum(parent.getId()) && parent.isDeleted() }
-					.ifPresent { parent -> commentRepository.delete(parent) }
+				deletedParent.ifPresent { parent -> commentRepository.delete(parent) }
+				if (deletedParent.isPresent) deletedCount++
 			}
+
+			// 실제로 삭제된 row 수만큼 게시물 댓글 수 감소 (Soft Delete 된 댓글은 row 가 남아 있으므로 유지)
+			postStatsRepository.increaseCommentCount(comment.getPost().getId(), -deletedCount)
+
+			// 추천 피드 인기 점수도 삭제된 댓글 수만큼 감소
+			postPopularityIndex.increase(
+				comment.getPost().getId(), -FeedConstants.POPULARITY_COMMENT_WEIGHT.toDouble() * deletedCount
+			)
 		}
 
 		return CommentConverter.toDeleteResponse(comment.getId(), comment.getMember().getId())
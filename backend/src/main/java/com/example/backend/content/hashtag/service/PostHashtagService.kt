@@ -3,6 +3,7 @@ package com.example.backend.content.hashtag.service
 import com.example.backend.entity.PostEntity
 import com.example.backend.entity.PostHashtagEntity
 import com.example.backend.entity.PostHashtagRepository
+import com.example.backend.social.feed.implement.PostHydrationCache
 import org.apache.commons.collections4.SetUtils
 import org.springframework.stereotype.Service
 import java.util.stream.Collectors
@@ -14,7 +15,8 @@ import java.util.stream.Collectors
 @Service
 class PostHashtagService(
     private val hashtagService: HashtagService,
-    private val postHashtagRepository: PostHashtagRepository
+    private val postHashtagRepository: PostHashtagRepository,
+    private val postHydrationCache: PostHydrationCache
 ) {
     fun create(post: PostEntity?, contents: Set<String?>) {
         val hashtags = contents.stream()
@@ -52,5 +54,10 @@ class PostHashtagService(
         if (updatedHashtags.isNotEmpty()) {
             create(post, updatedHashtags)
         }
+
+        // 피드 캐시에 남아 있는 이전 해시태그 제거
+        if (deletedHashtagContents.isNotEmpty() || updatedHashtags.isNotEmpty()) {
+            postHydrationCache.evict(post.id)
+        }
     }
 }
@@ -6,6 +6,7 @@ import com.example.backend.entity.ImageRepository
 import com.example.backend.entity.PostEntity
 import com.example.backend.entity.PostRepository
 import com.example.backend.global.storage.LocalFileStorageService
+import com.example.backend.social.feed.implement.PostHydrationCache
 import org.springframework.stereotype.Service
 import org.springframework.transaction.annotation.Transactional
 import org.springframework.web.multipart.MultipartFile
@@ -14,7 +15,8 @@ import org.springframework.web.multipart.MultipartFile
 open class ImageService(
 	private val imageRepository: ImageRepository,
 	private val postRepository: PostRepository,
-	private val fileStorageService: LocalFileStorageService
+	private val fileStorageService: LocalFileStorageService,
+	private val postHydrationCache: PostHydrationCache
 ) {
 
 	/**
@@ -36,6 +38,8 @@ open class ImageService(
 			fileName
 		}
 
+		postHydrationCache.evict(postId)
+
 		// Response에 파일 이름들 담아서 반환
 		return ImageUploadResponse(postId, fileNames)
 	}
@@ -73,5 +77,6 @@ open class ImageService(
 
 		// DB에서 삭제
 		imageRepository.delete(imageEntity)
+		postHydrationCache.evict(postId)
 	}
 }
@@ -6,6 +6,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
@@ -14,6 +15,7 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.example.backend.content.notification.dto.NotificationPageResponse;
 import com.example.backend.content.notification.service.NotificationService;
+import com.example.backend.content.notification.sse.SseClusterDelivery;
 import com.example.backend.content.notification.sse.SseConnection;
 import com.example.backend.content.notification.sse.SseConnectionPool;
 import com.example.backend.global.rs.RsData;
@@ -31,18 +33,31 @@ import lombok.RequiredArgsConstructor;
 public class NotificationController {
 
 	private final SseConnectionPool sseConnectionPool;
+	private final SseClusterDelivery sseClusterDelivery;
 	private final NotificationService notificationService;
 
 	@GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
 	public SseEmitter subscribe(
+		@AuthenticationPrincipal CustomUser customUser,
 		@RequestParam(name = "userId") String userId,
-		@RequestParam(name = "browserName", defaultValue = "unknown") String browserName) {
+		@RequestParam(name = "browserName", defaultValue = "unknown") String browserName,
+		@RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+		// 재연결인 경우 놓친 알림을 먼저 보내고, 그동안 들어온 새 알림은 재전송이 끝난 뒤 이어서 보냄
+		// 재전송은 지난 알림 내용을 돌려주므로, 인증된 사용자 본인의 연결인 경우에만 수행한다
+		boolean replaying = lastEventId != null && !lastEventId.isBlank() && isOwner(customUser, userId);
 		SseConnection connection = SseConnection.connect(
-			String.valueOf(userId), browserName, sseConnectionPool);
+			String.valueOf(userId), browserName, sseConnectionPool, replaying);
+		if (replaying) {
+			sseClusterDelivery.replay(connection, lastEventId);
+		}
 
 		return connection.getSseEmitter();
 	}
 
+	private boolean isOwner(CustomUser customUser, String userId) {
+		return customUser != null && String.valueOf(customUser.getId()).equals(userId);
+	}
+
 	@PutMapping("/{notificationId}/read")
 	@ResponseStatus(HttpStatus.OK)
 	public RsData<Void> markAsRead(
@@ -54,6 +69,32 @@ public class NotificationController {
 		return RsData.success(null);
 	}
 
+	/**
+	 * 읽지 않은 알림 전체 (또는 lastNotificationId 이하) 읽음 처리
+	 * @author kwak
+	 * @since 2025-03-15
+	 */
+	@PutMapping("/read-all")
+	@ResponseStatus(HttpStatus.OK)
+	public RsData<Void> markAllAsRead(
+		@AuthenticationPrincipal CustomUser customUser,
+		@RequestParam(name = "lastNotificationId", required = false) Long lastNotificationId
+	) {
+		notificationService.markAllRead(customUser.getId(), lastNotificationId);
+		return RsData.success(null);
+	}
+
+	/**
+	 * 알림 배지용 읽지 않은 알림 수
+	 * @author kwak
+	 * @since 2025-03-15
+	 */
+	@GetMapping("/unread-count")
+	@ResponseStatus(HttpStatus.OK)
+	public RsData<Long> unreadCount(@AuthenticationPrincipal CustomUser customUser) {
+		return RsData.success(notificationService.getUnreadCount(customUser.getId()));
+	}
+
 	/**
 	 * 좋아요,팔로잉,댓글 등 타입 가리지 않고 알림 가져오기
 	 * @author kwak
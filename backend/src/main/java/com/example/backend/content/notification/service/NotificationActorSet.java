@@ -0,0 +1,94 @@
+package com.example.backend.content.notification.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 묶인 알림 행마다 행위자 이름을 Redis Set 에 유지하여, 여러 구간에 걸쳐 같은 행위자를 한 번만 센다
+ * Set 은 알림이 더 이상 묶이지 않는 mergeWindow 가 지나면 만료된다.
+ * Redis 장애로 Set 을 읽지 못하면 넘어온 이름을 모두 새 행위자로 보고 센다 (근사치).
+ * @author kwak
+ * 2025-03-15
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationActorSet {
+
+	private static final String ACTORS_KEY_PREFIX = "notification:actors:";
+
+	// 새로 추가된 이름만 돌려준다 (ARGV[1] : 만료 시간 ms, ARGV[2..] : 이름)
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> ADD_SCRIPT = new DefaultRedisScript<>(
+		"local added = {} "
+			+ "for i = 2, #ARGV do "
+			+ "  if redis.call('SADD', KEYS[1], ARGV[i]) == 1 then added[#added + 1] = ARGV[i] end "
+			+ "end "
+			+ "redis.call('PEXPIRE', KEYS[1], ARGV[1]) "
+			+ "return added",
+		List.class);
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	/**
+	 * 알림 행의 행위자 Set 에 이름을 추가하고, 처음 추가된 이름의 수를 반환
+	 * 트랜잭션이 롤백되면 이번에 추가한 이름을 다시 제거하여, 재시도할 때 누락되지 않도록 한다.
+	 */
+	public int add(Long notificationId, Collection<String> actorNames, Duration ttl) {
+		String key = getKey(notificationId);
+		List<String> args = new ArrayList<>(actorNames.size() + 1);
+		args.add(String.valueOf(ttl.toMillis()));
+		args.addAll(actorNames);
+
+		List<String> added;
+		try {
+			added = toStrings(stringRedisTemplate.execute(ADD_SCRIPT, List.of(key), args.toArray()));
+		} catch (Exception e) {
+			log.warn("Failed to update notification actors for notification {}", notificationId, e);
+			return actorNames.size();
+		}
+
+		if (!added.isEmpty() && TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					if (status != STATUS_COMMITTED) {
+						remove(key, added);
+					}
+				}
+			});
+		}
+		return added.size();
+	}
+
+	private void remove(String key, List<String> actorNames) {
+		try {
+			stringRedisTemplate.opsForSet().remove(key, actorNames.toArray());
+		} catch (Exception e) {
+			log.warn("Failed to roll back notification actors {}", key, e);
+		}
+	}
+
+	private List<String> toStrings(List<?> values) {
+		if (values == null) {
+			return List.of();
+		}
+		return values.stream().map(String::valueOf).toList();
+	}
+
+	private String getKey(Long notificationId) {
+		return ACTORS_KEY_PREFIX + notificationId;
+	}
+}
@@ -0,0 +1,142 @@
+package com.example.backend.content.notification.service;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.backend.content.notification.type.NotificationType;
+import com.example.backend.entity.NotificationEntity;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 같은 (수신자, 알림 타입, 그룹) 으로 들어오는 알림을 짧은 구간 동안 모아서 하나의 알림으로 저장 / 전송
+ * 구간이 끝나면 "A님 외 37명이 ..." 형태의 메시지로 알림 행을 upsert 하고 SSE 는 그룹당 한 번만 보낸다.
+ * 저장에 실패한 그룹은 다시 대기열에 넣어 MAX_ATTEMPTS 번까지 재시도하고, 서버 종료 시에는 남은 그룹을 모두 저장한다.
+ *
+ * groupKey
+ * LIKE -> 리소스 타입:리소스 ID, COMMENT -> post:게시물 ID, FOLLOW -> follow
+ * @author kwak
+ * 2025-03-15
+ */
+@Component
+@Slf4j
+public class NotificationAggregator {
+
+	private static final long FLUSH_INTERVAL_MS = 500L;
+	private static final int MAX_ATTEMPTS = 3;
+
+	private final NotificationService notificationService;
+	private final long windowMillis;
+
+	private final Map<GroupKey, PendingGroup> pendingGroups = new ConcurrentHashMap<>();
+
+	public NotificationAggregator(
+		NotificationService notificationService,
+		@Value("${custom.notification.aggregation.window:3s}") Duration window
+	) {
+		this.notificationService = notificationService;
+		this.windowMillis = window.toMillis();
+	}
+
+	record GroupKey(Long memberId, NotificationType type, String groupKey) {
+	}
+
+	// 구간 동안 모인 알림 (같은 이름의 행위자는 한 번만 센다)
+	private static final class PendingGroup {
+		private final long startedAt;
+		private final String action;
+		private final Set<String> actorNames = new LinkedHashSet<>();
+		private String latestActorName;
+		private Long latestTargetId;
+		private int attempts;
+
+		private PendingGroup(long startedAt, String action) {
+			this.startedAt = startedAt;
+			this.action = action;
+		}
+
+		private void add(String actorName, Long targetId) {
+			actorNames.remove(actorName);
+			actorNames.add(actorName);
+			latestActorName = actorName;
+			latestTargetId = targetId;
+		}
+
+		// 실패한 그룹에 그 사이 새로 모인 알림을 이어 붙임 (이어 붙인 뒤에도 가장 최근 행위자가 마지막)
+		private PendingGroup absorb(PendingGroup newer) {
+			newer.actorNames.forEach(actorName -> add(actorName, newer.latestTargetId));
+			latestActorName = newer.latestActorName;
+			latestTargetId = newer.latestTargetId;
+			return this;
+		}
+	}
+
+	/**
+	 * 알림을 그룹에 추가 (저장 / 전송은 구간이 끝난 뒤 flush 에서 처리)
+	 * @param action 행위자 이름 뒤에 붙는 메시지 (ex. "당신의 게시물에 좋아요를 눌렀습니다.")
+	 */
+	public void add(Long memberId, NotificationType type, String groupKey, Long targetId, String actorName,
+		String action) {
+		long now = System.currentTimeMillis();
+		pendingGroups.compute(new GroupKey(memberId, type, groupKey), (key, group) -> {
+			if (group == null) {
+				group = new PendingGroup(now, action);
+			}
+			group.add(actorName, targetId);
+			return group;
+		});
+	}
+
+	/**
+	 * 구간이 끝난 그룹을 알림 행에 반영하고 전송
+	 */
+	@Scheduled(fixedDelay = FLUSH_INTERVAL_MS)
+	public void flush() {
+		flush(false);
+	}
+
+	/**
+	 * 서버 종료 시 구간이 끝나지 않은 그룹까지 모두 반영
+	 */
+	@PreDestroy
+	public void flushAll() {
+		flush(true);
+	}
+
+	private void flush(boolean all) {
+		long now = System.currentTimeMillis();
+		pendingGroups.forEach((key, group) -> {
+			// 제거에 성공한 그룹에는 더 이상 추가되지 않으므로 이후 읽기는 안전
+			if ((!all && now - group.startedAt < windowMillis) || !pendingGroups.remove(key, group)) {
+				return;
+			}
+			try {
+				NotificationEntity notification = notificationService.upsertGroupedNotification(
+					key.memberId(), key.type(), key.groupKey(), group.latestTargetId,
+					group.latestActorName, List.copyOf(group.actorNames), group.action);
+				notificationService.sendNotification(key.memberId(), notification);
+			} catch (Exception e) {
+				requeue(key, group, all, e);
+			}
+		});
+	}
+
+	// 다음 flush 때 다시 저장되도록 시작 시각을 유지한 채 대기열에 되돌림
+	private void requeue(GroupKey key, PendingGroup group, boolean shuttingDown, Exception e) {
+		if (shuttingDown || ++group.attempts >= MAX_ATTEMPTS) {
+			log.error("Failed to flush notification group, dropping {} actors: {}", group.actorNames.size(), key, e);
+			return;
+		}
+		log.warn("Failed to flush notification group, retrying ({}/{}): {}", group.attempts, MAX_ATTEMPTS, key, e);
+		pendingGroups.merge(key, group, (newer, failed) -> failed.absorb(newer));
+	}
+}
@@ -4,16 +4,17 @@ import com.example.backend.content.notification.converter.NotificationConverter
 import com.example.backend.content.notification.dto.NotificationPageResponse
 import com.example.backend.content.notification.exception.NotificationErrorCode
 import com.example.backend.content.notification.exception.NotificationException
-import com.example.backend.content.notification.sse.SseConnectionPool
+import com.example.backend.content.notification.sse.SseClusterDelivery
 import com.example.backend.content.notification.type.NotificationType
 import com.example.backend.entity.NotificationEntity
 import com.example.backend.entity.NotificationRepository
 import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.beans.factory.annotation.Value
 import org.springframework.data.domain.PageRequest
 import org.springframework.data.domain.Sort
-import org.springframework.scheduling.annotation.Async
 import org.springframework.stereotype.Service
 import org.springframework.transaction.annotation.Transactional
+import java.time.Duration
 import java.time.LocalDateTime
 
 /**
@@ -24,7 +25,10 @@ import java.time.LocalDateTime
 open class NotificationService @Autowired constructor(
     private val notificationRepository: NotificationRepository,
     private val converter: NotificationConverter,
-    private val sseConnectionPool: SseConnectionPool
+    private val sseClusterDelivery: SseClusterDelivery,
+    private val unreadCounter: NotificationUnreadCounter,
+    private val actorSet: NotificationActorSet,
+    @Value("\${custom.notification.aggregation.mergeWindow:1h}") private val mergeWindow: Duration
 ) {
 
     companion object {
@@ -33,36 +37,105 @@ open class NotificationService @Autowired constructor(
     }
 
     /**
-     * 각 targetId 는
-     * Like -> postId, Follow -> senderId, Comment -> commentId
+     * 묶인 알림 저장
+     * 아직 읽지 않은 같은 그룹의 알림이 mergeWindow 안에 있으면 처음 보는 행위자 수만큼 더해 갱신하고, 없으면 새로 저장
+     * 행위자는 알림 행마다 Redis Set 으로 관리하여 여러 구간에 걸쳐 같은 행위자를 한 번만 센다 (NotificationActorSet)
+     * 갱신은 읽지 않은 경우에만 반영되는 UPDATE 로 처리하여, 조회 이후 읽음 처리된 알림을 다시 읽지 않음으로 되돌리지 않는다
+     * @param actorName 메시지에 표시할 마지막 행위자
+     * @param actorNames 이번 구간의 행위자 이름 목록
      * @author kwak
-     * @since 2025-02-11
+     * @since 2025-03-15
      */
     @Transactional
-    open fun createNotification(memberId: Long, targetId: Long, type: NotificationType, message: String): NotificationEntity {
-        // 알림 엔티티 생성 및 저장
-        val notificationEntity = NotificationEntity.create(message, memberId, type, targetId)
-        return notificationRepository.save(notificationEntity)
+    open fun upsertGroupedNotification(
+        memberId: Long,
+        type: NotificationType,
+        groupKey: String,
+        targetId: Long,
+        actorName: String,
+        actorNames: Collection<String>,
+        action: String
+    ): NotificationEntity {
+        val since = LocalDateTime.now().minus(mergeWindow)
+        val notification = notificationRepository
+            .findFirstByMemberIdAndTypeAndGroupKeyAndIsReadFalseAndModifyDateAfterOrderByIdDesc(memberId, type, groupKey, since)
+            .orElse(null)
+
+        if (notification == null) {
+            return saveGroupedNotification(memberId, type, groupKey, targetId, actorName, actorNames, action)
+        }
+
+        val totalCount = notification.actorCount + actorSet.add(notification.id, actorNames, mergeWindow)
+        val merged = notificationRepository.mergeUnread(
+            notification.id, groupMessage(actorName, totalCount, action), targetId, totalCount, LocalDateTime.now()
+        )
+        if (merged == 0) {
+            // 조회 이후 읽음 처리된 경우 새 알림으로 저장
+            return saveGroupedNotification(memberId, type, groupKey, targetId, actorName, actorNames, action)
+        }
+        return notificationRepository.findById(notification.id)
+            .orElseThrow { NotificationException(NotificationErrorCode.NOTIFICATION_NOT_FOUND) }
+    }
+
+    private fun saveGroupedNotification(
+        memberId: Long,
+        type: NotificationType,
+        groupKey: String,
+        targetId: Long,
+        actorName: String,
+        actorNames: Collection<String>,
+        action: String
+    ): NotificationEntity {
+        unreadCounter.increase(memberId)
+        val saved = notificationRepository.save(
+            NotificationEntity.createGroup(groupMessage(actorName, actorNames.size, action), memberId, type, targetId, groupKey, actorNames.size)
+        )
+        actorSet.add(saved.id, actorNames, mergeWindow)
+        return saved
+    }
 
-        // sse 로 실시간 알림 전송
-        // sseConnectionPool.sendNotification(memberId, converter.toResponse(notification, targetId))
+    // ex. A님이 ... / A님 외 37명이 ...
+    private fun groupMessage(actorName: String, actorCount: Int, action: String): String {
+        if (actorCount <= 1) {
+            return "${actorName}님이 $action"
+        }
+        return "${actorName}님 외 ${actorCount - 1}명이 $action"
     }
 
-    @Async
     open fun sendNotification(memberId: Long, notification: NotificationEntity) {
-        sseConnectionPool.sendNotification(memberId, converter.toResponse(notification, notification.targetId))
+        sseClusterDelivery.send(memberId, converter.toResponse(notification, notification.targetId))
     }
 
+    // 읽지 않은 경우에만 읽음 처리하여, 동시에 읽음 처리해도 읽지 않은 알림 수는 한 번만 줄어든다
     @Transactional
     open fun markRead(notificationId: Long, memberId: Long) {
-        val notification = notificationRepository
-            .findByIdAndMemberId(notificationId, memberId)
-            .orElseThrow { NotificationException(NotificationErrorCode.NOTIFICATION_NOT_FOUND) }
-
-        if (notification.isRead()) {
+        val updated = notificationRepository.markRead(notificationId, memberId)
+        if (updated > 0) {
+            unreadCounter.decrease(memberId, updated.toLong())
             return
         }
-        notification.markRead()
+        if (!notificationRepository.existsByIdAndMemberId(notificationId, memberId)) {
+            throw NotificationException(NotificationErrorCode.NOTIFICATION_NOT_FOUND)
+        }
+    }
+
+    /**
+     * 읽지 않은 알림을 한 번에 읽음 처리
+     * @param lastNotificationId 이 ID 이하의 알림만 읽음 처리 (null 이면 전체)
+     * @author kwak
+     * @since 2025-03-15
+     */
+    @Transactional
+    open fun markAllRead(memberId: Long, lastNotificationId: Long?) {
+        val updated = notificationRepository.markReadUpTo(memberId, lastNotificationId ?: Long.MAX_VALUE)
+        if (updated > 0) {
+            unreadCounter.decrease(memberId, updated.toLong())
+        }
+    }
+
+    // 알림 배지용 읽지 않은 알림 수 (Redis 에서 조회)
+    open fun getUnreadCount(memberId: Long): Long {
+        return unreadCounter.get(memberId)
     }
 
     @Transactional
@@ -0,0 +1,132 @@
+package com.example.backend.content.notification.service;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.backend.entity.NotificationRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회원별 읽지 않은 알림 수를 Redis 에 유지
+ * 알림 배지 조회는 Redis 만 읽고, 키가 없을 때만 DB 에서 다시 집계하여 채운다 (DB 가 원본).
+ * 증감은 키가 있을 때만 반영하고, 값이 음수가 되는 등 어긋난 경우 키를 지워 다음 조회 때 다시 집계한다.
+ *
+ * 증감마다 버전을 올리고, DB 집계 값은 집계 전에 읽은 버전이 그대로일 때만 채운다.
+ * 집계와 채우기 사이에 커밋된 증감은 키가 없어 무시되므로, 그대로 채우면 그 증감이 사라지기 때문이다.
+ * @author kwak
+ * 2025-03-15
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationUnreadCounter {
+
+	private static final String UNREAD_KEY_PREFIX = "notification:unread:";
+	private static final String VERSION_KEY_PREFIX = "notification:unread:version:";
+	// 집계 이후 어긋난 값이 남아 있을 수 있는 최대 시간
+	private static final Duration UNREAD_TTL = Duration.ofDays(1);
+
+	// KEYS[1] : 읽지 않은 알림 수 키, KEYS[2] : 버전 키, ARGV[1] : 증감, ARGV[2] : 버전 키 TTL (초)
+	private static final RedisScript<Long> INCREASE_SCRIPT = new DefaultRedisScript<>(
+		"redis.call('INCR', KEYS[2]) "
+			+ "redis.call('EXPIRE', KEYS[2], ARGV[2]) "
+			+ "if redis.call('EXISTS', KEYS[1]) == 0 then return nil end "
+			+ "local count = redis.call('INCRBY', KEYS[1], ARGV[1]) "
+			+ "if count < 0 then redis.call('DEL', KEYS[1]) end "
+			+ "return count",
+		Long.class);
+
+	// KEYS[1] : 읽지 않은 알림 수 키, KEYS[2] : 버전 키, ARGV[1] : 집계 전에 읽은 버전, ARGV[2] : 집계 값, ARGV[3] : TTL (초)
+	private static final RedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>(
+		"local version = redis.call('GET', KEYS[2]) or '0' "
+			+ "if version ~= ARGV[1] then return 0 end "
+			+ "if redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3], 'NX') then return 1 end "
+			+ "return 0",
+		Long.class);
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final NotificationRepository notificationRepository;
+
+	/**
+	 * 읽지 않은 알림 수 조회
+	 */
+	public long get(Long memberId) {
+		String key = getKey(memberId);
+		String version;
+		try {
+			List<String> values = stringRedisTemplate.opsForValue().multiGet(List.of(key, getVersionKey(memberId)));
+			String count = values != null ? values.get(0) : null;
+			if (count != null) {
+				return Long.parseLong(count);
+			}
+			version = values != null && values.get(1) != null ? values.get(1) : "0";
+		} catch (Exception e) {
+			log.warn("Failed to read unread notification count for member {}", memberId, e);
+			return notificationRepository.countByMemberIdAndIsReadFalse(memberId);
+		}
+
+		long count = notificationRepository.countByMemberIdAndIsReadFalse(memberId);
+		try {
+			// 그 사이 증감이 있었으면 채우지 않고, 다음 조회 때 다시 집계
+			stringRedisTemplate.execute(SEED_SCRIPT, List.of(key, getVersionKey(memberId)),
+				version, String.valueOf(count), String.valueOf(UNREAD_TTL.toSeconds()));
+		} catch (Exception e) {
+			log.warn("Failed to cache unread notification count for member {}", memberId, e);
+		}
+		return count;
+	}
+
+	public void increase(Long memberId) {
+		add(memberId, 1);
+	}
+
+	public void decrease(Long memberId, long count) {
+		add(memberId, -count);
+	}
+
+	// 트랜잭션 안에서 호출되면 커밋 이후에 반영하여, 롤백된 변경이 카운터에 남지 않도록 한다
+	private void add(Long memberId, long delta) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					addNow(memberId, delta);
+				}
+			});
+			return;
+		}
+		addNow(memberId, delta);
+	}
+
+	private void addNow(Long memberId, long delta) {
+		try {
+			stringRedisTemplate.execute(INCREASE_SCRIPT, List.of(getKey(memberId), getVersionKey(memberId)),
+				String.valueOf(delta), String.valueOf(UNREAD_TTL.toSeconds()));
+		} catch (Exception e) {
+			// 반영하지 못한 경우 키를 지워 다음 조회 때 DB 에서 다시 집계
+			log.warn("Failed to update unread notification count for member {}", memberId, e);
+			try {
+				stringRedisTemplate.delete(getKey(memberId));
+			} catch (Exception ignored) {
+				// Redis 장애 중이면 TTL 만료 후 다시 집계됨
+			}
+		}
+	}
+
+	private String getKey(Long memberId) {
+		return UNREAD_KEY_PREFIX + memberId;
+	}
+
+	private String getVersionKey(Long memberId) {
+		return VERSION_KEY_PREFIX + memberId;
+	}
+}
@@ -0,0 +1,165 @@
+package com.example.backend.content.notification.sse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.backend.content.notification.dto.NotificationResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 여러 서버에 걸친 SSE 알림 전송
+ * 이 서버에 연결이 있으면 바로 전송하고, 다른 서버에 연결이 있으면 해당 서버 채널로 Redis Pub/Sub 을 통해 전달한다.
+ * 다른 서버로 보낼 알림은 서버별로 모았다가 FLUSH_INTERVAL_MS 마다 한 메시지로 발행한다.
+ * @author kwak
+ * 2025-03-15
+ */
+@Component
+@Slf4j
+public class SseClusterDelivery implements MessageListener {
+
+	private static final long FLUSH_INTERVAL_MS = 50L;
+	private static final int MAX_BATCH_SIZE = 100;
+	private static final int MAX_PENDING_PER_NODE = 10_000;
+	private static final TypeReference<List<Delivery>> DELIVERY_LIST_TYPE = new TypeReference<>() {
+	};
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final SseConnectionPool sseConnectionPool;
+	private final SseNodeRegistry sseNodeRegistry;
+	private final SseReplayBuffer sseReplayBuffer;
+	private final SseDispatcher sseDispatcher;
+	private final ObjectMapper objectMapper;
+
+	// 서버 ID -> 발행 대기 중인 알림 (서버 수만큼만 생기므로 비워진 큐도 제거하지 않음)
+	private final Map<String, BlockingQueue<Delivery>> outboxes = new ConcurrentHashMap<>();
+
+	record Delivery(Long memberId, Long eventId, NotificationResponse notification) {
+	}
+
+	public SseClusterDelivery(
+		StringRedisTemplate stringRedisTemplate,
+		SseConnectionPool sseConnectionPool,
+		SseNodeRegistry sseNodeRegistry,
+		SseReplayBuffer sseReplayBuffer,
+		SseDispatcher sseDispatcher,
+		ObjectMapper objectMapper,
+		RedisMessageListenerContainer redisMessageListenerContainer
+	) {
+		this.stringRedisTemplate = stringRedisTemplate;
+		this.sseConnectionPool = sseConnectionPool;
+		this.sseNodeRegistry = sseNodeRegistry;
+		this.sseReplayBuffer = sseReplayBuffer;
+		this.sseDispatcher = sseDispatcher;
+		this.objectMapper = objectMapper;
+		redisMessageListenerContainer.addMessageListener(this,
+			new ChannelTopic(sseNodeRegistry.getChannel(sseNodeRegistry.getNodeId())));
+	}
+
+	public void send(Long memberId, NotificationResponse response) {
+		Long eventId = sseReplayBuffer.append(memberId, response);
+		sseConnectionPool.sendNotification(memberId, eventId, response);
+
+		Set<String> nodes;
+		try {
+			nodes = sseNodeRegistry.findNodes(memberId.toString());
+		} catch (Exception e) {
+			log.warn("Failed to look up sse nodes for user {}", memberId, e);
+			return;
+		}
+
+		for (String nodeId : nodes) {
+			if (nodeId.equals(sseNodeRegistry.getNodeId())) {
+				continue;
+			}
+			BlockingQueue<Delivery> outbox = outboxes.computeIfAbsent(nodeId,
+				id -> new LinkedBlockingQueue<>(MAX_PENDING_PER_NODE));
+			if (!outbox.offer(new Delivery(memberId, eventId, response))) {
+				log.warn("Sse outbox for node {} is full, dropping notification for user {}", nodeId, memberId);
+			}
+		}
+	}
+
+	/**
+	 * 서버별로 모인 알림을 MAX_BATCH_SIZE 씩 묶어서 발행
+	 */
+	@Scheduled(fixedDelay = FLUSH_INTERVAL_MS)
+	public void flush() {
+		outboxes.forEach((nodeId, outbox) -> {
+			List<Delivery> batch = new ArrayList<>(MAX_BATCH_SIZE);
+			while (outbox.drainTo(batch, MAX_BATCH_SIZE) > 0) {
+				try {
+					stringRedisTemplate.convertAndSend(sseNodeRegistry.getChannel(nodeId),
+						objectMapper.writeValueAsString(batch));
+				} catch (Exception e) {
+					// 대상 서버의 연결이 끊겼을 수 있으므로 재시도하지 않음 (알림은 목록에서 조회 가능)
+					log.error("Failed to publish {} notifications to node {}", batch.size(), nodeId, e);
+				}
+				batch.clear();
+			}
+		});
+	}
+
+	/**
+	 * 다른 서버에서 이 서버로 보낸 알림 수신
+	 * 연결별 전송 대기 큐에 순서대로 쌓이므로 같은 연결로 가는 알림은 한 번에 전송된다.
+	 */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		try {
+			List<Delivery> deliveries = objectMapper.readValue(
+				new String(message.getBody(), StandardCharsets.UTF_8), DELIVERY_LIST_TYPE);
+			deliveries.forEach(delivery -> {
+				if (delivery.eventId() != null) {
+					sseReplayBuffer.remember(delivery.memberId(), delivery.eventId(), delivery.notification());
+				}
+				sseConnectionPool.sendNotification(delivery.memberId(), delivery.eventId(), delivery.notification());
+			});
+		} catch (Exception e) {
+			log.warn("잘못된 SSE 알림 메시지: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 재연결한 클라이언트에 Last-Event-ID 이후 놓친 알림을 다시 전송
+	 * 연결은 재전송 중 상태로 만들어져 있어야 하며 (SseConnection.connect), 재전송이 끝나면 모아둔 새 알림을 이어서 보낸다.
+	 * @param lastEventId 클라이언트가 마지막으로 받은 이벤트 ID (없거나 잘못된 값이면 재전송하지 않음)
+	 */
+	public void replay(SseConnection connection, String lastEventId) {
+		long replayedUpTo = Long.MIN_VALUE;
+		try {
+			if (lastEventId == null || lastEventId.isBlank()) {
+				return;
+			}
+			replayedUpTo = Long.parseLong(lastEventId.trim());
+			List<SseReplayBuffer.ReplayEvent> events = sseReplayBuffer.findAfter(
+				Long.valueOf(connection.getUniqueKey()), replayedUpTo);
+			for (SseReplayBuffer.ReplayEvent event : events) {
+				sseDispatcher.dispatchReplayed(connection, event.id(), "message", event.notification());
+				replayedUpTo = Math.max(replayedUpTo, event.id());
+			}
+		} catch (NumberFormatException e) {
+			log.debug("Ignoring invalid Last-Event-ID: {}", lastEventId);
+		} catch (Exception e) {
+			log.warn("Failed to replay sse events for user {}", connection.getUniqueKey(), e);
+		} finally {
+			sseDispatcher.finishReplay(connection, replayedUpTo);
+		}
+	}
+}
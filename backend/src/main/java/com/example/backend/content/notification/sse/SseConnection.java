@@ -1,9 +1,16 @@
 package com.example.backend.content.notification.sse;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -22,6 +29,40 @@ public class SseConnection {
 
 	private static final Long DEFAULT_MINUTE = 1000L * 30 * 5;
 
+	// 전송 대기 중인 메시지 (SseDispatcher 가 순서대로 전송)
+	@Getter(AccessLevel.NONE)
+	private final Deque<OutboundMessage> outbound = new ArrayDeque<>();
+	// 재전송할 메시지 (outbound 보다 먼저 전송하며, 크기 제한 / 느린 연결 판단에서 제외)
+	@Getter(AccessLevel.NONE)
+	private final Deque<OutboundMessage> replayOutbound = new ArrayDeque<>();
+	@Getter(AccessLevel.NONE)
+	private final AtomicBoolean draining = new AtomicBoolean();
+	// 느린 연결로 판단되어 종료 중이면 true (이후 메시지는 받지 않음)
+	@Getter(AccessLevel.NONE)
+	private final AtomicBoolean evicted = new AtomicBoolean();
+	// 큐가 가득 차서 연속으로 버려진 메시지 수
+	@Getter(AccessLevel.NONE)
+	private int droppedInRow;
+
+	// 하트비트 타이머 휠에서 이 연결이 속한 슬롯 (-1 : 등록되지 않음)
+	@Getter(AccessLevel.NONE)
+	private final AtomicInteger heartbeatSlot = new AtomicInteger(-1);
+	// 마지막으로 전송에 성공한 시간
+	@Getter(AccessLevel.NONE)
+	private volatile long lastSentAt;
+	// 재전송 중에 들어온 알림 (재전송이 끝난 뒤 이미 재전송한 ID 를 제외하고 보냄, null : 재전송 중 아님)
+	@Getter(AccessLevel.NONE)
+	private List<OutboundMessage> heldDuringReplay;
+
+	// eventName 이 null 이면 하트비트 (comment frame)
+	record OutboundMessage(Long eventId, String eventName, Object data) {
+		static final OutboundMessage HEARTBEAT = new OutboundMessage(null, null, null);
+
+		boolean isHeartbeat() {
+			return eventName == null;
+		}
+	}
+
 	private SseConnection(
 		String uniqueKey,
 		String browserName,
@@ -46,24 +87,156 @@ public class SseConnection {
 		String userId,
 		String browserName,
 		SseConnectionPoolIfs<SseConnection> sseConnectionPoolIfs
+	) {
+		return connect(userId, browserName, sseConnectionPoolIfs, false);
+	}
+
+	/**
+	 * @param replaying 재연결하여 놓친 알림을 재전송할 연결이면 true
+	 *                  재전송이 끝날 때까지 (SseDispatcher.finishReplay) 새 알림은 보내지 않고 모아둔다
+	 */
+	public static SseConnection connect(
+		String userId,
+		String browserName,
+		SseConnectionPoolIfs<SseConnection> sseConnectionPoolIfs,
+		boolean replaying
 	) {
 		SseConnection connection = new SseConnection(userId, browserName, sseConnectionPoolIfs);
+		if (replaying) {
+			connection.heldDuringReplay = new ArrayList<>();
+		}
 		sseConnectionPoolIfs.add(userId, browserName, connection);
 		return connection;
 	}
 
-	public void sendMessage(String eventName, Object data) {
+	public boolean sendMessage(String eventName, Object data) {
+		return sendMessage(null, eventName, data);
+	}
+
+	// eventId 는 재연결 시 Last-Event-ID 로 돌아와 놓친 이벤트를 다시 보내는 데 사용
+	public boolean sendMessage(Long eventId, String eventName, Object data) {
 		try {
 
 			SseEmitter.SseEventBuilder event = SseEmitter.event()
 				.name(eventName) // 이벤트 이름 설정
 				.data(data); // 전송할 데이터 설정
+			if (eventId != null) {
+				event.id(String.valueOf(eventId));
+			}
 			this.sseEmitter.send(event);
-			log.info("Message sent successfully: {}", eventName);
+			this.lastSentAt = System.currentTimeMillis();
+			log.debug("Message sent successfully: {}", eventName);
+			return true;
 
 		} catch (Exception e) {
 			log.error("Message sent failed: {}", eventName);
 			sseEmitter.completeWithError(e);
+			return false;
+		}
+	}
+
+	// 프록시가 유휴 연결을 끊지 않도록 이벤트가 아닌 comment frame 전송
+	public boolean sendHeartbeat() {
+		try {
+			this.sseEmitter.send(SseEmitter.event().comment("heartbeat"));
+			this.lastSentAt = System.currentTimeMillis();
+			return true;
+		} catch (Exception e) {
+			log.debug("Heartbeat failed for user {} browser {}", uniqueKey, browserName);
+			sseEmitter.completeWithError(e);
+			return false;
+		}
+	}
+
+	long getLastSentAt() {
+		return lastSentAt;
+	}
+
+	AtomicInteger getHeartbeatSlot() {
+		return heartbeatSlot;
+	}
+
+	// 재전송 중이면 메시지를 모아두고 true 반환
+	synchronized boolean holdIfReplaying(OutboundMessage message) {
+		if (heldDuringReplay == null) {
+			return false;
+		}
+		heldDuringReplay.add(message);
+		return true;
+	}
+
+	// 재전송을 끝내고 그동안 모아둔 메시지 반환
+	synchronized List<OutboundMessage> finishReplay() {
+		List<OutboundMessage> held = heldDuringReplay;
+		heldDuringReplay = null;
+		return held != null ? held : List.of();
+	}
+
+	/**
+	 * 전송 대기 큐에 메시지 추가, 가득 찬 경우 가장 오래된 메시지를 버림
+	 * @return 메시지를 버렸으면 true
+	 */
+	synchronized boolean offer(OutboundMessage message, int capacity) {
+		boolean dropped = false;
+		if (outbound.size() >= capacity) {
+			outbound.pollFirst();
+			droppedInRow++;
+			dropped = true;
+		}
+		outbound.offerLast(message);
+		return dropped;
+	}
+
+	/**
+	 * 재전송할 메시지 추가 (재전송 목록은 SseReplayBuffer 크기로 제한되므로 버리지 않음)
+	 */
+	synchronized void offerReplayed(OutboundMessage message) {
+		replayOutbound.offerLast(message);
+	}
+
+	synchronized OutboundMessage poll() {
+		OutboundMessage replayed = replayOutbound.pollFirst();
+		if (replayed != null) {
+			return replayed;
 		}
+		OutboundMessage message = outbound.pollFirst();
+		if (message != null) {
+			droppedInRow = 0;
+		}
+		return message;
+	}
+
+	// 대기 중인 메시지를 모두 버리고 버린 개수 반환
+	synchronized int clearOutbound() {
+		int size = replayOutbound.size() + outbound.size();
+		replayOutbound.clear();
+		outbound.clear();
+		return size;
+	}
+
+	synchronized boolean hasOutbound() {
+		return !replayOutbound.isEmpty() || !outbound.isEmpty();
+	}
+
+	synchronized int getDroppedInRow() {
+		return droppedInRow;
+	}
+
+	// 전송 담당 스레드가 없을 때만 true (한 연결은 한 스레드만 전송)
+	boolean startDraining() {
+		return draining.compareAndSet(false, true);
+	}
+
+	void stopDraining() {
+		draining.set(false);
+	}
+
+	// 처음 종료 처리하는 경우에만 true
+	boolean markEvicted() {
+		return evicted.compareAndSet(false, true);
+	}
+
+	boolean isEvicted() {
+		return evicted.get();
 	}
 }
@@ -2,11 +2,13 @@ package com.example.backend.content.notification.sse;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.springframework.stereotype.Component;
 
 import com.example.backend.content.notification.dto.NotificationResponse;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -17,21 +19,35 @@ import lombok.extern.slf4j.Slf4j;
  */
 @Component
 @Slf4j
+@RequiredArgsConstructor
 public class SseConnectionPool implements SseConnectionPoolIfs<SseConnection> {
 
 	private final Map<String, Map<String, SseConnection>> connectionPool = new ConcurrentHashMap<>();
+	private final SseDispatcher sseDispatcher;
+	private final SseNodeRegistry sseNodeRegistry;
+	private final SseHeartbeatScheduler sseHeartbeatScheduler;
 
 	// key 가 존재하면 기존의 sse connection 을 닫아주고 새로 생성
 	// key 가 존재하지 않으면 새 connection 생성
+	// 연결 추가와 서버 등록은 remove 와 같은 key 단위로 원자적으로 처리하여, 마지막 연결 제거와 겹쳐도 등록이 빠지지 않도록 함
 	@Override
 	public void add(String key, String browserName, SseConnection connection) {
-		Map<String, SseConnection> browserConnections = connectionPool.computeIfAbsent(key,
-			k -> new ConcurrentHashMap<>());
+		AtomicReference<SseConnection> replaced = new AtomicReference<>();
+		connectionPool.compute(key, (k, browserConnections) -> {
+			if (browserConnections == null) {
+				browserConnections = new ConcurrentHashMap<>();
+			}
+			// 기존에 존재하는 key 면 oldConnection 반환
+			replaced.set(browserConnections.put(browserName, connection));
+			sseNodeRegistry.register(k);
+			return browserConnections;
+		});
 
-		// 기존에 존재하는 key 면 oldConnection 반환
-		SseConnection oldConnection = browserConnections.put(browserName, connection);
+		SseConnection oldConnection = replaced.get();
+		sseHeartbeatScheduler.schedule(connection, oldConnection != null);
 
 		if (oldConnection != null) {
+			sseHeartbeatScheduler.cancel(oldConnection);
 			try {
 				oldConnection.getSseEmitter().complete();
 			} catch (Exception e) {
@@ -47,43 +63,31 @@ public class SseConnectionPool implements SseConnectionPoolIfs<SseConnection> {
 
 	@Override
 	public void remove(SseConnection session) {
-		Map<String, SseConnection> browserConnections = connectionPool.get(session.getUniqueKey());
-		// connection 이 있으면 해당 connection 을 제거 , 없으면 key 로 제거
-		if (browserConnections != null) {
-			browserConnections.remove(session.getBrowserName());
-			if (browserConnections.isEmpty()) {
-				connectionPool.remove(session.getUniqueKey());
+		sseHeartbeatScheduler.cancel(session);
+		// connection 이 있으면 해당 connection 을 제거 , 마지막 connection 이면 key 도 제거
+		// 같은 브라우저로 새로 연결된 경우 새 connection 은 제거하지 않음
+		connectionPool.computeIfPresent(session.getUniqueKey(), (k, browserConnections) -> {
+			browserConnections.remove(session.getBrowserName(), session);
+			if (!browserConnections.isEmpty()) {
+				return browserConnections;
 			}
-		}
+			sseNodeRegistry.unregister(k);
+			return null;
+		});
 	}
 
-	// 연결이 여러 곳에서 되어 있을 경우 연결마다 알림을 전송 처리
-	public void sendNotification(Long userId, NotificationResponse response) {
+	// 이 서버에 연결이 여러 곳에서 되어 있을 경우 연결마다 알림을 전송 처리
+	// 실제 전송은 SseDispatcher 가 연결별로 처리하므로 호출 스레드는 막히지 않음
+	// 다른 서버의 연결로는 SseClusterDelivery 가 전달
+	public boolean sendNotification(Long userId, Long eventId, NotificationResponse response) {
 		Map<String, SseConnection> browserConnections = get(userId.toString());
 
 		if (browserConnections == null || browserConnections.isEmpty()) {
-			log.info("No active connection for user: {}", userId);
-			return;
-			// todo 추후 상대방이 접속하지 않았을 시 알림 목록으로 보냄
+			log.debug("No local connection for user: {}", userId);
+			return false;
 		}
 		browserConnections.forEach((browserName, sseConnection) ->
-			sseConnection.sendMessage("message", response));
-
+			sseDispatcher.dispatch(sseConnection, eventId, "message", response));
+		return true;
 	}
-
-	/*@Scheduled(fixedRate = 20000)
-	public void sendHeartbeat() {
-		connectionPool.forEach((key, connections) -> {
-			connections.forEach((browserName, connection) -> {
-				try {
-					connection.sendMessage("heartbeat", "thump");
-					log.info("Sending heartbeat for user {} browser {} connection {}", key, browserName, connection);
-				} catch (Exception e) {
-					log.info("Falid to send heartbeat = {}", key, e);
-					remove(connection);
-				}
-			});
-		});
-	}*/
-
 }
@@ -0,0 +1,184 @@
+package com.example.backend.content.notification.sse;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.backend.content.notification.sse.SseConnection.OutboundMessage;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * SSE 메시지 전송 담당
+ * 연결마다 크기가 제한된 전송 대기 큐를 두고, 가상 스레드가 큐를 비울 때까지 순서대로 전송한다.
+ * 호출하는 스레드는 큐에 넣기만 하므로 응답이 느린 클라이언트 때문에 막히지 않는다.
+ *
+ * 큐가 가득 차면 가장 오래된 메시지를 버리고, 큐 크기만큼 연속으로 버려지면 느린 연결로 보고 연결을 끊는다.
+ * 재연결 시 재전송하는 메시지는 별도 큐에 넣어 먼저 보내며, 크기 제한을 적용하지 않는다.
+ * 클라이언트는 재연결 후 알림 목록에서 놓친 알림을 확인할 수 있다.
+ * @author kwak
+ * 2025-03-15
+ */
+@Component
+@Slf4j
+public class SseDispatcher {
+
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+	private final int queueCapacity;
+
+	// 모든 연결의 전송 대기 메시지 수
+	private final AtomicLong queuedMessages = new AtomicLong();
+	private final Timer sendTimer;
+	private final Counter droppedCounter;
+	private final Counter evictedCounter;
+	private final Counter reapedCounter;
+
+	public SseDispatcher(
+		MeterRegistry meterRegistry,
+		@Value("${custom.notification.sse.queueCapacity:32}") int queueCapacity
+	) {
+		this.queueCapacity = queueCapacity;
+		Gauge.builder("notification.sse.queue.depth", queuedMessages, AtomicLong::get).register(meterRegistry);
+		this.sendTimer = Timer.builder("notification.sse.send").register(meterRegistry);
+		this.droppedCounter = meterRegistry.counter("notification.sse.dropped");
+		this.evictedCounter = meterRegistry.counter("notification.sse.evicted");
+		this.reapedCounter = meterRegistry.counter("notification.sse.reaped");
+	}
+
+	/**
+	 * 연결의 전송 대기 큐에 메시지를 넣고, 전송 중인 스레드가 없으면 새로 시작
+	 */
+	public void dispatch(SseConnection connection, Long eventId, String eventName, Object data) {
+		OutboundMessage message = new OutboundMessage(eventId, eventName, data);
+		if (connection.holdIfReplaying(message)) {
+			return;
+		}
+		dispatch(connection, message);
+	}
+
+	/**
+	 * 재연결 시 놓친 알림을 재전송 (재전송 중에 모아둔 새 알림보다 먼저 보냄)
+	 * 재전송 목록은 한 번에 큐 크기보다 많이 들어오므로, 큐 크기 제한과 느린 연결 판단에서 제외한다.
+	 */
+	public void dispatchReplayed(SseConnection connection, long eventId, String eventName, Object data) {
+		if (connection.isEvicted()) {
+			return;
+		}
+		connection.offerReplayed(new OutboundMessage(eventId, eventName, data));
+		queuedMessages.incrementAndGet();
+		if (connection.startDraining()) {
+			executor.execute(() -> drain(connection));
+		}
+	}
+
+	/**
+	 * 재전송을 끝내고, 재전송 중에 들어온 알림 중 이미 재전송한 ID 이후의 알림만 이어서 전송
+	 * 연결을 잠근 상태에서 처리하므로 그 사이 새로 들어온 알림이 먼저 전송되지 않는다.
+	 * @param replayedUpTo 재전송한 마지막 이벤트 ID
+	 */
+	public void finishReplay(SseConnection connection, long replayedUpTo) {
+		synchronized (connection) {
+			for (OutboundMessage message : connection.finishReplay()) {
+				if (message.eventId() == null || message.eventId() > replayedUpTo) {
+					dispatch(connection, message);
+				}
+			}
+		}
+	}
+
+	/**
+	 * 하트비트 전송 요청, 전송 대기 중인 메시지가 있으면 그 메시지로 대신함
+	 */
+	public void heartbeat(SseConnection connection) {
+		if (connection.hasOutbound()) {
+			return;
+		}
+		dispatch(connection, OutboundMessage.HEARTBEAT);
+	}
+
+	private void dispatch(SseConnection connection, OutboundMessage message) {
+		if (connection.isEvicted()) {
+			return;
+		}
+		if (connection.offer(message, queueCapacity)) {
+			droppedCounter.increment();
+			if (connection.getDroppedInRow() >= queueCapacity) {
+				evict(connection);
+				return;
+			}
+		} else {
+			queuedMessages.incrementAndGet();
+		}
+
+		if (connection.startDraining()) {
+			executor.execute(() -> drain(connection));
+		}
+	}
+
+	private void drain(SseConnection connection) {
+		do {
+			OutboundMessage message;
+			while ((message = connection.poll()) != null) {
+				queuedMessages.decrementAndGet();
+
+				long startedAt = System.nanoTime();
+				boolean sent = message.isHeartbeat()
+					? connection.sendHeartbeat()
+					: connection.sendMessage(message.eventId(), message.eventName(), message.data());
+				sendTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+
+				// 쓰기에 실패한 연결은 끊어진 연결이므로 남은 메시지를 버리고 바로 제거
+				if (!sent) {
+					reap(connection);
+					break;
+				}
+			}
+			connection.stopDraining();
+			// 전송 종료 직전에 추가된 메시지가 있으면 다시 전송
+		} while (connection.hasOutbound() && connection.startDraining());
+	}
+
+	private void reap(SseConnection connection) {
+		queuedMessages.addAndGet(-connection.clearOutbound());
+		reapedCounter.increment();
+		connection.getSseConnectionPoolIfs().remove(connection);
+	}
+
+	/**
+	 * 느린 연결 종료
+	 * 전송 중인 스레드가 emitter 의 쓰기 잠금을 잡고 멈춰 있을 수 있어 complete() 는 별도 가상 스레드에서 호출한다.
+	 * 호출한 스레드 (알림 flush, Pub/Sub 수신 등) 는 큐만 비우고 바로 돌아간다.
+	 */
+	private void evict(SseConnection connection) {
+		if (!connection.markEvicted()) {
+			return;
+		}
+		queuedMessages.addAndGet(-connection.clearOutbound());
+		evictedCounter.increment();
+		log.info("Evicting slow sse connection for user {} browser {}",
+			connection.getUniqueKey(), connection.getBrowserName());
+
+		connection.getSseConnectionPoolIfs().remove(connection);
+		executor.execute(() -> {
+			try {
+				connection.getSseEmitter().complete();
+			} catch (Exception e) {
+				log.debug("Error closing slow connection for user {}", connection.getUniqueKey(), e);
+			}
+		});
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+}
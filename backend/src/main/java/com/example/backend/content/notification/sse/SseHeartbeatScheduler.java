@@ -0,0 +1,100 @@
+package com.example.backend.content.notification.sse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * SSE 연결 하트비트 스케줄러 (hashed timing wheel)
+ * 하트비트 주기를 TICK_MS 단위 슬롯으로 나누고, 연결은 등록 시점의 슬롯 하나에만 들어간다.
+ * 매 tick 마다 슬롯 하나의 연결들에만 하트비트를 보내므로 연결 수와 관계없이 등록 / 해제는 O(1) 이고,
+ * 한 연결은 휠이 한 바퀴 돌 때마다 (= 하트비트 주기) 한 번씩 확인된다.
+ *
+ * 하트비트 쓰기에 실패한 연결은 SseDispatcher 가 바로 제거하므로 SseEmitter 타임아웃까지 남아 있지 않는다.
+ * 주기 안에 다른 메시지를 보낸 연결은 하트비트를 생략한다.
+ * @author kwak
+ * 2025-03-15
+ */
+@Component
+public class SseHeartbeatScheduler {
+
+	private static final long TICK_MS = 1000L;
+
+	private final SseDispatcher sseDispatcher;
+	private final long intervalMillis;
+	private final List<Set<SseConnection>> wheel;
+	private final AtomicLong tick = new AtomicLong();
+
+	private final AtomicInteger liveConnections = new AtomicInteger();
+	private final Counter reconnectedCounter;
+
+	public SseHeartbeatScheduler(
+		SseDispatcher sseDispatcher,
+		MeterRegistry meterRegistry,
+		@Value("${custom.notification.sse.heartbeatInterval:20s}") Duration interval
+	) {
+		this.sseDispatcher = sseDispatcher;
+		this.intervalMillis = interval.toMillis();
+
+		int wheelSize = (int)Math.max(1, (intervalMillis + TICK_MS - 1) / TICK_MS);
+		this.wheel = new ArrayList<>(wheelSize);
+		for (int i = 0; i < wheelSize; i++) {
+			wheel.add(ConcurrentHashMap.newKeySet());
+		}
+
+		Gauge.builder("notification.sse.live", liveConnections, AtomicInteger::get).register(meterRegistry);
+		this.reconnectedCounter = meterRegistry.counter("notification.sse.reconnected");
+	}
+
+	/**
+	 * 연결을 하트비트 대상으로 등록
+	 * 방금 확인한 슬롯에 넣어서 휠이 한 바퀴 돈 뒤 처음 확인되도록 한다.
+	 * @param reconnected 같은 브라우저의 기존 연결을 대체한 경우 true
+	 */
+	public void schedule(SseConnection connection, boolean reconnected) {
+		int slot = (int)Math.floorMod(tick.get() - 1, (long)wheel.size());
+		if (!connection.getHeartbeatSlot().compareAndSet(-1, slot)) {
+			return;
+		}
+		wheel.get(slot).add(connection);
+		liveConnections.incrementAndGet();
+		if (reconnected) {
+			reconnectedCounter.increment();
+		}
+	}
+
+	public void cancel(SseConnection connection) {
+		int slot = connection.getHeartbeatSlot().getAndSet(-1);
+		if (slot < 0) {
+			return;
+		}
+		wheel.get(slot).remove(connection);
+		liveConnections.decrementAndGet();
+	}
+
+	/**
+	 * 현재 슬롯의 연결에 하트비트 전송 (전송은 SseDispatcher 가 연결별로 처리)
+	 */
+	@Scheduled(fixedRate = TICK_MS)
+	public void tick() {
+		int slot = (int)Math.floorMod(tick.getAndIncrement(), (long)wheel.size());
+		long sendBefore = System.currentTimeMillis() - intervalMillis + TICK_MS;
+		for (SseConnection connection : wheel.get(slot)) {
+			if (connection.getLastSentAt() < sendBefore) {
+				sseDispatcher.heartbeat(connection);
+			}
+		}
+	}
+}
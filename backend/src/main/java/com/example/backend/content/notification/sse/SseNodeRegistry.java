@@ -0,0 +1,120 @@
+package com.example.backend.content.notification.sse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자별로 SSE 연결을 가진 서버 목록을 Redis 에 기록
+ * 사용자마다 sorted set (member : 서버 ID, score : 마지막 갱신 시간) 을 두고,
+ * 연결을 가진 서버가 주기적으로 갱신한다. PRESENCE_TTL 동안 갱신되지 않은 서버는 종료된 것으로 보고 무시한다.
+ * @author kwak
+ * 2025-03-15
+ */
+@Component
+@Slf4j
+public class SseNodeRegistry {
+
+	private static final String NODES_KEY_PREFIX = "notification:sse:nodes:";
+	private static final String CHANNEL_PREFIX = "notification:sse:node:";
+	private static final Duration PRESENCE_TTL = Duration.ofMinutes(3);
+	private static final long REFRESH_INTERVAL_MS = 60_000L;
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final String nodeId = UUID.randomUUID().toString();
+
+	// 이 서버에 연결이 있는 사용자
+	private final Set<String> localUsers = ConcurrentHashMap.newKeySet();
+
+	public SseNodeRegistry(StringRedisTemplate stringRedisTemplate) {
+		this.stringRedisTemplate = stringRedisTemplate;
+	}
+
+	public String getNodeId() {
+		return nodeId;
+	}
+
+	// 서버별 알림 수신 채널
+	public String getChannel(String nodeId) {
+		return CHANNEL_PREFIX + nodeId;
+	}
+
+	// 기록에 실패해도 다음 갱신 주기에 다시 기록되므로 연결은 그대로 유지
+	public void register(String userId) {
+		if (!localUsers.add(userId)) {
+			return;
+		}
+		try {
+			String key = NODES_KEY_PREFIX + userId;
+			stringRedisTemplate.opsForZSet().add(key, nodeId, System.currentTimeMillis());
+			stringRedisTemplate.expire(key, PRESENCE_TTL);
+		} catch (Exception e) {
+			log.warn("Failed to register sse node for user {}", userId, e);
+		}
+	}
+
+	public void unregister(String userId) {
+		if (!localUsers.remove(userId)) {
+			return;
+		}
+		try {
+			stringRedisTemplate.opsForZSet().remove(NODES_KEY_PREFIX + userId, nodeId);
+		} catch (Exception e) {
+			log.warn("Failed to unregister sse node for user {}", userId, e);
+		}
+	}
+
+	/**
+	 * 사용자의 연결을 가진 서버 ID 조회 (PRESENCE_TTL 안에 갱신된 서버만)
+	 */
+	public Set<String> findNodes(String userId) {
+		long aliveSince = System.currentTimeMillis() - PRESENCE_TTL.toMillis();
+		Set<String> nodes = stringRedisTemplate.opsForZSet()
+			.rangeByScore(NODES_KEY_PREFIX + userId, aliveSince, Double.POSITIVE_INFINITY);
+		return nodes != null ? nodes : Set.of();
+	}
+
+	/**
+	 * 이 서버에 연결된 사용자들의 기록을 한 번에 갱신하고, 갱신이 끊긴 다른 서버 기록을 정리
+	 */
+	@Scheduled(fixedDelay = REFRESH_INTERVAL_MS)
+	public void refresh() {
+		List<String> userIds = List.copyOf(localUsers);
+		if (userIds.isEmpty()) {
+			return;
+		}
+
+		long now = System.currentTimeMillis();
+		long ttlSeconds = PRESENCE_TTL.toSeconds();
+		try {
+			stringRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+				StringRedisConnection stringConnection = (StringRedisConnection)connection;
+				for (String userId : userIds) {
+					String key = NODES_KEY_PREFIX + userId;
+					stringConnection.zAdd(key, now, nodeId);
+					stringConnection.zRemRangeByScore(key, 0, now - PRESENCE_TTL.toMillis());
+					stringConnection.expire(key, ttlSeconds);
+				}
+				return null;
+			});
+		} catch (Exception e) {
+			log.warn("Failed to refresh sse node registry", e);
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		List.copyOf(localUsers).forEach(this::unregister);
+	}
+}
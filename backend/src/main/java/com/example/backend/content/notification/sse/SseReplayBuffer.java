@@ -0,0 +1,175 @@
+package com.example.backend.content.notification.sse;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.example.backend.content.notification.dto.NotificationResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자별 최근 SSE 이벤트를 보관하여 재연결 시 Last-Event-ID 이후의 이벤트만 다시 보내기 위한 버퍼
+ * 이벤트 ID 는 사용자별 Redis 카운터로 발급하여 서버가 달라도 단조 증가한다.
+ * 최근 CAPACITY 개의 이벤트를 Redis 리스트(서버 공용) 와 로컬 캐시(이 서버에서 전송한 이벤트) 에 함께 보관하고,
+ * 로컬 캐시가 빠짐없이 최신 이벤트까지 가지고 있으면 Redis 리스트는 읽지 않는다.
+ * @author kwak
+ * 2025-03-15
+ */
+@Component
+@Slf4j
+public class SseReplayBuffer {
+
+	static final int CAPACITY = 100;
+	private static final Duration EVENTS_TTL = Duration.ofDays(1);
+	private static final long LOCAL_MAX_USERS = 100_000L;
+	private static final Duration LOCAL_TTL = Duration.ofHours(1);
+
+	private static final String SEQUENCE_KEY_PREFIX = "notification:sse:seq:";
+	private static final String EVENTS_KEY_PREFIX = "notification:sse:events:";
+
+	// 이벤트 ID 발급과 리스트 추가를 한 번에 처리 (리스트 항목 : "이벤트 ID:JSON")
+	private static final RedisScript<Long> APPEND_SCRIPT = new DefaultRedisScript<>(
+		"local id = redis.call('INCR', KEYS[1]) "
+			+ "redis.call('LPUSH', KEYS[2], id .. ':' .. ARGV[1]) "
+			+ "redis.call('LTRIM', KEYS[2], 0, tonumber(ARGV[2]) - 1) "
+			+ "redis.call('EXPIRE', KEYS[2], ARGV[3]) "
+			+ "return id",
+		Long.class);
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final ObjectMapper objectMapper;
+
+	// 사용자 ID -> 이 서버에서 전송한 최근 이벤트 (ID 오름차순)
+	private final Cache<String, Deque<ReplayEvent>> localEvents = Caffeine.newBuilder()
+		.maximumSize(LOCAL_MAX_USERS)
+		.expireAfterAccess(LOCAL_TTL)
+		.build();
+
+	public record ReplayEvent(long id, NotificationResponse notification) {
+	}
+
+	public SseReplayBuffer(StringRedisTemplate stringRedisTemplate, ObjectMapper objectMapper) {
+		this.stringRedisTemplate = stringRedisTemplate;
+		this.objectMapper = objectMapper;
+	}
+
+	/**
+	 * 이벤트 ID 를 발급하고 이벤트를 보관
+	 * @return 이벤트 ID (Redis 오류 시 null, 이 경우 재연결 시 다시 보내지 않음)
+	 */
+	public Long append(Long memberId, NotificationResponse notification) {
+		try {
+			Long eventId = stringRedisTemplate.execute(APPEND_SCRIPT,
+				List.of(SEQUENCE_KEY_PREFIX + memberId, EVENTS_KEY_PREFIX + memberId),
+				objectMapper.writeValueAsString(notification),
+				String.valueOf(CAPACITY),
+				String.valueOf(EVENTS_TTL.toSeconds()));
+			if (eventId != null) {
+				remember(memberId, eventId, notification);
+			}
+			return eventId;
+		} catch (Exception e) {
+			log.warn("Failed to append sse replay event for user {}", memberId, e);
+			return null;
+		}
+	}
+
+	/**
+	 * 다른 서버에서 발급한 이벤트를 로컬 캐시에만 보관
+	 */
+	public void remember(Long memberId, long eventId, NotificationResponse notification) {
+		Deque<ReplayEvent> events = localEvents.get(memberId.toString(), key -> new ArrayDeque<>());
+		synchronized (events) {
+			// 서버 간 전달 순서가 바뀐 경우 ID 순서를 유지하기 위해 뒤에서부터 위치를 찾는다
+			List<ReplayEvent> newer = new ArrayList<>();
+			while (!events.isEmpty() && events.peekLast().id() > eventId) {
+				newer.add(events.pollLast());
+			}
+			if (events.isEmpty() || events.peekLast().id() != eventId) {
+				events.offerLast(new ReplayEvent(eventId, notification));
+			}
+			for (int i = newer.size() - 1; i >= 0; i--) {
+				events.offerLast(newer.get(i));
+			}
+			while (events.size() > CAPACITY) {
+				events.pollFirst();
+			}
+		}
+	}
+
+	/**
+	 * lastEventId 이후의 이벤트를 ID 오름차순으로 조회
+	 * 보관 범위보다 오래 끊겨 있었던 경우 보관 중인 이벤트만 반환한다.
+	 */
+	public List<ReplayEvent> findAfter(Long memberId, long lastEventId) {
+		String latest = stringRedisTemplate.opsForValue().get(SEQUENCE_KEY_PREFIX + memberId);
+		if (latest == null || Long.parseLong(latest) <= lastEventId) {
+			return List.of();
+		}
+
+		List<ReplayEvent> local = findLocal(memberId, lastEventId);
+		if (isComplete(local, lastEventId, Long.parseLong(latest))) {
+			return local;
+		}
+		return findRemote(memberId, lastEventId);
+	}
+
+	private List<ReplayEvent> findLocal(Long memberId, long lastEventId) {
+		Deque<ReplayEvent> events = localEvents.getIfPresent(memberId.toString());
+		if (events == null) {
+			return List.of();
+		}
+		synchronized (events) {
+			return events.stream().filter(event -> event.id() > lastEventId).toList();
+		}
+	}
+
+	// lastEventId 다음부터 최신 ID 까지 빠진 이벤트가 없는지 확인
+	private static boolean isComplete(List<ReplayEvent> events, long lastEventId, long latestId) {
+		if (events.size() != latestId - lastEventId) {
+			return false;
+		}
+		for (int i = 0; i < events.size(); i++) {
+			if (events.get(i).id() != lastEventId + 1 + i) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private List<ReplayEvent> findRemote(Long memberId, long lastEventId) {
+		List<String> entries = stringRedisTemplate.opsForList().range(EVENTS_KEY_PREFIX + memberId, 0, -1);
+		if (entries == null || entries.isEmpty()) {
+			return List.of();
+		}
+
+		List<ReplayEvent> events = new ArrayList<>();
+		// 리스트는 최신 이벤트가 앞에 있으므로 뒤에서부터 읽는다
+		for (int i = entries.size() - 1; i >= 0; i--) {
+			String entry = entries.get(i);
+			int separator = entry.indexOf(':');
+			long eventId = Long.parseLong(entry.substring(0, separator));
+			if (eventId <= lastEventId) {
+				continue;
+			}
+			try {
+				events.add(new ReplayEvent(eventId,
+					objectMapper.readValue(entry.substring(separator + 1), NotificationResponse.class)));
+			} catch (Exception e) {
+				log.warn("잘못된 SSE 재전송 이벤트: {}", e.getMessage());
+			}
+		}
+		return events;
+	}
+}
@@ -15,6 +15,11 @@ import com.example.backend.content.post.exception.PostException
 import com.example.backend.entity.MemberRepository
 import com.example.backend.entity.PostEntity
 import com.example.backend.entity.PostRepository
+import com.example.backend.entity.PostStatsEntity
+import com.example.backend.entity.PostStatsRepository
+import com.example.backend.global.event.PostCreateEvent
+import com.example.backend.social.feed.implement.PostHydrationCache
+import org.springframework.context.ApplicationEventPublisher
 import org.springframework.security.core.userdetails.UsernameNotFoundException
 import org.springframework.stereotype.Service
 import org.springframework.transaction.annotation.Transactional
@@ -22,10 +27,13 @@ import org.springframework.transaction.annotation.Transactional
 @Service
 open class PostService(
 	private val postRepository: PostRepository,
+	private val postStatsRepository: PostStatsRepository,
 	private val memberRepository: MemberRepository,
 	private val hashtagExtractor: HashtagExtractor,
 	private val postHashtagService: PostHashtagService,
-	private val imageService: ImageService
+	private val imageService: ImageService,
+	private val postHydrationCache: PostHydrationCache,
+	private val applicationEventPublisher: ApplicationEventPublisher
 ) {
 
 	/**
@@ -39,6 +47,7 @@ open class PostService(
 		// Java 엔티티 PostEntity.create(...) 메서드 활용
 		val postEntity = PostEntity.create(request.content(), memberEntity)
 		val savedPost = postRepository.save(postEntity)
+		postStatsRepository.save(PostStatsEntity.create(savedPost.getId()))
 
 		// 이미지 업로드
 		val uploadedFileNames = mutableListOf<String>()
@@ -52,6 +61,14 @@ open class PostService(
 		val extractHashtags = hashtagExtractor.extractHashtag(savedPost.getContent())
 		postHashtagService.create(savedPost, extractHashtags)
 
+		// 같은 ID 로 남아 있을 수 있는 피드 캐시 제거
+		postHydrationCache.evict(savedPost.getId())
+
+		// 팔로워 타임라인 반영 (커밋 이후 fan-out)
+		applicationEventPublisher.publishEvent(
+			PostCreateEvent.create(memberEntity.getId(), memberEntity.getFollowerCount(), savedPost.getId())
+		)
+
 		// 응답 생성
 		return PostCreateResponse(
 			id = savedPost.getId(),
@@ -76,6 +93,7 @@ open class PostService(
 
 		// 내용 수정
 		postEntity.modifyContent(request.content())
+		postHydrationCache.evict(postId)
 
 		return PostConverter.toModifyResponse(postEntity)
 	}
@@ -95,6 +113,7 @@ open class PostService(
 
 		// Soft Delete
 		postEntity.deleteContent()
+		postHydrationCache.evict(postId)
 
 		return PostConverter.toDeleteResponse(postId)
 	}
@@ -10,9 +10,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -20,7 +22,13 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "likes")
+@Table(name = "likes", uniqueConstraints = {
+	// 좋아요 동기화 upsert 의 기준 키이자, 좋아요 상태 조회 인덱스
+	@UniqueConstraint(name = "uk_likes_member_resource", columnNames = {"member_id", "resource_type", "resource_id"})
+}, indexes = {
+	// 리소스별 좋아요 수 집계 / 좋아요 누른 멤버 목록 keyset 페이징용 인덱스
+	@Index(name = "idx_likes_resource", columnList = "resource_type, resource_id, is_liked, updated_date, member_id")
+})
 public class LikeEntity {
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
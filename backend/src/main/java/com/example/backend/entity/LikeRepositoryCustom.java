@@ -1,11 +1,15 @@
 package com.example.backend.entity;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import com.example.backend.social.reaction.like.dto.LikeInfo;
+import com.example.backend.social.reaction.like.dto.LikerInfo;
 
 public interface LikeRepositoryCustom {
 	Optional<LikeEntity> findByMemberIdAndResourceIdAndResourceType(long memberId, Long resourceId, String resourceType);
 	int bulkUpsertLikes(List<LikeInfo> likeInfos);
+	long countLikes(String resourceType, Long resourceId);
+	List<LikerInfo> findLikers(String resourceType, Long resourceId, LocalDateTime lastLikedAt, Long lastMemberId, int limit);
 }
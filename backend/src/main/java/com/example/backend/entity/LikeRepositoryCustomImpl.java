@@ -1,34 +1,35 @@
 package com.example.backend.entity;
 
 import static com.example.backend.entity.QLikeEntity.likeEntity;
-import java.sql.PreparedStatement;
-import java.sql.SQLException;
 import java.sql.Timestamp;
-import java.util.ArrayList;
+import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
-import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 
 import com.example.backend.social.reaction.like.dto.LikeInfo;
+import com.example.backend.social.reaction.like.dto.LikerInfo;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.Query;
 import lombok.RequiredArgsConstructor;
 
 @Repository
 @RequiredArgsConstructor
 public class LikeRepositoryCustomImpl implements LikeRepositoryCustom {
 	private final JPAQueryFactory queryFactory;
-	private final EntityManager entityManager;
 	private final JdbcTemplate jdbcTemplate;
 
+	private static final int UPSERT_CHUNK_SIZE = 500;
+
+	private volatile UpsertDialect upsertDialect;
+
 	@Override
 	public Optional<LikeEntity> findByMemberIdAndResourceIdAndResourceType(
 		long memberId,
@@ -48,122 +49,123 @@ public class LikeRepositoryCustomImpl implements LikeRepositoryCustom {
 	}
 
 	@Override
-	public int bulkUpsertLikes(List<LikeInfo> likeInfos) {
-		if (likeInfos.isEmpty()) {
-			return 0;
-		}
-
-		// 일괄 처리를 위한 그룹화
-		Map<String, List<LikeInfo>> likesByType = likeInfos.stream()
-			.collect(Collectors.groupingBy(LikeInfo::resourceType));
-
-		int totalUpdated = 0;
-
-		// 각 리소스 타입별로 처리
-		for (Map.Entry<String, List<LikeInfo>> entry : likesByType.entrySet()) {
-			String resourceType = entry.getKey();
-			List<LikeInfo> likes = entry.getValue();
-
-			// 새로운 좋아요 (삽입 필요)
-			List<LikeInfo> newLikes = likes.stream()
-				.filter(like -> like.createDate() != null)
-				.collect(Collectors.toList());
-
-			// 기존 좋아요 (업데이트 필요)
-			List<LikeInfo> existingLikes = likes.stream()
-				.filter(like -> like.createDate() == null)
-				.collect(Collectors.toList());
-
-			// 새 좋아요 일괄 삽입
-			if (!newLikes.isEmpty()) {
-				totalUpdated += bulkInsertLikes(newLikes, resourceType);
-			}
-
-			// 기존 좋아요 일괄 업데이트
-			if (!existingLikes.isEmpty()) {
-				totalUpdated += bulkUpdateLikes(existingLikes, resourceType);
-			}
-		}
+	public long countLikes(String resourceType, Long resourceId) {
+		Long count = queryFactory
+			.select(likeEntity.count())
+			.from(likeEntity)
+			.where(
+				likeEntity.resourceType.eq(resourceType),
+				likeEntity.resourceId.eq(resourceId),
+				likeEntity.isLiked.isTrue()
+			)
+			.fetchOne();
 
-		return totalUpdated;
+		return count != null ? count : 0L;
 	}
 
-	private int bulkInsertLikes(List<LikeInfo> newLikes, String resourceType) {
-		// Bulk insert 구현
-		String sql = "INSERT INTO likes (member_id, resource_id, resource_type, create_date, updated_date, is_liked) " +
-			"VALUES (?, ?, ?, ?, ?, ?)";
-
-		int[] result = jdbcTemplate.batchUpdate(
-			sql,
-			new BatchPreparedStatementSetter() {
-				@Override
-				public void setValues(PreparedStatement ps, int i) throws SQLException {
-					LikeInfo like = newLikes.get(i);
-					ps.setLong(1, like.memberId());
-					ps.setLong(2, like.resourceId());
-					ps.setString(3, like.resourceType());
-					ps.setTimestamp(4, Timestamp.valueOf(like.createDate()));
-					ps.setTimestamp(5, Timestamp.valueOf(like.modifyDate()));
-					ps.setBoolean(6, like.isActive());
-				}
-
-				@Override
-				public int getBatchSize() {
-					return newLikes.size();
-				}
-			}
-		);
-
-		return result.length;
+	/**
+	 * 리소스에 좋아요를 누른 멤버를 최근 좋아요 순으로 조회
+	 * (updated_date, member_id) 커서 이후의 행만 인덱스 범위로 읽으므로 페이지 깊이와 무관하게 비용이 같다.
+	 */
+	@Override
+	public List<LikerInfo> findLikers(
+		String resourceType,
+		Long resourceId,
+		LocalDateTime lastLikedAt,
+		Long lastMemberId,
+		int limit
+	) {
+		return queryFactory
+			.select(Projections.constructor(LikerInfo.class, likeEntity.member.id, likeEntity.updatedDate))
+			.from(likeEntity)
+			.where(
+				likeEntity.resourceType.eq(resourceType),
+				likeEntity.resourceId.eq(resourceId),
+				likeEntity.isLiked.isTrue(),
+				isBeforeLiker(lastLikedAt, lastMemberId)
+			)
+			.orderBy(likeEntity.updatedDate.desc(), likeEntity.member.id.desc())
+			.limit(limit)
+			.fetch();
 	}
 
-	private int bulkUpdateLikes(List<LikeInfo> existingLikes, String resourceType) {
-		StringBuilder sb = new StringBuilder();
-		sb.append("UPDATE likes SET is_liked = CASE ");
-
-		List<Object> params = new ArrayList<>();
-
-		for (int i = 0; i < existingLikes.size(); i++) {
-			LikeInfo likeInfo = existingLikes.get(i);
-			sb.append("WHEN (member_id = ? AND resource_id = ? AND resource_type = ?) THEN ? ");
-			params.add(likeInfo.memberId());
-			params.add(likeInfo.resourceId());
-			params.add(likeInfo.resourceType());
-			params.add(likeInfo.isActive());
+	private BooleanExpression isBeforeLiker(LocalDateTime lastLikedAt, Long lastMemberId) {
+		if (lastLikedAt == null || lastMemberId == null) {
+			return null;
 		}
+		return likeEntity.updatedDate.lt(lastLikedAt)
+			.or(likeEntity.updatedDate.eq(lastLikedAt).and(likeEntity.member.id.lt(lastMemberId)));
+	}
 
-		sb.append("ELSE is_liked END, ");
-		sb.append("updated_date = CASE ");
-
-		for (int i = 0; i < existingLikes.size(); i++) {
-			LikeInfo likeInfo = existingLikes.get(i);
-			sb.append("WHEN (member_id = ? AND resource_id = ? AND resource_type = ?) THEN ? ");
-			params.add(likeInfo.memberId());
-			params.add(likeInfo.resourceId());
-			params.add(likeInfo.resourceType());
-			params.add(Timestamp.valueOf(likeInfo.modifyDate()));
+	/**
+	 * 좋아요 상태를 (member_id, resource_type, resource_id) 고유 키 기준으로 일괄 upsert
+	 * 행이 없으면 생성하고, 있으면 좋아요 여부와 수정 시간만 갱신한다.
+	 * SQL 이 항상 같으므로 고정 크기 chunk 의 JDBC batch 로 같은 PreparedStatement 를 재사용한다.
+	 */
+	@Override
+	public int bulkUpsertLikes(List<LikeInfo> likeInfos) {
+		if (likeInfos.isEmpty()) {
+			return 0;
 		}
 
-		sb.append("ELSE updated_date END ");
-		sb.append("WHERE (");
+		int[][] result = jdbcTemplate.batchUpdate(
+			getUpsertDialect().sql,
+			likeInfos,
+			UPSERT_CHUNK_SIZE,
+			(ps, like) -> {
+				Timestamp modifyDate = Timestamp.valueOf(like.modifyDate());
+				ps.setLong(1, like.memberId());
+				ps.setString(2, like.resourceType());
+				ps.setLong(3, like.resourceId());
+				ps.setBoolean(4, like.isActive());
+				// 기존 좋아요의 변경인데 행이 없는 경우에는 수정 시간을 생성 시간으로 사용
+				ps.setTimestamp(5, like.createDate() != null ? Timestamp.valueOf(like.createDate()) : modifyDate);
+				ps.setTimestamp(6, modifyDate);
+			});
+
+		return Arrays.stream(result).mapToInt(chunk -> chunk.length).sum();
+	}
 
-		for (int i = 0; i < existingLikes.size(); i++) {
-			LikeInfo likeInfo = existingLikes.get(i);
-			if (i > 0) sb.append(" OR ");
-			sb.append("(member_id = ? AND resource_id = ? AND resource_type = ?)");
-			params.add(likeInfo.memberId());
-			params.add(likeInfo.resourceId());
-			params.add(likeInfo.resourceType());
+	private UpsertDialect getUpsertDialect() {
+		UpsertDialect dialect = upsertDialect;
+		if (dialect == null) {
+			String productName = jdbcTemplate.execute(
+				(ConnectionCallback<String>)connection -> connection.getMetaData().getDatabaseProductName());
+			dialect = UpsertDialect.from(productName);
+			upsertDialect = dialect;
 		}
+		return dialect;
+	}
 
-		sb.append(")");
-
-		// Native query 실행
-		Query query = entityManager.createNativeQuery(sb.toString());
-		for (int i = 0; i < params.size(); i++) {
-			query.setParameter(i + 1, params.get(i));
+	/**
+	 * DB 별 좋아요 upsert 문
+	 * 파라미터 순서 : member_id, resource_type, resource_id, is_liked, create_date, updated_date
+	 */
+	private enum UpsertDialect {
+		MYSQL("""
+			INSERT INTO likes (member_id, resource_type, resource_id, is_liked, create_date, updated_date)
+			VALUES (?, ?, ?, ?, ?, ?)
+			ON DUPLICATE KEY UPDATE is_liked = VALUES(is_liked), updated_date = VALUES(updated_date)
+			"""),
+		H2("""
+			MERGE INTO likes t
+			USING (VALUES (CAST(? AS BIGINT), CAST(? AS VARCHAR(255)), CAST(? AS BIGINT),
+				CAST(? AS BOOLEAN), CAST(? AS TIMESTAMP), CAST(? AS TIMESTAMP)))
+				AS s (member_id, resource_type, resource_id, is_liked, create_date, updated_date)
+			ON t.member_id = s.member_id AND t.resource_type = s.resource_type AND t.resource_id = s.resource_id
+			WHEN MATCHED THEN UPDATE SET is_liked = s.is_liked, updated_date = s.updated_date
+			WHEN NOT MATCHED THEN INSERT (member_id, resource_type, resource_id, is_liked, create_date, updated_date)
+				VALUES (s.member_id, s.resource_type, s.resource_id, s.is_liked, s.create_date, s.updated_date)
+			""");
+
+		private final String sql;
+
+		UpsertDialect(String sql) {
+			this.sql = sql;
 		}
 
-		return query.executeUpdate();
+		static UpsertDialect from(String databaseProductName) {
+			return "H2".equalsIgnoreCase(databaseProductName) ? H2 : MYSQL;
+		}
 	}
 }
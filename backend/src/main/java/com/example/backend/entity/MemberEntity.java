@@ -145,6 +145,10 @@ public class MemberEntity extends BaseEntity {
 		return this.username;
 	}
 
+	public Long getFollowerCount() {
+		return this.followerCount;
+	}
+
 	public String getPassword() {
 		return password;
 	}
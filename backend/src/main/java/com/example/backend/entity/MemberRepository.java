@@ -1,8 +1,11 @@
 package com.example.backend.entity;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MemberRepository extends JpaRepository<MemberEntity, Long> {
 	Optional<MemberEntity> findByUsername(String username);
@@ -12,4 +15,16 @@ public interface MemberRepository extends JpaRepository<MemberEntity, Long> {
 	Optional<MemberEntity> findByEmail(String email);
 
 	Optional<MemberEntity> findByPhoneNumber(String phoneNumber);
+
+	/**
+	 * 해당 멤버를 팔로우하는 멤버들의 ID 조회 (피드 타임라인 fan-out 용)
+	 */
+	@Query("""
+		SELECT follower.id
+		FROM MemberEntity m
+		JOIN m.followerList followerUsername, MemberEntity follower
+		WHERE m.id = :memberId
+		AND follower.username = followerUsername
+		""")
+	List<Long> findFollowerIdsById(@Param("memberId") Long memberId);
 }
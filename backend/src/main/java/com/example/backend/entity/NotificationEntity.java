@@ -6,6 +6,7 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -18,7 +19,10 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
-@Table(name = "notification")
+@Table(name = "notification", indexes = {
+	@Index(name = "idx_notification_group", columnList = "member_id, type, group_key"),
+	@Index(name = "idx_notification_member_read", columnList = "member_id, is_read, id")
+})
 public class NotificationEntity extends BaseEntity {
 	@Column(nullable = false)
 	private String content;
@@ -36,6 +40,14 @@ public class NotificationEntity extends BaseEntity {
 	// LIKE -> postId, Comment -> commentId, Follow -> followId
 	private Long targetId;
 
+	// 묶어서 보내는 알림의 그룹 (NotificationAggregator 참고)
+	private String groupKey;
+
+	// 알림에 묶인 행위자 수
+	@Column(nullable = false)
+	@Builder.Default
+	private int actorCount = 1;
+
 	public void markRead() {
 		this.isRead = true;
 	}
@@ -51,6 +63,19 @@ public class NotificationEntity extends BaseEntity {
 			.build();
 	}
 
+	public static NotificationEntity createGroup(
+		String message, Long memberId, NotificationType type, Long targetId, String groupKey, int actorCount
+	) {
+		return NotificationEntity.builder()
+			.content(message)
+			.memberId(memberId)
+			.type(type)
+			.targetId(targetId)
+			.groupKey(groupKey)
+			.actorCount(actorCount)
+			.build();
+	}
+
 	public String getContent() {
 		return content;
 	}
@@ -70,4 +95,12 @@ public class NotificationEntity extends BaseEntity {
 	public Long getTargetId() {
 		return targetId;
 	}
+
+	public String getGroupKey() {
+		return groupKey;
+	}
+
+	public int getActorCount() {
+		return actorCount;
+	}
 }
@@ -6,13 +6,58 @@ import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import com.example.backend.content.notification.type.NotificationType;
+
 public interface NotificationRepository extends JpaRepository<NotificationEntity, Long> {
 	// 단일 알림 조회
 	Optional<NotificationEntity> findByIdAndMemberId(Long id, Long memberId);
 
+	// 아직 읽지 않은 같은 그룹의 최근 알림 조회
+	Optional<NotificationEntity> findFirstByMemberIdAndTypeAndGroupKeyAndIsReadFalseAndModifyDateAfterOrderByIdDesc(
+		Long memberId, NotificationType type, String groupKey, LocalDateTime since);
+
+	// 읽지 않은 알림 수 (idx_notification_member_read)
+	long countByMemberIdAndIsReadFalse(Long memberId);
+
+	// 읽지 않은 알림인 경우에만 읽음 처리
+	@Modifying(clearAutomatically = true)
+	@Query("""
+		UPDATE NotificationEntity n
+		SET n.isRead = true
+		WHERE n.id = :id
+		AND n.memberId = :memberId
+		AND n.isRead = false
+		""")
+	int markRead(@Param("id") Long id, @Param("memberId") Long memberId);
+
+	boolean existsByIdAndMemberId(Long id, Long memberId);
+
+	// lastId 이하의 읽지 않은 알림을 한 번에 읽음 처리
+	@Modifying(clearAutomatically = true)
+	@Query("""
+		UPDATE NotificationEntity n
+		SET n.isRead = true
+		WHERE n.memberId = :memberId
+		AND n.isRead = false
+		AND n.id <= :lastId
+		""")
+	int markReadUpTo(@Param("memberId") Long memberId, @Param("lastId") Long lastId);
+
+	// 읽지 않은 알림에만 같은 그룹의 알림을 합침 (조회 이후 읽음 처리된 알림은 갱신하지 않음)
+	@Modifying(clearAutomatically = true)
+	@Query("""
+		UPDATE NotificationEntity n
+		SET n.content = :content, n.targetId = :targetId, n.actorCount = :actorCount, n.modifyDate = :modifyDate
+		WHERE n.id = :id
+		AND n.isRead = false
+		""")
+	int mergeUnread(@Param("id") Long id, @Param("content") String content, @Param("targetId") Long targetId,
+		@Param("actorCount") int actorCount, @Param("modifyDate") LocalDateTime modifyDate);
+
 	// 추후 인덱스 고려
 	@Query("""
 		SELECT n FROM NotificationEntity n
@@ -7,6 +7,7 @@ import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
@@ -24,7 +25,12 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
-@Table(name = "post")
+@Table(name = "post", indexes = {
+	// 멤버 피드 / 팔로잉 피드 keyset 페이징 (member_id, is_deleted 고정 후 (create_date, id) 범위 스캔)
+	@Index(name = "idx_post_member_deleted_created", columnList = "member_id, is_deleted, create_date, id"),
+	// 추천 피드 작성일 범위 탐색
+	@Index(name = "idx_post_deleted_created", columnList = "is_deleted, create_date, id")
+})
 public class PostEntity extends BaseEntity {
 
 	@Lob
@@ -43,10 +49,6 @@ public class PostEntity extends BaseEntity {
 	@Builder.Default
 	private List<ImageEntity> images = new ArrayList<>();
 
-	@Column(nullable = false)
-	@Builder.Default
-	private Long likeCount = 0L; // 좋아요 초기 카운트 0 설정
-
 	@OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
 	private List<CommentEntity> comments;
 
@@ -123,10 +125,6 @@ public class PostEntity extends BaseEntity {
 		return images;
 	}
 
-	public Long getLikeCount() {
-		return likeCount;
-	}
-
 	public List<CommentEntity> getComments() {
 		return comments;
 	}
@@ -0,0 +1,66 @@
+package com.example.backend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시물별 집계 카운터
+ * 자주 바뀌는 카운터를 @Lob content 가 있는 post row 와 분리하여
+ * 카운터 갱신 시 넓은 row 를 다시 쓰지 않도록 한다.
+ *
+ * @author joonaeng
+ * @since 2025-03-15
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder
+@Table(name = "post_stats")
+public class PostStatsEntity {
+
+	@Id
+	@Column(name = "post_id")
+	private Long postId;
+
+	@Column(nullable = false)
+	@Builder.Default
+	private Long commentCount = 0L;
+
+	@Column(nullable = false)
+	@Builder.Default
+	private Long likeCount = 0L;
+
+	@Column(nullable = false)
+	@Builder.Default
+	private Long bookmarkCount = 0L;
+
+	public static PostStatsEntity create(Long postId) {
+		return PostStatsEntity.builder()
+			.postId(postId)
+			.build();
+	}
+
+	public Long getPostId() {
+		return postId;
+	}
+
+	public Long getCommentCount() {
+		return commentCount;
+	}
+
+	public Long getLikeCount() {
+		return likeCount;
+	}
+
+	public Long getBookmarkCount() {
+		return bookmarkCount;
+	}
+}
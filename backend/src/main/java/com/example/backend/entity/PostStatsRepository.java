@@ -0,0 +1,49 @@
+package com.example.backend.entity;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * 게시물 집계 카운터는 읽고 쓰는 대신 delta 로 원자적으로 갱신한다.
+ * 집계 row 가 아직 없는 게시물도 처리할 수 있도록 upsert 로 작성 (H2 MySQL 모드 / MySQL 공통 문법)
+ * @author joonaeng
+ * @since 2025-03-15
+ */
+public interface PostStatsRepository extends JpaRepository<PostStatsEntity, Long> {
+
+	@Modifying
+	@Query(value = """
+		INSERT INTO post_stats (post_id, comment_count, like_count, bookmark_count)
+		VALUES (:postId, GREATEST(:delta, 0), 0, 0)
+		ON DUPLICATE KEY UPDATE comment_count = GREATEST(comment_count + :delta, 0)
+		""", nativeQuery = true)
+	void increaseCommentCount(@Param("postId") Long postId, @Param("delta") long delta);
+
+	@Modifying
+	@Query(value = """
+		INSERT INTO post_stats (post_id, comment_count, like_count, bookmark_count)
+		VALUES (:postId, 0, 0, GREATEST(:delta, 0))
+		ON DUPLICATE KEY UPDATE bookmark_count = GREATEST(bookmark_count + :delta, 0)
+		""", nativeQuery = true)
+	void increaseBookmarkCount(@Param("postId") Long postId, @Param("delta") long delta);
+
+	/**
+	 * 집계 row 가 없는 게시물(post_stats 도입 이전 게시물 등)의 집계를 현재 DB 기준으로 생성
+	 * 좋아요 수는 동기화 스케줄러가 채운다.
+	 * @return 생성된 집계 row 수
+	 */
+	@Modifying
+	@Query(value = """
+		INSERT INTO post_stats (post_id, comment_count, like_count, bookmark_count)
+		SELECT p.id,
+			(SELECT COUNT(*) FROM comment c WHERE c.post_id = p.id),
+			0,
+			(SELECT COUNT(*) FROM bookmark b WHERE b.post_id = p.id)
+		FROM post p
+		LEFT JOIN post_stats s ON s.post_id = p.id
+		WHERE s.post_id IS NULL
+		""", nativeQuery = true)
+	int insertMissingStats();
+}
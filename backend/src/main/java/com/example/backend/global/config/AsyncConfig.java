@@ -1,7 +1,10 @@
 package com.example.backend.global.config;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -23,4 +26,10 @@ public class AsyncConfig implements AsyncConfigurer {
 		executor.initialize();
 		return executor;
 	}
+
+	// 피드 조회처럼 I/O 대기가 대부분인 작업을 병렬로 처리하기 위한 가상 스레드 Executor
+	@Bean(name = "feedExecutor", destroyMethod = "close")
+	public ExecutorService feedExecutor() {
+		return Executors.newVirtualThreadPerTaskExecutor();
+	}
 }
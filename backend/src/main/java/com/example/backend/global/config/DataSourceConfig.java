@@ -0,0 +1,78 @@
+package com.example.backend.global.config;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.example.backend.global.datasource.ReadYourWritesFilter;
+import com.example.backend.global.datasource.ReplicaDataSourceProperties;
+import com.example.backend.global.datasource.ReplicaHealthChecker;
+import com.example.backend.global.datasource.ReplicationRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * primary / replica 라우팅 데이터소스 설정
+ * custom.datasource.routing.enabled 가 true 일 때만 등록되며,
+ * 비활성화 상태에서는 spring.datasource 단일 데이터소스를 그대로 사용한다.
+ *
+ * @author kwak
+ * @since 2025-03-15
+ */
+@Configuration
+@ConditionalOnProperty(name = "custom.datasource.routing.enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+public class DataSourceConfig {
+
+	// 단일 데이터소스와 같은 spring.datasource.hikari 풀 설정을 적용 (종료는 라우팅 데이터소스가 담당)
+	@Bean(destroyMethod = "")
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+		return dataSourceProperties.initializeDataSourceBuilder()
+			.type(HikariDataSource.class)
+			.build();
+	}
+
+	@Bean(destroyMethod = "close")
+	public ReplicationRoutingDataSource replicationRoutingDataSource(
+		HikariDataSource primaryDataSource, ReplicaDataSourceProperties replicaProperties) {
+
+		List<DataSource> replicas = replicaProperties.replicas().stream()
+			.map(replica -> (DataSource)DataSourceBuilder.create()
+				.type(HikariDataSource.class)
+				.url(replica.url())
+				.username(replica.username())
+				.password(replica.password())
+				.driverClassName(replica.driverClassName())
+				.build())
+			.toList();
+
+		return new ReplicationRoutingDataSource(primaryDataSource, replicas);
+	}
+
+	// 트랜잭션의 readOnly 여부가 정해진 뒤 실제 커넥션을 얻도록 지연 프록시로 감싼다
+	@Primary
+	@Bean
+	public DataSource dataSource(ReplicationRoutingDataSource replicationRoutingDataSource) {
+		return new LazyConnectionDataSourceProxy(replicationRoutingDataSource);
+	}
+
+	@Bean
+	public ReadYourWritesFilter readYourWritesFilter(ReplicaDataSourceProperties replicaProperties) {
+		return new ReadYourWritesFilter(replicaProperties.readYourWritesWindow());
+	}
+
+	@Bean
+	public ReplicaHealthChecker replicaHealthChecker(ReplicationRoutingDataSource replicationRoutingDataSource) {
+		return new ReplicaHealthChecker(replicationRoutingDataSource);
+	}
+}
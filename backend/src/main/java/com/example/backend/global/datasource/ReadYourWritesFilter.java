@@ -0,0 +1,73 @@
+package com.example.backend.global.datasource;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.example.backend.identity.security.user.CustomUser;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 회원이 쓰기 요청을 보낸 뒤 일정 시간 동안 해당 회원의 읽기를 primary 로 고정하는 필터
+ * 복제 지연으로 방금 쓴 데이터가 보이지 않는 문제를 막는다.
+ * 쓰기 요청이 성공한 경우 (예외 없이 4xx / 5xx 가 아닌 응답) 에만 고정하여, 실패한 요청이 primary 부하를 늘리지 않도록 한다.
+ * 고정 정보는 서버 로컬에 보관하므로, 여러 서버를 사용하는 경우 같은 회원의 요청이 같은 서버로 가야 완전히 보장된다.
+ *
+ * @author kwak
+ * @since 2025-03-15
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+	private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+	private final Cache<Long, Boolean> recentWriters;
+
+	public ReadYourWritesFilter(Duration window) {
+		this.recentWriters = Caffeine.newBuilder()
+			.expireAfterWrite(window)
+			.build();
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+		throws ServletException, IOException {
+
+		Long memberId = getMemberId();
+		if (memberId != null && recentWriters.getIfPresent(memberId) != null) {
+			ReplicaRoutingContext.pinPrimary();
+		}
+
+		boolean completed = false;
+		try {
+			filterChain.doFilter(request, response);
+			completed = true;
+		} finally {
+			ReplicaRoutingContext.clear();
+			if (memberId != null && completed && isSuccessfulWrite(request, response)) {
+				recentWriters.put(memberId, true);
+			}
+		}
+	}
+
+	private static boolean isSuccessfulWrite(HttpServletRequest request, HttpServletResponse response) {
+		return !READ_METHODS.contains(request.getMethod()) && response.getStatus() < HttpServletResponse.SC_BAD_REQUEST;
+	}
+
+	private static Long getMemberId() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication != null && authentication.getPrincipal() instanceof CustomUser customUser) {
+			return customUser.getId();
+		}
+		return null;
+	}
+}
@@ -0,0 +1,33 @@
+package com.example.backend.global.datasource;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 읽기 전용 복제본(replica) 데이터소스 설정
+ * custom.datasource.routing.enabled 가 true 일 때만 사용된다.
+ *
+ * @param replicas 복제본 목록
+ * @param readYourWritesWindow 쓰기 요청 이후 해당 회원의 읽기를 primary 로 고정하는 시간
+ * @param healthCheckInterval 복제본 상태 확인 주기
+ * @author kwak
+ * @since 2025-03-15
+ */
+@ConfigurationProperties(prefix = "custom.datasource")
+public record ReplicaDataSourceProperties(
+	@DefaultValue List<Replica> replicas,
+	@DefaultValue("3s") Duration readYourWritesWindow,
+	@DefaultValue("5s") Duration healthCheckInterval
+) {
+
+	public record Replica(
+		String url,
+		String username,
+		String password,
+		String driverClassName
+	) {
+	}
+}
@@ -0,0 +1,22 @@
+package com.example.backend.global.datasource;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주기적으로 복제본 상태를 확인하여 라우팅 대상에서 장애 복제본을 제외하는 컴포넌트
+ *
+ * @author kwak
+ * @since 2025-03-15
+ */
+@RequiredArgsConstructor
+public class ReplicaHealthChecker {
+
+	private final ReplicationRoutingDataSource replicationRoutingDataSource;
+
+	@Scheduled(fixedDelayString = "${custom.datasource.healthCheckInterval:5s}")
+	public void checkReplicaHealth() {
+		replicationRoutingDataSource.checkReplicaHealth();
+	}
+}
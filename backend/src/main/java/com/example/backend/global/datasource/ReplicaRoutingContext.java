@@ -0,0 +1,48 @@
+package com.example.backend.global.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 읽기 요청을 primary 로 고정할지 여부를 담는 컨텍스트
+ * 쓰기 직후의 회원 요청(read-your-writes) 처리 시 설정되며,
+ * 다른 스레드로 작업을 넘길 때는 propagate 로 감싸서 값을 전달해야 한다.
+ *
+ * @author kwak
+ * @since 2025-03-15
+ */
+public final class ReplicaRoutingContext {
+
+	private static final ThreadLocal<Boolean> PRIMARY_PINNED = ThreadLocal.withInitial(() -> false);
+
+	private ReplicaRoutingContext() {
+	}
+
+	public static boolean isPrimaryPinned() {
+		return PRIMARY_PINNED.get();
+	}
+
+	public static void pinPrimary() {
+		PRIMARY_PINNED.set(true);
+	}
+
+	public static void clear() {
+		PRIMARY_PINNED.remove();
+	}
+
+	/**
+	 * 현재 스레드의 컨텍스트를 다른 스레드에서 실행될 작업에 전달
+	 * @param task 실행할 작업
+	 * @return 컨텍스트를 복원한 뒤 작업을 실행하는 Supplier
+	 */
+	public static <T> Supplier<T> propagate(Supplier<T> task) {
+		boolean pinned = isPrimaryPinned();
+		return () -> {
+			PRIMARY_PINNED.set(pinned);
+			try {
+				return task.get();
+			} finally {
+				PRIMARY_PINNED.remove();
+			}
+		};
+	}
+}
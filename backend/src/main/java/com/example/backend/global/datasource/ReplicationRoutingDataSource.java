@@ -0,0 +1,112 @@
+package com.example.backend.global.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 읽기 전용 트랜잭션을 복제본으로 보내는 라우팅 데이터소스
+ * 정상 상태의 복제본들을 round-robin 으로 선택하며, 정상 복제본이 없거나
+ * read-your-writes 로 primary 가 고정된 경우에는 primary 를 사용한다.
+ * 트랜잭션의 readOnly 여부가 정해진 뒤에 커넥션을 얻도록 LazyConnectionDataSourceProxy 로 감싸서 사용해야 한다.
+ *
+ * @author kwak
+ * @since 2025-03-15
+ */
+@Slf4j
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+	public static final String PRIMARY_KEY = "primary";
+	private static final String REPLICA_KEY_FORMAT = "replica-%d";
+	private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+	private final DataSource primary;
+	private final Map<String, DataSource> replicas = new LinkedHashMap<>();
+	private final AtomicInteger sequence = new AtomicInteger();
+	private volatile List<String> healthyReplicaKeys;
+
+	public ReplicationRoutingDataSource(DataSource primary, List<DataSource> replicaList) {
+		this.primary = primary;
+
+		Map<Object, Object> targets = new HashMap<>();
+		targets.put(PRIMARY_KEY, primary);
+		for (int i = 0; i < replicaList.size(); i++) {
+			String key = String.format(REPLICA_KEY_FORMAT, i);
+			replicas.put(key, replicaList.get(i));
+			targets.put(key, replicaList.get(i));
+		}
+
+		this.healthyReplicaKeys = List.copyOf(replicas.keySet());
+		setTargetDataSources(targets);
+		setDefaultTargetDataSource(primary);
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+			|| ReplicaRoutingContext.isPrimaryPinned()) {
+			return PRIMARY_KEY;
+		}
+
+		List<String> candidates = healthyReplicaKeys;
+		if (candidates.isEmpty()) {
+			return PRIMARY_KEY;
+		}
+		return candidates.get(Math.floorMod(sequence.getAndIncrement(), candidates.size()));
+	}
+
+	/**
+	 * 각 복제본에 커넥션 유효성 검사를 수행하여 정상 복제본 목록을 갱신
+	 */
+	public void checkReplicaHealth() {
+		List<String> healthy = new ArrayList<>();
+		replicas.forEach((key, dataSource) -> {
+			if (isValid(dataSource)) {
+				healthy.add(key);
+			}
+		});
+
+		if (!healthy.equals(healthyReplicaKeys)) {
+			log.warn("복제본 상태 변경: {} -> {}", healthyReplicaKeys, healthy);
+		}
+		healthyReplicaKeys = List.copyOf(healthy);
+	}
+
+	public List<String> getHealthyReplicaKeys() {
+		return healthyReplicaKeys;
+	}
+
+	@Override
+	public void close() throws Exception {
+		for (DataSource dataSource : replicas.values()) {
+			closeIfPossible(dataSource);
+		}
+		closeIfPossible(primary);
+	}
+
+	private static void closeIfPossible(DataSource dataSource) throws Exception {
+		if (dataSource instanceof AutoCloseable closeable) {
+			closeable.close();
+		}
+	}
+
+	private static boolean isValid(DataSource dataSource) {
+		try (Connection connection = dataSource.getConnection()) {
+			return connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+		} catch (SQLException e) {
+			return false;
+		}
+	}
+}
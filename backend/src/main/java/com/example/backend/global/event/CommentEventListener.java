@@ -4,11 +4,8 @@ import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
-import com.example.backend.content.notification.exception.NotificationErrorCode;
-import com.example.backend.content.notification.exception.NotificationException;
-import com.example.backend.content.notification.service.NotificationService;
+import com.example.backend.content.notification.service.NotificationAggregator;
 import com.example.backend.content.notification.type.NotificationType;
-import com.example.backend.entity.NotificationEntity;
 
 import lombok.RequiredArgsConstructor;
 
@@ -21,41 +18,17 @@ import lombok.RequiredArgsConstructor;
 @Component
 public class CommentEventListener {
 
-	private final NotificationService notificationService;
-	private static final int MAX_RETRY_COUNT = 3;
-	private static final long RETRY_DELAY_MS = 1000L;
+	private final NotificationAggregator notificationAggregator;
 
 	@EventListener
 	public void handleCommentEvent(CommentEvent commentEvent) {
-		int retryCount = 0;
-
-		NotificationEntity notification = notificationService.createNotification(
+		// 같은 게시물에 달린 댓글 알림은 묶어서 저장 / 전송
+		notificationAggregator.add(
 			commentEvent.receiverId(),
-			commentEvent.commentId(),
 			NotificationType.COMMENT,
-			commentEvent.commenterName() + "님이 게시물 (ID: " + commentEvent.postId() + ")에 댓글을 달았습니다.");
-
-		while (retryCount < MAX_RETRY_COUNT) {
-			try {
-				notificationService.sendNotification(commentEvent.receiverId(), notification);
-				// 성공 시 바로 리턴
-				return;
-
-			} catch (Exception e) {
-				retryCount++;
-				// 3번째 시도까지 실패 시 진짜 에러 발생
-				if (retryCount == MAX_RETRY_COUNT) {
-					throw new NotificationException(NotificationErrorCode.FAILED_SEND);
-				}
-
-				try {
-					// 다음 시도 전 1초 대기
-					Thread.sleep(RETRY_DELAY_MS);
-				} catch (InterruptedException ie) {
-					Thread.currentThread().interrupt();
-					throw new NotificationException(NotificationErrorCode.FAILED_SEND);
-				}
-			}
-		}
+			"post:" + commentEvent.postId(),
+			commentEvent.commentId(),
+			commentEvent.commenterName(),
+			"게시물 (ID: " + commentEvent.postId() + ")에 댓글을 달았습니다.");
 	}
 }
@@ -0,0 +1,26 @@
+package com.example.backend.global.event;
+
+import java.time.LocalDateTime;
+
+import lombok.Builder;
+
+/**
+ * @author ChoiHyunSan
+ * 2025-03-14
+ */
+@Builder
+public record PostCreateEvent(
+	Long authorId,
+	Long authorFollowerCount,
+	Long postId,
+	LocalDateTime timestamp
+) {
+	public static PostCreateEvent create(Long authorId, Long authorFollowerCount, Long postId) {
+		return new PostCreateEvent(
+			authorId,
+			authorFollowerCount,
+			postId,
+			LocalDateTime.now()
+		);
+	}
+}
@@ -0,0 +1,53 @@
+package com.example.backend.global.event;
+
+import static com.example.backend.social.feed.constant.FeedConstants.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.backend.entity.MemberRepository;
+import com.example.backend.social.feed.implement.FeedTimelineStore;
+import com.example.backend.social.feed.implement.PostPopularityIndex;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시물 생성 시 팔로워들의 타임라인에 게시물 ID 를 push (fan-out-on-write)
+ * 팔로워 수가 FAN_OUT_FOLLOWER_THRESHOLD 를 넘는 작성자는 본인 타임라인에만 반영하고
+ * 팔로워들은 피드 조회 시점에 pull 방식으로 가져간다.
+ * 추천 피드용 인기 점수 인덱스에도 게시물을 추가한다.
+ * @author ChoiHyunSan
+ * 2025-03-14
+ */
+@Component
+@Async
+@RequiredArgsConstructor
+@Slf4j
+public class PostCreateEventListener {
+
+	private final MemberRepository memberRepository;
+	private final FeedTimelineStore feedTimelineStore;
+	private final PostPopularityIndex postPopularityIndex;
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handlePostCreateEvent(PostCreateEvent postCreateEvent) {
+		List<Long> receiverIds = new ArrayList<>();
+		receiverIds.add(postCreateEvent.authorId());
+
+		if (postCreateEvent.authorFollowerCount() <= FAN_OUT_FOLLOWER_THRESHOLD) {
+			receiverIds.addAll(memberRepository.findFollowerIdsById(postCreateEvent.authorId()));
+		}
+
+		feedTimelineStore.push(receiverIds, postCreateEvent.postId());
+		log.debug("Post {} pushed to {} timelines", postCreateEvent.postId(), receiverIds.size());
+
+		postPopularityIndex.add(
+			postCreateEvent.postId(), postCreateEvent.timestamp(), postCreateEvent.authorFollowerCount());
+	}
+}
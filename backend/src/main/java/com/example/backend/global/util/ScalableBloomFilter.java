@@ -0,0 +1,124 @@
+package com.example.backend.global.util;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * 원소 수에 따라 크기가 늘어나는 Bloom filter (Long 원소 전용)
+ * 슬라이스가 가득 차면 용량을 growthFactor 배로 늘리고 오탐률을 절반으로 줄인 새 슬라이스를 추가한다.
+ * 슬라이스 용량이 maxSliceCapacity 에 도달한 뒤로는 같은 용량 / 오탐률의 슬라이스만 추가하고,
+ * 슬라이스 수가 maxSlices 를 넘으면 가장 오래된 슬라이스를 버린다.
+ * 따라서 메모리 사용량은 maxSliceCapacity 크기 슬라이스 maxSlices 개를 넘지 않는다.
+ * (버려진 슬라이스의 원소는 다시 "처음 보는 원소" 로 판단될 수 있다)
+ *
+ * @author ChoiHyunSan
+ * @since 2025-03-15
+ */
+public class ScalableBloomFilter {
+
+	private static final int GROWTH_FACTOR = 2;
+	private static final double TIGHTENING_RATIO = 0.5;
+
+	private final int maxSliceCapacity;
+	private final int maxSlices;
+	private final Deque<Slice> slices = new ArrayDeque<>();
+
+	private int nextCapacity;
+	private double nextFalsePositiveRate;
+
+	public ScalableBloomFilter(int initialCapacity, double falsePositiveRate, int maxSliceCapacity, int maxSlices) {
+		this.nextCapacity = Math.min(initialCapacity, maxSliceCapacity);
+		this.nextFalsePositiveRate = falsePositiveRate;
+		this.maxSliceCapacity = maxSliceCapacity;
+		this.maxSlices = maxSlices;
+		addSlice();
+	}
+
+	public synchronized boolean mightContain(long value) {
+		for (Slice slice : slices) {
+			if (slice.mightContain(value)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	public synchronized void add(long value) {
+		if (mightContain(value)) {
+			return;
+		}
+
+		Slice current = slices.peekLast();
+		if (current.isFull()) {
+			current = addSlice();
+		}
+		current.add(value);
+	}
+
+	private Slice addSlice() {
+		if (slices.size() == maxSlices) {
+			slices.pollFirst();
+		}
+
+		Slice slice = new Slice(nextCapacity, nextFalsePositiveRate);
+		slices.addLast(slice);
+
+		// 최대 용량에 도달하면 더 이상 늘리지 않고 같은 크기의 슬라이스를 순환시킨다
+		if (nextCapacity < maxSliceCapacity) {
+			nextCapacity = (int)Math.min((long)nextCapacity * GROWTH_FACTOR, maxSliceCapacity);
+			nextFalsePositiveRate *= TIGHTENING_RATIO;
+		}
+		return slice;
+	}
+
+	private static final class Slice {
+
+		private final long[] bits;
+		private final int bitSize;
+		private final int hashCount;
+		private final int capacity;
+		private int count;
+
+		private Slice(int capacity, double falsePositiveRate) {
+			this.capacity = capacity;
+			this.bitSize = (int)Math.min(Integer.MAX_VALUE - 63,
+				(long)Math.ceil(-capacity * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+			this.hashCount = Math.max(1, (int)Math.round((double)bitSize / capacity * Math.log(2)));
+			this.bits = new long[(bitSize + 63) / 64];
+		}
+
+		private boolean isFull() {
+			return count >= capacity;
+		}
+
+		private void add(long value) {
+			long hash1 = mix(value);
+			long hash2 = mix(hash1) | 1L;
+			for (int i = 0; i < hashCount; i++) {
+				int index = (int)Math.floorMod(hash1 + i * hash2, (long)bitSize);
+				bits[index >>> 6] |= 1L << index;
+			}
+			count++;
+		}
+
+		private boolean mightContain(long value) {
+			long hash1 = mix(value);
+			long hash2 = mix(hash1) | 1L;
+			for (int i = 0; i < hashCount; i++) {
+				int index = (int)Math.floorMod(hash1 + i * hash2, (long)bitSize);
+				if ((bits[index >>> 6] & (1L << index)) == 0) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		// SplitMix64 의 finalizer
+		private static long mix(long value) {
+			long z = value + 0x9E3779B97F4A7C15L;
+			z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+			z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+			return z ^ (z >>> 31);
+		}
+	}
+}
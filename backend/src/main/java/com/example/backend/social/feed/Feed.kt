@@ -11,6 +11,7 @@ import com.example.backend.entity.PostEntity
 data class Feed(
     val post: PostEntity,
     var commentCount: Long,
+    var likeCount: Long = 0,
     var hashTagList: List<String> = emptyList(),
     var imageUrlList: List<String> = emptyList(),
     var bookmarkId: Long? = null,
@@ -26,6 +27,17 @@ data class Feed(
         isLiked = false
     )
 
+    // post_stats 집계 값을 함께 조회할 때 사용하는 보조 생성자
+    constructor(post: PostEntity, commentCount: Long, likeCount: Long) : this(
+        post = post,
+        commentCount = commentCount,
+        likeCount = likeCount,
+        hashTagList = emptyList(),
+        imageUrlList = emptyList(),
+        bookmarkId = null,
+        isLiked = false
+    )
+
     /**
      * 피드 데이터를 채우는 함수
      */
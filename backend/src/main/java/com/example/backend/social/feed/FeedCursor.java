@@ -0,0 +1,63 @@
+package com.example.backend.social.feed;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import com.example.backend.social.feed.exception.FeedErrorCode;
+import com.example.backend.social.feed.exception.FeedException;
+
+/**
+ * FeedCursor
+ * 피드 keyset 페이징을 위한 (createDate, postId) 커서
+ * 클라이언트에는 내부 구조를 드러내지 않도록 인코딩된 문자열로 전달한다.
+ * 첫 요청은 postId 를 Long.MAX_VALUE 로 두어 createDate 이하의 모든 게시물을 대상으로 한다.
+ * @author ChoiHyunSan
+ * @since 2025-03-15
+ */
+public record FeedCursor(
+	LocalDateTime createDate,
+	Long postId
+) {
+
+	private static final String DELIMITER = "|";
+
+	public static FeedCursor of(LocalDateTime createDate, Long postId) {
+		return new FeedCursor(createDate, postId);
+	}
+
+	public static FeedCursor first(LocalDateTime timestamp) {
+		return new FeedCursor(timestamp, Long.MAX_VALUE);
+	}
+
+	public boolean isFirst() {
+		return postId == Long.MAX_VALUE;
+	}
+
+	/**
+	 * 이전 방식(timestamp + lastPostId) 요청을 커서로 변환
+	 * @param timestamp 요청 timestamp
+	 * @param lastPostId 마지막으로 받은 게시물 ID (0 이면 첫 요청)
+	 * @return 커서
+	 */
+	public static FeedCursor fromLegacy(LocalDateTime timestamp, Long lastPostId) {
+		return lastPostId == 0L ? first(timestamp) : of(timestamp, lastPostId);
+	}
+
+	public String encode() {
+		String raw = createDate + DELIMITER + postId;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public static FeedCursor decode(String cursor) {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			int index = raw.lastIndexOf(DELIMITER);
+			return new FeedCursor(
+				LocalDateTime.parse(raw.substring(0, index)),
+				Long.valueOf(raw.substring(index + 1)));
+		} catch (RuntimeException e) {
+			throw new FeedException(FeedErrorCode.INVALID_CURSOR_REQUEST);
+		}
+	}
+}
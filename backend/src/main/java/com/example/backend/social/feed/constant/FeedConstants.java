@@ -43,4 +43,44 @@ public class FeedConstants {
 	 * 피드 요청 시 최대로 요청할 수 있는 개수
 	 */
 	public static final int REQUEST_FEED_MAX_SIZE = 20;
+
+	/**
+	 * FAN_OUT_FOLLOWER_THRESHOLD
+	 * 게시물 작성 시 팔로워 타임라인에 push 하는 최대 팔로워 수
+	 * 이 값을 초과하는 작성자의 게시물은 피드 조회 시점에 pull 방식으로 가져온다.
+	 */
+	public static final long FAN_OUT_FOLLOWER_THRESHOLD = 10_000L;
+
+	/**
+	 * TIMELINE_MAX_SIZE
+	 * 멤버별 타임라인에 보관하는 최대 게시물 ID 개수
+	 */
+	public static final int TIMELINE_MAX_SIZE = 800;
+
+	/**
+	 * RECOMMEND_CANDIDATE_MULTIPLIER
+	 * 인기 점수 인덱스에서 후보를 가져올 때 팔로잉 / 본인 게시물 필터링을 고려하여 추가로 가져오는 배수 값
+	 */
+	public static final long RECOMMEND_CANDIDATE_MULTIPLIER = 3L;
+
+	/**
+	 * RECOMMEND_CANDIDATE_MAX_MULTIPLIER
+	 * 이미 본 게시물을 제외하고 후보가 부족할 때 인기 점수 인덱스에서 가져오는 후보 수의 상한 배수 값
+	 */
+	public static final long RECOMMEND_CANDIDATE_MAX_MULTIPLIER = 48L;
+
+	/**
+	 * POPULARITY_*_WEIGHT
+	 * 게시물 인기 점수 계산 시 항목별 가중치
+	 */
+	public static final long POPULARITY_FOLLOWER_WEIGHT = 2L;
+	public static final long POPULARITY_LIKE_WEIGHT = 1L;
+	public static final long POPULARITY_COMMENT_WEIGHT = 1L;
+	public static final long POPULARITY_HASHTAG_WEIGHT = 3L;
+
+	/**
+	 * FEED_SOURCE_TIMEOUT_MILLIS
+	 * 팔로잉 / 추천 피드를 병렬로 조회할 때 각 작업을 기다리는 최대 시간 (밀리초)
+	 */
+	public static final long FEED_SOURCE_TIMEOUT_MILLIS = 1_000L;
 }
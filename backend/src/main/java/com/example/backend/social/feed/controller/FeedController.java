@@ -1,8 +1,14 @@
 package com.example.backend.social.feed.controller;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -10,6 +16,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.example.backend.global.rs.RsData;
 import com.example.backend.identity.security.user.CustomUser;
@@ -19,6 +26,7 @@ import com.example.backend.social.feed.dto.FeedMemberRequest;
 import com.example.backend.social.feed.dto.FeedMemberResponse;
 import com.example.backend.social.feed.dto.FeedRequest;
 import com.example.backend.social.feed.service.FeedService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -39,6 +47,7 @@ import lombok.RequiredArgsConstructor;
 public class FeedController {
 
 	private final FeedService feedService;
+	private final ObjectMapper objectMapper;
 
 	/**
 	 * 팔로잉 게시물과 추천 게시물이 혼합된 피드 리스트 요청
@@ -50,17 +59,47 @@ public class FeedController {
 	@GetMapping
 	@ResponseStatus(HttpStatus.OK)
 	public RsData<FeedListResponse> findFeedList(
-		@RequestParam(name = "timestamp") LocalDateTime timestamp,
-		@RequestParam(name = "lastPostId") Long lastPostId,
+		@RequestParam(name = "timestamp", required = false) LocalDateTime timestamp,
+		@RequestParam(name = "lastPostId", required = false) Long lastPostId,
 		@RequestParam(name = "maxSize") Integer maxSize,
+		@RequestParam(name = "cursor", required = false) String cursor,
 		@AuthenticationPrincipal CustomUser securityUser
 	) {
 		FeedListResponse response = feedService.findList(
-			new FeedRequest(timestamp, lastPostId, maxSize),
+			new FeedRequest(timestamp, lastPostId, maxSize, cursor),
 			securityUser.getId());
 		return RsData.success(response, "피드를 성공적으로 반환했습니다.");
 	}
 
+	/**
+	 * 메인 피드를 준비된 순서대로 한 줄씩 전달하는 스트리밍 요청 (NDJSON)
+	 * 팔로잉 피드, 추천 피드 순서로 피드 1건당 한 줄을 쓰고 바로 flush 하며,
+	 * 마지막 줄에는 다음 페이지 요청을 위한 페이징 정보(feedList 는 비어있음)를 쓴다.
+	 * @return 피드 스트림
+	 */
+	@Operation(
+		summary = "메인 피드 스트리밍 요청",
+		description = "메인 피드를 준비된 순서대로 한 줄씩(NDJSON) 반환하며, 마지막 줄은 페이징 정보입니다.")
+	@GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	@ResponseStatus(HttpStatus.OK)
+	public StreamingResponseBody streamFeedList(
+		@RequestParam(name = "timestamp", required = false) LocalDateTime timestamp,
+		@RequestParam(name = "lastPostId", required = false) Long lastPostId,
+		@RequestParam(name = "maxSize") Integer maxSize,
+		@RequestParam(name = "cursor", required = false) String cursor,
+		@AuthenticationPrincipal CustomUser securityUser
+	) {
+		// 검증은 응답을 쓰기 전에 수행하여 오류는 일반 응답으로 반환한다
+		Function<Consumer<FeedInfoResponse>, FeedListResponse> feedStream = feedService.openStream(
+			new FeedRequest(timestamp, lastPostId, maxSize, cursor),
+			securityUser.getId());
+
+		return outputStream -> {
+			FeedListResponse page = feedStream.apply(feed -> writeRecord(outputStream, feed));
+			writeRecord(outputStream, page);
+		};
+	}
+
 	/**
 	 * 단건 게시글에 대한 피드정보 요청
 	 * @param postId 게시글 ID
@@ -89,13 +128,24 @@ public class FeedController {
 	@GetMapping("/member")
 	@ResponseStatus(HttpStatus.OK)
 	public RsData<FeedMemberResponse> findMemberFeedList(
-		@RequestParam(name = "lastPostId") Long lastPostId,
+		@RequestParam(name = "lastPostId", required = false) Long lastPostId,
 		@RequestParam(name = "maxSize") Integer maxSize,
+		@RequestParam(name = "cursor", required = false) String cursor,
 		@AuthenticationPrincipal CustomUser securityUser
 	) {
 		FeedMemberResponse response = feedService.findMembersList(
-			new FeedMemberRequest(lastPostId, maxSize),
+			new FeedMemberRequest(lastPostId, maxSize, cursor),
 			securityUser.getId());
 		return RsData.success(response, "피드를 성공적으로 반환했습니다.");
 	}
+
+	private void writeRecord(OutputStream outputStream, Object record) {
+		try {
+			outputStream.write(objectMapper.writeValueAsBytes(record));
+			outputStream.write('\n');
+			outputStream.flush();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
 }
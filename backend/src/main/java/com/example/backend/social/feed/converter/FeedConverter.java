@@ -24,7 +24,7 @@ public class FeedConverter {
 			.imgUrlList(feed.getImageUrlList())
 			.postId(feed.getPost().getId())
 			.content(feed.getPost().getContent())
-			.likeCount(feed.getPost().getLikeCount())
+			.likeCount(feed.getLikeCount())
 			.commentCount(feed.getCommentCount())
 			.createdDate(feed.getPost().getCreateDate())
 			.hashTagList(feed.getHashTagList())
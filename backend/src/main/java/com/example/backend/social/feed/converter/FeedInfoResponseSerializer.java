@@ -0,0 +1,65 @@
+package com.example.backend.social.feed.converter;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.example.backend.social.feed.dto.FeedInfoResponse;
+import com.example.backend.social.feed.implement.FeedFragmentCache;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * FeedInfoResponseSerializer
+ * 피드 응답 직렬화 클래스
+ * 조회자마다 달라지는 필드(좋아요 / 북마크 / 카운트)만 매번 직렬화하고,
+ * 나머지 필드는 미리 UTF-8 로 인코딩해 둔 JSON 조각(FeedFragmentCache)을 출력 버퍼에 그대로 복사한다.
+ * Spring 이 구성한 ObjectMapper 에서는 FeedFragmentCache 가 주입되며, 주입되지 않은 경우에는 모든 필드를 직렬화한다.
+ *
+ * @author ChoiHyunSan
+ * @since 2025-03-15
+ */
+public class FeedInfoResponseSerializer extends StdSerializer<FeedInfoResponse> {
+
+	private final FeedFragmentCache feedFragmentCache;
+
+	public FeedInfoResponseSerializer() {
+		this(null);
+	}
+
+	@Autowired
+	public FeedInfoResponseSerializer(FeedFragmentCache feedFragmentCache) {
+		super(FeedInfoResponse.class);
+		this.feedFragmentCache = feedFragmentCache;
+	}
+
+	@Override
+	public void serialize(FeedInfoResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+		gen.writeStartObject(value);
+
+		// 조회자마다 달라지는 필드
+		provider.defaultSerializeField("likeCount", value.likeCount(), gen);
+		provider.defaultSerializeField("commentCount", value.commentCount(), gen);
+		provider.defaultSerializeField("bookmarkId", value.bookmarkId(), gen);
+		provider.defaultSerializeField("likeFlag", value.likeFlag(), gen);
+
+		// 조각은 ',' 로 시작하므로 앞의 필드 뒤에 그대로 이어 붙인다
+		SerializedString fragment = feedFragmentCache != null ? feedFragmentCache.get(value) : null;
+		if (fragment != null) {
+			gen.writeRaw(fragment);
+		} else {
+			provider.defaultSerializeField("authorId", value.authorId(), gen);
+			provider.defaultSerializeField("authorName", value.authorName(), gen);
+			provider.defaultSerializeField("postId", value.postId(), gen);
+			provider.defaultSerializeField("imgUrlList", value.imgUrlList(), gen);
+			provider.defaultSerializeField("content", value.content(), gen);
+			provider.defaultSerializeField("createdDate", value.createdDate(), gen);
+			provider.defaultSerializeField("hashTagList", value.hashTagList(), gen);
+			provider.defaultSerializeField("profileImgUrl", value.profileImgUrl(), gen);
+		}
+
+		gen.writeEndObject();
+	}
+}
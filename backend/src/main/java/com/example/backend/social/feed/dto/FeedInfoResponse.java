@@ -3,6 +3,9 @@ package com.example.backend.social.feed.dto;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import com.example.backend.social.feed.converter.FeedInfoResponseSerializer;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
 import lombok.Builder;
 
 /**
@@ -13,6 +16,7 @@ import lombok.Builder;
  * @since 2025-02-03
  */
 @Builder
+@JsonSerialize(using = FeedInfoResponseSerializer.class)
 public record FeedInfoResponse(
 	// 작성자 정보
 	Long authorId,
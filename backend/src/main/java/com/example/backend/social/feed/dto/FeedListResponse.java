@@ -3,6 +3,8 @@ package com.example.backend.social.feed.dto;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import com.example.backend.social.feed.FeedCursor;
+
 import lombok.Builder;
 
 /**
@@ -16,7 +18,8 @@ import lombok.Builder;
 public record FeedListResponse(
 	List<FeedInfoResponse> feedList,
 	LocalDateTime lastTimestamp,    // 마지막 피드의 timestamp
-	Long lastPostId                // 마지막 피드의 id
+	Long lastPostId,                // 마지막 피드의 id
+	String nextCursor               // 다음 요청에 전달할 커서
 ) {
 
 	public static FeedListResponse create(
@@ -25,6 +28,16 @@ public record FeedListResponse(
 			.feedList(feedList)
 			.lastPostId(lastPostId)
 			.lastTimestamp(lastTimestamp)
+			.nextCursor(FeedCursor.fromLegacy(lastTimestamp, lastPostId).encode())
+			.build();
+	}
+
+	public static FeedListResponse create(List<FeedInfoResponse> feedList, FeedCursor nextCursor) {
+		return FeedListResponse.builder()
+			.feedList(feedList)
+			.lastPostId(nextCursor.postId())
+			.lastTimestamp(nextCursor.createDate())
+			.nextCursor(nextCursor.encode())
 			.build();
 	}
 }
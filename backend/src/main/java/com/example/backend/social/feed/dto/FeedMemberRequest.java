@@ -8,17 +8,24 @@ import lombok.Builder;
  * 멤버 피드 요청 DTO
  * "/feed/member" 로 들어오는 요청 관련 DTO
  *  처음 요청 시에는 lastPostId에 0 값을 집어넣는다.
+ *  cursor 를 전달하면 lastPostId 대신 cursor 로 페이징한다.
  * @author ChoiHyunSan
  * @since 2025-02-07
  */
 @Builder
 public record FeedMemberRequest(
-	@NotNull
 	@Schema(description = "마지막으로 받은 게시물의 번호")
 	Long lastPostId,
 
 	@NotNull
 	@Schema(description = "최대 요청 크기")
-	Integer maxSize
+	Integer maxSize,
+
+	@Schema(description = "이전 응답으로 받은 커서")
+	String cursor
 ) {
+
+	public FeedMemberRequest(Long lastPostId, Integer maxSize) {
+		this(lastPostId, maxSize, null);
+	}
 }
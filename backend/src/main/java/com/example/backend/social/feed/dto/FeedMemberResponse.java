@@ -14,13 +14,15 @@ import lombok.Builder;
 @Builder
 public record FeedMemberResponse(
 	List<FeedInfoResponse> feedList,
-	Long lastPostId                // 마지막 피드의 id
+	Long lastPostId,                // 마지막 피드의 id
+	String nextCursor               // 다음 요청에 전달할 커서
 ) {
 
-	public static FeedMemberResponse create(List<FeedInfoResponse> feedList, Long lastPostId) {
+	public static FeedMemberResponse create(List<FeedInfoResponse> feedList, Long lastPostId, String nextCursor) {
 		return FeedMemberResponse.builder()
 			.feedList(feedList)
 			.lastPostId(lastPostId)
+			.nextCursor(nextCursor)
 			.build();
 	}
 }
@@ -21,6 +21,7 @@ public enum FeedErrorCode implements ErrorCodeIfs {
 	INVALID_TIMESTAMP_REQUEST(HttpStatus.BAD_REQUEST, "유효하지 않은 타임스탬프입니다."),
 	INVALID_MAXSIZE_REQUEST(HttpStatus.BAD_REQUEST, "유효하지 않은 범위의 요청 개수입니다."),
 	INVALID_POST_ID_REQUEST(HttpStatus.BAD_REQUEST, "유효하지 않은 게시물 ID로 요청했습니다."),
+	INVALID_CURSOR_REQUEST(HttpStatus.BAD_REQUEST, "유효하지 않은 커서로 요청했습니다."),
 	INVALID_POST_REQUEST(HttpStatus.NOT_FOUND, "유효하지 않은 게시물에 대한 피드 요청입니다.");
 
 	private final HttpStatus httpStatus;
@@ -0,0 +1,101 @@
+package com.example.backend.social.feed.implement;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.example.backend.social.feed.dto.FeedInfoResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/***
+ * FeedFragmentCache
+ * 피드 응답 중 조회자와 무관한 부분(작성자 / 내용 / 이미지 / 해시태그 / 작성일)을
+ * 미리 UTF-8 JSON 조각으로 인코딩하여 게시물 단위로 보관하는 로컬 캐시
+ * 게시물의 해시태그 / 이미지 / 내용이 바뀌면 PostHydrationCache 무효화 시점에 함께 무효화된다.
+ * @author ChoiHyunSan
+ * @since 2025-03-15
+ */
+@Slf4j
+@Component
+public class FeedFragmentCache {
+
+	// 작성자 프로필 변경 등 명시적으로 무효화하지 않는 변경은 만료 시간으로 반영
+	private static final Duration FRAGMENT_TTL = Duration.ofMinutes(10);
+	private static final long FRAGMENT_MAX_SIZE = 10_000L;
+
+	private final ObjectMapper objectMapper;
+	private final Cache<Long, SerializedString> fragmentCache = Caffeine.newBuilder()
+		.maximumSize(FRAGMENT_MAX_SIZE)
+		.expireAfterWrite(FRAGMENT_TTL)
+		.build();
+
+	public FeedFragmentCache(ObjectMapper objectMapper) {
+		this.objectMapper = objectMapper;
+	}
+
+	/**
+	 * 피드 응답의 조회자 무관 필드를 JSON 조각으로 반환 (없으면 생성하여 캐싱)
+	 * 조각은 객체 중간에 이어 붙일 수 있도록 ',' 로 시작하고 중괄호는 포함하지 않는다.
+	 * @param response 피드 응답
+	 * @return JSON 조각 (게시물 ID 가 없거나 직렬화에 실패하면 null)
+	 */
+	public SerializedString get(FeedInfoResponse response) {
+		if (response.postId() == null) {
+			return null;
+		}
+		return fragmentCache.get(response.postId(), postId -> createFragment(response));
+	}
+
+	/**
+	 * 게시물의 JSON 조각을 무효화
+	 * @param postId 게시물 ID
+	 */
+	public void evict(Long postId) {
+		fragmentCache.invalidate(postId);
+	}
+
+	private SerializedString createFragment(FeedInfoResponse response) {
+		FeedContent content = new FeedContent(
+			response.authorId(),
+			response.authorName(),
+			response.postId(),
+			response.imgUrlList(),
+			response.content(),
+			response.createdDate(),
+			response.hashTagList(),
+			response.profileImgUrl());
+
+		try {
+			String json = objectMapper.writeValueAsString(content);
+			SerializedString fragment = new SerializedString("," + json.substring(1, json.length() - 1));
+
+			// UTF-8 인코딩 결과를 미리 만들어 두어 응답마다 다시 인코딩하지 않도록 한다
+			fragment.asUnquotedUTF8();
+			return fragment;
+		} catch (JsonProcessingException e) {
+			log.warn("피드 JSON 조각 생성 실패: {}", e.getMessage());
+			return null;
+		}
+	}
+
+	// FeedInfoResponse 중 조회자와 무관한 필드 (필드명은 FeedInfoResponse 와 동일해야 한다)
+	private record FeedContent(
+		Long authorId,
+		String authorName,
+		Long postId,
+		List<String> imgUrlList,
+		String content,
+		LocalDateTime createdDate,
+		List<String> hashTagList,
+		String profileImgUrl
+	) {
+	}
+}
@@ -1,17 +1,19 @@
 package com.example.backend.social.feed.implement;
 
 import static com.example.backend.entity.QBookmarkEntity.*;
-import static com.example.backend.entity.QCommentEntity.*;
 import static com.example.backend.entity.QHashtagEntity.*;
 import static com.example.backend.entity.QImageEntity.*;
 import static com.example.backend.entity.QLikeEntity.*;
 import static com.example.backend.entity.QPostEntity.*;
 import static com.example.backend.entity.QPostHashtagEntity.*;
+import static com.example.backend.entity.QPostStatsEntity.*;
 import static com.example.backend.social.feed.constant.FeedConstants.*;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -20,15 +22,18 @@ import org.springframework.stereotype.Component;
 
 import com.example.backend.entity.MemberEntity;
 import com.example.backend.social.feed.Feed;
+import com.example.backend.social.feed.FeedCursor;
 import com.example.backend.social.feed.exception.FeedErrorCode;
 import com.example.backend.social.feed.exception.FeedException;
+import com.example.backend.social.feed.implement.PostHydrationCache.PostHydration;
 import com.example.backend.social.feed.schedular.FeedScheduler;
+import com.example.backend.social.reaction.like.dto.LikeStatus;
+import com.example.backend.social.reaction.like.util.component.RedisLikeService;
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.jpa.JPAExpressions;
-import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import lombok.RequiredArgsConstructor;
@@ -45,6 +50,10 @@ public class FeedSelectorCache {
 
 	private final JPAQueryFactory queryFactory;
 	private final FeedScheduler scheduler;
+	private final PostPopularityIndex postPopularityIndex;
+	private final PostHydrationCache postHydrationCache;
+	private final SeenPostFilter seenPostFilter;
+	private final RedisLikeService redisLikeService;
 
 	/**
 	 * 단건 게시물에 대한 피드를 반환
@@ -53,11 +62,10 @@ public class FeedSelectorCache {
 	 * @return 피드 단건
 	 */
 	public Feed findByPostId(Long postId, MemberEntity member) {
-		List<Feed> feedList = queryFactory.select(
-				Projections.constructor(Feed.class,
-					postEntity,
-					commentCountByPost()))
+		List<Feed> feedList = queryFactory.select(feedProjection())
 			.from(postEntity)
+			.leftJoin(postStatsEntity)
+			.on(postStatsEntity.postId.eq(postEntity.id))
 			.where(postEntity.id.eq(postId).and(postEntity.isDeleted.isFalse()))
 			.fetch();
 
@@ -69,38 +77,113 @@ public class FeedSelectorCache {
 		return feedList.getFirst();
 	}
 
-	/***
-	 * 팔로워가 팔로우중인 Member 들의 게시물을 얻는다.
-	 * 파라미터로 넘어오는 timestamp 이전에 등록된 게시물들에 한해서 최대 limit 개수만큼 리스트에 담는다.
-	 * timestamp 가 동일한 경우에 대비하여 lastPostId를 같이 받아서 처리한다.
-	 * @param member 팔로워 Entity 객체
-	 * @param lastPostId 최근 받아간 피드 중 가장 마지막 ID
-	 * @param limit 한 번에 받아올 리스트의 최대 크기
+	/**
+	 * 마지막으로 받은 게시물 ID 로 커서를 생성 (커서 없이 lastPostId 로 요청한 경우)
+	 * @param lastPostId 마지막으로 받은 게시물 ID (0 이면 첫 요청)
+	 * @return 커서
+	 */
+	public FeedCursor findCursor(Long lastPostId) {
+		if (lastPostId == 0L) {
+			return FeedCursor.first(LocalDateTime.now());
+		}
+
+		LocalDateTime createDate = findCreateDate(lastPostId);
+		if (createDate == null) {
+			throw new FeedException(FeedErrorCode.INVALID_POST_ID_REQUEST);
+		}
+		return FeedCursor.of(createDate, lastPostId);
+	}
+
+	/**
+	 * 게시물의 작성 시간을 반환 (추천 탐색 범위를 정할 때 사용)
+	 * @param postId 게시물 ID
+	 * @return 작성 시간 (게시물이 없으면 null)
+	 */
+	public LocalDateTime findCreateDate(Long postId) {
+		return queryFactory.select(postEntity.createDate)
+			.from(postEntity)
+			.where(postEntity.id.eq(postId))
+			.fetchOne();
+	}
+
+	/**
+	 * 타임라인에서 꺼낸 게시물 ID 목록에 대한 피드를 반환
+	 * 삭제된 게시물은 제외하며, 게시물 ID 내림차순으로 정렬한다.
+	 * @param postIds 게시물 ID 리스트
+	 * @param member 요청한 유저의 멤버 Entity 객체
 	 * @return 피드 리스트
 	 */
-	public List<Feed> findByFollower(final MemberEntity member, final Long lastPostId, final int limit) {
+	public List<Feed> findByPostIds(final List<Long> postIds, final MemberEntity member) {
+		if (postIds.isEmpty()) {
+			return new ArrayList<>();
+		}
 
-		// Post 정보와 count 를 조회
-		List<Feed> feedList = queryFactory.select(
-				Projections.constructor(Feed.class,
-					postEntity,
-					commentCountByPost()))
+		List<Feed> feedList = queryFactory.select(feedProjection())
 			.from(postEntity)
+			.leftJoin(postStatsEntity)
+			.on(postStatsEntity.postId.eq(postEntity.id))
 			.join(postEntity.member)
 			.fetchJoin()
-			.where(
-				findPostsBeforeId(lastPostId)
-					.and(isFollowingOrOwnPost(member))
-					.and(postEntity.isDeleted.isFalse()))
-			.groupBy(postEntity)
-			.orderBy(postEntity.createDate.desc())
-			.limit(limit)
+			.where(postEntity.id.in(postIds).and(postEntity.isDeleted.isFalse()))
+			.orderBy(postEntity.id.desc())
 			.fetch();
 
 		fillFeedData(feedList, member);
 		return feedList;
 	}
 
+	/**
+	 * 타임라인을 새로 구성하기 위한 게시물 ID 목록을 반환
+	 * 본인 게시물과 fan-out 대상인 팔로잉 멤버의 게시물만 포함한다.
+	 * @param member 타임라인 주인의 멤버 Entity 객체
+	 * @param limit 최대 개수
+	 * @return 게시물 ID 리스트 (내림차순)
+	 */
+	public List<Long> findTimelinePostIds(final MemberEntity member, final int limit) {
+		return findTimelinePostIds(member, 0L, limit);
+	}
+
+	/**
+	 * 타임라인에 담기는 게시물 중 lastPostId 이전의 게시물 ID 목록을 반환 (타임라인 보관 범위 밖의 페이지)
+	 * @param member 타임라인 주인의 멤버 Entity 객체
+	 * @param lastPostId 마지막으로 받은 게시물 ID (0 이면 처음부터)
+	 * @param limit 최대 개수
+	 * @return 게시물 ID 리스트 (내림차순)
+	 */
+	public List<Long> findTimelinePostIds(final MemberEntity member, final Long lastPostId, final int limit) {
+		return queryFactory.select(postEntity.id)
+			.from(postEntity)
+			.where(isBeforePostId(lastPostId).and(isTimelinePost(member)).and(postEntity.isDeleted.isFalse()))
+			.orderBy(postEntity.id.desc())
+			.limit(limit)
+			.fetch();
+	}
+
+	/**
+	 * 팔로워 수가 많아 fan-out 하지 않는 팔로잉 멤버의 게시물 ID 를 조회 시점에 가져온다 (pull)
+	 * @param member 요청한 유저의 멤버 Entity 객체
+	 * @param lastPostId 마지막으로 받은 게시물 ID
+	 * @param limit 최대 개수
+	 * @return 게시물 ID 리스트 (내림차순)
+	 */
+	public List<Long> findPulledPostIds(final MemberEntity member, final Long lastPostId, final int limit) {
+		List<String> followingList = member.getFollowingList();
+		if (followingList.isEmpty()) {
+			return new ArrayList<>();
+		}
+
+		return queryFactory.select(postEntity.id)
+			.from(postEntity)
+			.where(
+				isBeforePostId(lastPostId)
+					.and(postEntity.member.username.in(followingList))
+					.and(postEntity.member.followerCount.gt(FAN_OUT_FOLLOWER_THRESHOLD))
+					.and(postEntity.isDeleted.isFalse()))
+			.orderBy(postEntity.id.desc())
+			.limit(limit)
+			.fetch();
+	}
+
 	/**
 	 * 추천 게시물을 취합하여 반환한다
 	 * 팔로잉 게시물과 member 자신의 게시물은 제외한다
@@ -113,11 +196,78 @@ public class FeedSelectorCache {
 	public List<Feed> findRecommendFinder(
 		final MemberEntity member, final LocalDateTime startTime, final LocalDateTime lastTime, final int limit) {
 
+		long poolSize = limit * RECOMMEND_RANDOM_POOL_MULTIPLIER;
+
+		// 인기 점수 인덱스에서 후보를 먼저 가져오고, 인덱스가 비어있는 경우에만 DB 에서 점수를 계산한다
+		long candidateCount = poolSize * RECOMMEND_CANDIDATE_MULTIPLIER;
+		List<Long> candidateIds = postPopularityIndex.findTopPostIds(startTime, lastTime, candidateCount);
+		if (candidateIds.isEmpty()) {
+			List<Feed> feedList = findRecommendPoolByScore(member, startTime, lastTime, poolSize);
+			return sampleRecommendFeeds(feedList, member, limit);
+		}
+
+		// 이전 페이지에서 이미 내려준 게시물은 샘플링 전에 후보에서 제외하고,
+		// 남은 후보가 부족하면 인덱스에서 더 깊이 가져온다 (인덱스의 후보를 모두 읽었거나 상한에 도달하면 중단)
+		List<Long> unseenIds = seenPostFilter.filterUnseen(member.getId(), candidateIds);
+		while (unseenIds.size() < poolSize
+			&& candidateIds.size() == candidateCount
+			&& candidateCount < poolSize * RECOMMEND_CANDIDATE_MAX_MULTIPLIER) {
+			candidateCount = Math.min(candidateCount * 2, poolSize * RECOMMEND_CANDIDATE_MAX_MULTIPLIER);
+			candidateIds = postPopularityIndex.findTopPostIds(startTime, lastTime, candidateCount);
+			unseenIds = seenPostFilter.filterUnseen(member.getId(), candidateIds);
+		}
+
+		List<Feed> feedList = unseenIds.isEmpty()
+			? new ArrayList<>()
+			: findRecommendPoolByIndex(member, startTime, lastTime, unseenIds, poolSize);
+		return sampleRecommendFeeds(feedList, member, limit);
+	}
+
+	private List<Feed> sampleRecommendFeeds(List<Feed> feedList, MemberEntity member, int limit) {
+		// 랜덤하게 뽑는다
+		Collections.shuffle(feedList);
+		feedList = feedList.subList(0, Math.min(limit, feedList.size()));
+
+		fillFeedData(feedList, member);
+		return feedList;
+	}
+
+	private List<Feed> findRecommendPoolByIndex(
+		MemberEntity member, LocalDateTime startTime, LocalDateTime lastTime, List<Long> candidateIds, long poolSize) {
+
+		Map<Long, Integer> rankByPostId = new HashMap<>();
+		for (int rank = 0; rank < candidateIds.size(); rank++) {
+			rankByPostId.put(candidateIds.get(rank), rank);
+		}
+
+		List<Feed> feedList = queryFactory.select(feedProjection())
+			.from(postEntity)
+			.leftJoin(postStatsEntity)
+			.on(postStatsEntity.postId.eq(postEntity.id))
+			.join(postEntity.member)
+			.fetchJoin()
+			.where(
+				postEntity.id.in(candidateIds)
+					.and(findByDateBetweenExclusiveStart(startTime, lastTime))
+					.and(isRecommendableToMember(member))
+					.and(postEntity.isDeleted.isFalse()))
+			.fetch();
+
+		// 인덱스의 점수 순서를 유지한 채로 풀 크기만큼 자른다
+		return feedList.stream()
+			.sorted(Comparator.comparing(feed -> rankByPostId.get(feed.getPost().getId())))
+			.limit(poolSize)
+			.collect(Collectors.toCollection(ArrayList::new));
+	}
+
+	private List<Feed> findRecommendPoolByScore(
+		MemberEntity member, LocalDateTime startTime, LocalDateTime lastTime, long poolSize) {
+
 		// 이거로 구할 수 있는 것 => 좋아요 개수가 많은 순, 댓글 수가 많은 순으로 구할 수 있다.
-		List<Feed> feedList = queryFactory.select(Projections.constructor(Feed.class,
-				postEntity,
-				commentCountByPost()))
+		List<Feed> feedList = queryFactory.select(feedProjection())
 			.from(postEntity)
+			.leftJoin(postStatsEntity)
+			.on(postStatsEntity.postId.eq(postEntity.id))
 			.join(postEntity.member)
 			.fetchJoin()
 			.where(
@@ -125,33 +275,47 @@ public class FeedSelectorCache {
 					.and(isRecommendableToMember(member))
 					.and(postEntity.isDeleted.isFalse()))
 			.orderBy(calculatePostPopularityScore())
-			.limit(limit * RECOMMEND_RANDOM_POOL_MULTIPLIER)
+			.limit(poolSize)
 			.fetch();
 
-		// 랜덤하게 뽑는다
-		Collections.shuffle(feedList);
-		feedList = feedList.subList(0, Math.min(limit, feedList.size()));
-
-		fillFeedData(feedList, member);
-		return feedList;
+		List<Long> unseenIds = seenPostFilter.filterUnseen(
+			member.getId(), feedList.stream().map(feed -> feed.getPost().getId()).toList());
+		return feedList.stream()
+			.filter(feed -> unseenIds.contains(feed.getPost().getId()))
+			.collect(Collectors.toCollection(ArrayList::new));
 	}
 
 	/**
 	 * 해당 멤버가 작성한 게시물에 대한 피드를 반환
+	 * lastPostId 로 커서를 만들어 {@link #findByMember(MemberEntity, FeedCursor, Integer)} 로 조회한다.
 	 * @param member 멤버 엔티티 객체
 	 * @param lastPostId 마지막으로 받은 게시물의 ID
 	 * @param limit 페이징 최대 크기
 	 * @return 피드 리스트
 	 */
 	public List<Feed> findByMember(final MemberEntity member, final Long lastPostId, final Integer limit) {
-		List<Feed> feedList = queryFactory.select(Projections.constructor(Feed.class,
-				postEntity,
-				commentCountByPost()))
+		return findByMember(member, findCursor(lastPostId), limit);
+	}
+
+	/**
+	 * 해당 멤버가 작성한 게시물에 대한 피드를 반환
+	 * @param member 멤버 엔티티 객체
+	 * @param cursor 마지막으로 받은 게시물의 커서
+	 * @param limit 페이징 최대 크기
+	 * @return 피드 리스트
+	 */
+	public List<Feed> findByMember(final MemberEntity member, final FeedCursor cursor, final Integer limit) {
+		List<Feed> feedList = queryFactory.select(feedProjection())
 			.from(postEntity)
+			.leftJoin(postStatsEntity)
+			.on(postStatsEntity.postId.eq(postEntity.id))
 			.join(postEntity.member)
 			.fetchJoin()
-			.where(findMemberPostAndPaging(member, lastPostId).and(postEntity.isDeleted.isFalse()))
-			.orderBy(postEntity.createDate.desc())
+			.where(
+				postEntity.member.id.eq(member.getId())
+					.and(postEntity.isDeleted.isFalse())
+					.and(isBeforeCursor(cursor)))
+			.orderBy(postEntity.createDate.desc(), postEntity.id.desc())
 			.limit(limit)
 			.fetch();
 
@@ -159,36 +323,12 @@ public class FeedSelectorCache {
 		return feedList;
 	}
 
-	private static BooleanExpression findMemberPostAndPaging(MemberEntity member, Long lastPostId) {
-		if (lastPostId == 0L) {
-			return postEntity.member.id.eq(member.getId());
-		}
-		return postEntity.member.id.eq(member.getId()).and(postEntity.id.lt(lastPostId));
-	}
-
 	private void fillFeedData(List<Feed> feeds, MemberEntity member) {
 
 		List<Long> postIds = feeds.stream().map(feed -> feed.getPost().getId()).collect(Collectors.toList());
 
-		Map<Long, List<String>> hashtagsByPostId = queryFactory.select(postHashtagEntity.post.id, hashtagEntity.content)
-			.from(postHashtagEntity)
-			.join(hashtagEntity)
-			.on(postHashtagEntity.hashtag.eq(hashtagEntity))
-			.where(postHashtagEntity.post.id.in(postIds))
-			.fetch()  // Tuple 리스트로 조회
-			.stream()
-			.collect(Collectors.groupingBy(tuple -> tuple.get(0, Long.class),        // postId로 그룹핑
-				Collectors.mapping(tuple -> tuple.get(1, String.class),            // content를 리스트로 수집
-					Collectors.toList())));
-
-		Map<Long, List<String>> imageUrlsByPostId = queryFactory.select(imageEntity.post.id, imageEntity.imageUrl)
-			.from(imageEntity)
-			.where(imageEntity.post.id.in(postIds))
-			.fetch()  // Tuple 리스트로 조회
-			.stream()
-			.collect(Collectors.groupingBy(tuple -> tuple.get(0, Long.class),    // postId로 그룹핑
-				Collectors.mapping(tuple -> tuple.get(1, String.class),            // imageUrl을 리스트로 수집
-					Collectors.toList())));
+		// 해시태그 / 이미지 URL 은 거의 바뀌지 않으므로 캐시에서 먼저 찾는다
+		Map<Long, PostHydration> hydrationByPostId = postHydrationCache.findAll(postIds, this::loadHydration);
 
 		Map<Long, Long> bookmarkByPostId = queryFactory.select(bookmarkEntity.id, bookmarkEntity.post.id)
 			.from(bookmarkEntity)
@@ -202,11 +342,17 @@ public class FeedSelectorCache {
 				tuple -> tuple.get(bookmarkEntity.id)
 			));
 
-		// 좋아요 정보 조회 추가
-		Map<Long, Boolean> likeByPostId = queryFactory.select(likeEntity.resourceId)
+		// 좋아요 여부 / 좋아요 수는 DB 동기화 전의 최신 값이 있는 Redis 에서 먼저 찾는다
+		Map<Long, LikeStatus> likeStatusByPostId = redisLikeService.findLikeStatuses(member.getId(), "POST", postIds);
+		List<Long> likeMisses = postIds.stream()
+			.filter(postId -> likeStatusByPostId.getOrDefault(postId, LikeStatus.UNKNOWN).isLiked() == null)
+			.toList();
+
+		// Redis 에 없는 게시물만 좋아요 정보 조회
+		Map<Long, Boolean> likeByPostId = likeMisses.isEmpty() ? Map.of() : queryFactory.select(likeEntity.resourceId)
 			.from(likeEntity)
 			.where(
-				likeEntity.resourceId.in(postIds)
+				likeEntity.resourceId.in(likeMisses)
 					.and(likeEntity.member.id.eq(member.getId()))
 					.and(likeEntity.resourceType.eq("POST"))  // 게시물 타입만 필터링
 					.and(likeEntity.isLiked.isTrue()))        // 좋아요가 활성화된 상태만
@@ -220,26 +366,60 @@ public class FeedSelectorCache {
 
 		feeds.forEach(feed -> {
 			Long postId = feed.getPost().getId();
+			LikeStatus likeStatus = likeStatusByPostId.getOrDefault(postId, LikeStatus.UNKNOWN);
 			feed.fillData(
-				hashtagsByPostId.getOrDefault(postId, new ArrayList<>()),
-				imageUrlsByPostId.getOrDefault(postId, new ArrayList<>()),
+				hydrationByPostId.getOrDefault(postId, PostHydration.EMPTY).hashtagList(),
+				hydrationByPostId.getOrDefault(postId, PostHydration.EMPTY).imageUrlList(),
 				bookmarkByPostId.getOrDefault(postId, -1L),
-				likeByPostId.getOrDefault(postId, false)
+				likeStatus.isLiked() != null ? likeStatus.isLiked() : likeByPostId.getOrDefault(postId, false)
 
 			);
+			// Redis 에 좋아요 수가 없으면 post_stats 의 값을 그대로 사용
+			if (likeStatus.likeCount() != null) {
+				feed.setLikeCount(likeStatus.likeCount());
+			}
 		});
 
 	}
 
+	// 캐시에 없는 게시물의 해시태그 / 이미지 URL 을 DB 에서 조회
+	private Map<Long, PostHydration> loadHydration(List<Long> postIds) {
+		Map<Long, List<String>> hashtagsByPostId = queryFactory.select(postHashtagEntity.post.id, hashtagEntity.content)
+			.from(postHashtagEntity)
+			.join(hashtagEntity)
+			.on(postHashtagEntity.hashtag.eq(hashtagEntity))
+			.where(postHashtagEntity.post.id.in(postIds))
+			.fetch()  // Tuple 리스트로 조회
+			.stream()
+			.collect(Collectors.groupingBy(tuple -> tuple.get(0, Long.class),        // postId로 그룹핑
+				Collectors.mapping(tuple -> tuple.get(1, String.class),            // content를 리스트로 수집
+					Collectors.toList())));
+
+		Map<Long, List<String>> imageUrlsByPostId = queryFactory.select(imageEntity.post.id, imageEntity.imageUrl)
+			.from(imageEntity)
+			.where(imageEntity.post.id.in(postIds))
+			.fetch()  // Tuple 리스트로 조회
+			.stream()
+			.collect(Collectors.groupingBy(tuple -> tuple.get(0, Long.class),    // postId로 그룹핑
+				Collectors.mapping(tuple -> tuple.get(1, String.class),            // imageUrl을 리스트로 수집
+					Collectors.toList())));
+
+		Map<Long, PostHydration> hydrationByPostId = new HashMap<>();
+		postIds.forEach(postId -> hydrationByPostId.put(postId, new PostHydration(
+			hashtagsByPostId.getOrDefault(postId, new ArrayList<>()),
+			imageUrlsByPostId.getOrDefault(postId, new ArrayList<>()))));
+		return hydrationByPostId;
+	}
+
 	// 좋아요 개수 / 팔로워 수 / 댓글 수에 각각 점수를 매겨서 정렬
 	private OrderSpecifier<Double> calculatePostPopularityScore() {
 		return Expressions.numberTemplate(Double.class,
-				"({1} * 2) + "
-					+ "(select count(*) from CommentEntity c where c.post.id = {0}) + "
+				"({1} * 2) + {2} + "
 					+ "(select case when count(*) > 0 then 3 else 0 end "
-					+ "from PostHashtagEntity ph where ph.post.id = {0} and ph.hashtag.id in ({2}))",
+					+ "from PostHashtagEntity ph where ph.post.id = {0} and ph.hashtag.id in ({3}))",
 				postEntity.id,
 				postEntity.member.followerCount,
+				postStatsEntity.commentCount.coalesce(0L),
 				scheduler.getPopularHashtagList())
 			.desc();
 	}
@@ -264,7 +444,7 @@ public class FeedSelectorCache {
 		return postEntity.member.id.notIn(member.getId());
 	}
 
-	private BooleanExpression isFollowingOrOwnPost(MemberEntity member) {
+	private BooleanExpression isTimelinePost(MemberEntity member) {
 		List<String> followingList = member.getFollowingList();
 
 		if (followingList.isEmpty()) {
@@ -272,6 +452,7 @@ public class FeedSelectorCache {
 		}
 
 		return postEntity.member.username.in(followingList)
+			.and(postEntity.member.followerCount.loe(FAN_OUT_FOLLOWER_THRESHOLD))
 			.or(postEntity.member.eq(member));
 	}
 
@@ -280,15 +461,24 @@ public class FeedSelectorCache {
 			.and(isNotAuthorOfPost(member));
 	}
 
-	private static JPQLQuery<Long> commentCountByPost() {
-		return JPAExpressions.select(commentEntity.count())
-			.from(commentEntity)
-			.where(commentEntity.post.eq(postEntity));
+	// 댓글 수 / 좋아요 수는 post_stats 집계 테이블에서 읽는다 (집계 row 가 없으면 0)
+	private static Expression<Feed> feedProjection() {
+		return Projections.constructor(Feed.class,
+			postEntity,
+			postStatsEntity.commentCount.coalesce(0L),
+			postStatsEntity.likeCount.coalesce(0L));
+	}
+
+	// (createDate, id) 가 커서보다 앞선 게시물 (createDate desc, id desc 정렬과 같은 순서)
+	private static BooleanExpression isBeforeCursor(FeedCursor cursor) {
+		return postEntity.createDate.lt(cursor.createDate())
+			.or(postEntity.createDate.eq(cursor.createDate()).and(postEntity.id.lt(cursor.postId())));
 	}
 
-	private BooleanExpression findPostsBeforeId(Long lastPostId) {
+	// 타임라인과 같은 게시물 ID 순서로 페이징 (0 이면 처음부터)
+	private static BooleanExpression isBeforePostId(Long lastPostId) {
 		if (lastPostId == 0L) {
-			return postEntity.createDate.before(LocalDateTime.now());
+			return Expressions.TRUE;
 		}
 		return postEntity.id.lt(lastPostId);
 	}
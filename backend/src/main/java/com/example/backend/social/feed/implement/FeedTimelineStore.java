@@ -0,0 +1,194 @@
+package com.example.backend.social.feed.implement;
+
+import static com.example.backend.social.feed.constant.FeedConstants.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.RequiredArgsConstructor;
+
+/***
+ * FeedTimelineStore
+ * 멤버별로 미리 계산된 팔로잉 타임라인(게시물 ID 목록)을 Redis Sorted Set 으로 관리하는 컴포넌트
+ * score 와 member 모두 게시물 ID 를 사용하므로 lastPostId 커서로 그대로 페이징할 수 있다.
+ * 타임라인은 최신 게시물 ID 를 최대 TIMELINE_MAX_SIZE 개만 보관하며, 보관 중인 가장 오래된 게시물 이후로는 빠짐없이 담는다.
+ * (push 는 이미 만들어진 타임라인에만 반영하고, 팔로우 관계가 바뀌면 커밋 이후에 제거한다)
+ * 더 오래된 게시물이 DB 에 남아있을 수 있으므로, 완료 표식 키가 없으면 범위 밖 페이지는 호출 측에서 DB 로 이어서 조회한다.
+ * @author ChoiHyunSan
+ * @since 2025-03-14
+ */
+@Component
+@RequiredArgsConstructor
+public class FeedTimelineStore {
+
+	private static final String TIMELINE_KEY_FORMAT = "feed:timeline:%d";
+	private static final String COMPLETE_KEY_SUFFIX = ":complete";
+	private static final Duration TIMELINE_TTL = Duration.ofDays(7);
+	private static final int PUSH_CHUNK_SIZE = 500;
+
+	// 팔로잉 게시물이 하나도 없는 멤버도 타임라인이 생성된 것으로 보기 위한 표식 (score 0)
+	private static final String EMPTY_MARKER = "0";
+
+	// 이미 존재하는 타임라인에만 게시물을 추가하고, 최대 크기를 넘는 오래된 게시물은 잘라낸다
+	// rank 0 은 항상 EMPTY_MARKER 이므로 rank 1 부터 잘라내며, 잘라낸 게시물이 있으면 완료 표식을 지운다
+	// (KEYS : 타임라인 키와 완료 표식 키의 쌍)
+	private static final RedisScript<Long> PUSH_SCRIPT = new DefaultRedisScript<>(
+		"local pushed = 0 "
+			+ "for i = 1, #KEYS, 2 do "
+			+ "  if redis.call('EXISTS', KEYS[i]) == 1 then "
+			+ "    redis.call('ZADD', KEYS[i], ARGV[1], ARGV[1]) "
+			+ "    if redis.call('ZREMRANGEBYRANK', KEYS[i], 1, -(tonumber(ARGV[2]) + 1)) > 0 then "
+			+ "      redis.call('DEL', KEYS[i + 1]) "
+			+ "    end "
+			+ "    pushed = pushed + 1 "
+			+ "  end "
+			+ "end "
+			+ "return pushed",
+		Long.class);
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	/**
+	 * 해당 멤버의 타임라인이 만들어져 있는지 확인
+	 * @param memberId 멤버 ID
+	 * @return 타임라인 존재 여부
+	 */
+	public boolean exists(Long memberId) {
+		return Boolean.TRUE.equals(stringRedisTemplate.hasKey(getKey(memberId)));
+	}
+
+	/**
+	 * 타임라인이 DB 의 팔로잉 게시물을 모두 담고 있는지 확인
+	 * false 이면 타임라인의 가장 오래된 게시물보다 이전 게시물은 DB 에서 조회해야 한다.
+	 * @param memberId 멤버 ID
+	 * @return 완료 여부
+	 */
+	public boolean isComplete(Long memberId) {
+		return Boolean.TRUE.equals(stringRedisTemplate.hasKey(getCompleteKey(memberId)));
+	}
+
+	/**
+	 * 타임라인에서 lastPostId 이전의 게시물 ID 를 최신순으로 최대 limit 개 반환
+	 * @param memberId 멤버 ID
+	 * @param lastPostId 마지막으로 받은 게시물 ID (0 이면 처음부터)
+	 * @param limit 최대 개수
+	 * @return 게시물 ID 리스트 (내림차순)
+	 */
+	public List<Long> findPostIds(Long memberId, Long lastPostId, int limit) {
+		double max = lastPostId == 0L ? Double.POSITIVE_INFINITY : lastPostId - 1;
+		Set<String> postIds = stringRedisTemplate.opsForZSet()
+			.reverseRangeByScore(getKey(memberId), 1, max, 0, limit);
+
+		if (postIds == null || postIds.isEmpty()) {
+			return Collections.emptyList();
+		}
+		return postIds.stream().map(Long::valueOf).toList();
+	}
+
+	/**
+	 * DB 에서 조회한 게시물 ID 로 타임라인을 새로 구성
+	 * @param memberId 멤버 ID
+	 * @param postIds 타임라인에 담을 게시물 ID 리스트
+	 */
+	public void initialize(Long memberId, List<Long> postIds) {
+		String key = getKey(memberId);
+
+		Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+		tuples.add(ZSetOperations.TypedTuple.of(EMPTY_MARKER, 0d));
+		postIds.forEach(postId -> tuples.add(ZSetOperations.TypedTuple.of(String.valueOf(postId), (double)postId)));
+
+		stringRedisTemplate.delete(key);
+		stringRedisTemplate.opsForZSet().add(key, tuples);
+		stringRedisTemplate.expire(key, TIMELINE_TTL);
+
+		// 최대 크기보다 적게 조회되었으면 DB 의 게시물을 모두 담은 상태
+		String completeKey = getCompleteKey(memberId);
+		if (postIds.size() < TIMELINE_MAX_SIZE) {
+			stringRedisTemplate.opsForValue().set(completeKey, "1", TIMELINE_TTL);
+		} else {
+			stringRedisTemplate.delete(completeKey);
+		}
+	}
+
+	/**
+	 * 새 게시물 ID 를 각 멤버의 타임라인에 push (fan-out-on-write)
+	 * 타임라인이 아직 없는 멤버는 조회 시점에 DB 에서 새로 구성하므로 건너뛴다.
+	 * @param memberIds 게시물을 받을 멤버 ID 리스트
+	 * @param postId 게시물 ID
+	 */
+	public void push(List<Long> memberIds, Long postId) {
+		for (int from = 0; from < memberIds.size(); from += PUSH_CHUNK_SIZE) {
+			List<String> keys = new ArrayList<>();
+			memberIds.subList(from, Math.min(from + PUSH_CHUNK_SIZE, memberIds.size()))
+				.forEach(memberId -> {
+					keys.add(getKey(memberId));
+					keys.add(getCompleteKey(memberId));
+				});
+
+			stringRedisTemplate.execute(PUSH_SCRIPT, keys, String.valueOf(postId), String.valueOf(TIMELINE_MAX_SIZE));
+		}
+	}
+
+	/**
+	 * 팔로우 관계가 바뀌어 타임라인을 다시 구성해야 하는 경우 제거
+	 * @param memberId 멤버 ID
+	 */
+	public void evict(Long memberId) {
+		evict(List.of(memberId));
+	}
+
+	/**
+	 * 여러 멤버의 타임라인을 제거
+	 * 트랜잭션 안에서 호출되면 커밋 이후에 제거하여, 커밋 전 팔로우 관계로 타임라인이 다시 구성되지 않도록 한다.
+	 * @param memberIds 멤버 ID 리스트
+	 */
+	public void evict(Collection<Long> memberIds) {
+		if (memberIds.isEmpty()) {
+			return;
+		}
+		List<Long> targets = List.copyOf(memberIds);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					evictNow(targets);
+				}
+			});
+			return;
+		}
+		evictNow(targets);
+	}
+
+	private void evictNow(List<Long> memberIds) {
+		for (int from = 0; from < memberIds.size(); from += PUSH_CHUNK_SIZE) {
+			List<String> keys = new ArrayList<>();
+			memberIds.subList(from, Math.min(from + PUSH_CHUNK_SIZE, memberIds.size()))
+				.forEach(memberId -> {
+					keys.add(getKey(memberId));
+					keys.add(getCompleteKey(memberId));
+				});
+			stringRedisTemplate.delete(keys);
+		}
+	}
+
+	private static String getKey(Long memberId) {
+		return String.format(TIMELINE_KEY_FORMAT, memberId);
+	}
+
+	private static String getCompleteKey(Long memberId) {
+		return getKey(memberId) + COMPLETE_KEY_SUFFIX;
+	}
+}
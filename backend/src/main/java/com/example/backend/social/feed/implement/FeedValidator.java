@@ -21,13 +21,17 @@ import com.example.backend.social.feed.exception.FeedException;
 public class FeedValidator {
 
 	public void validateRequest(FeedRequest request) {
-		checkTimestamp(request);
-		checkLastPostId(request.lastPostId());
+		if (request.cursor() == null) {
+			checkTimestamp(request);
+			checkLastPostId(request.lastPostId());
+		}
 		checkMaxSize(request.maxSize());
 	}
 
 	public void validateRequest(FeedMemberRequest request) {
-		checkLastPostId(request.lastPostId());
+		if (request.cursor() == null) {
+			checkLastPostId(request.lastPostId());
+		}
 		checkMaxSize(request.maxSize());
 	}
 
@@ -0,0 +1,260 @@
+package com.example.backend.social.feed.implement;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/***
+ * PostHydrationCache
+ * 피드를 채울 때 사용하는 게시물별 해시태그 / 이미지 URL 을 캐싱하는 컴포넌트
+ * 게시물 작성 이후 거의 바뀌지 않는 데이터이므로 로컬 캐시(L1, Caffeine) 와 Redis(L2) 2단계로 보관한다.
+ * 해시태그 / 이미지가 바뀌면 evict 를 호출해야 하며, 다른 서버의 L1 도 Redis Pub/Sub 으로 함께 무효화된다.
+ * 무효화 시 같은 게시물의 피드 JSON 조각(FeedFragmentCache)도 함께 제거한다.
+ * 게시물마다 버전을 두고 무효화할 때 올려서, 무효화 전에 DB 에서 읽은 값이 무효화 이후에 다시 저장되지 않도록 한다.
+ * @author ChoiHyunSan
+ * @since 2025-03-15
+ */
+@Slf4j
+@Component
+public class PostHydrationCache implements MessageListener {
+
+	private static final String HYDRATION_KEY_FORMAT = "feed:hydration:%d";
+	private static final String VERSION_KEY_FORMAT = "feed:hydration:version:%d";
+	private static final ChannelTopic INVALIDATE_TOPIC = new ChannelTopic("feed:hydration:invalidate");
+	private static final Duration L1_TTL = Duration.ofMinutes(10);
+	private static final Duration L2_TTL = Duration.ofDays(1);
+	private static final long L1_MAX_SIZE = 10_000L;
+	private static final String NO_VERSION = "0";
+
+	/**
+	 * 조회 시점의 버전이 그대로인 게시물만 저장
+	 * KEYS[2i-1] : 캐시 키, KEYS[2i] : 버전 키, ARGV[1] : TTL (초), ARGV[2i] : 조회 시점 버전, ARGV[2i+1] : 저장할 값
+	 * 반환 : 게시물별 저장 여부 (1, 0)
+	 */
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> SAVE_SCRIPT = new DefaultRedisScript<>(
+		"local saved = {} "
+			+ "for i = 1, #KEYS / 2 do "
+			+ "  local version = redis.call('GET', KEYS[2 * i]) or '0' "
+			+ "  if version == ARGV[2 * i] then "
+			+ "    redis.call('SET', KEYS[2 * i - 1], ARGV[2 * i + 1], 'EX', ARGV[1]) "
+			+ "    saved[i] = 1 "
+			+ "  else "
+			+ "    saved[i] = 0 "
+			+ "  end "
+			+ "end "
+			+ "return saved",
+		List.class);
+
+	// 버전을 올리고 캐시 키 삭제 (KEYS[1] : 캐시 키, KEYS[2] : 버전 키, ARGV[1] : 버전 키 TTL (초))
+	private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+		"redis.call('INCR', KEYS[2]) "
+			+ "redis.call('EXPIRE', KEYS[2], ARGV[1]) "
+			+ "return redis.call('DEL', KEYS[1])",
+		Long.class);
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final FeedFragmentCache feedFragmentCache;
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final Cache<Long, PostHydration> localCache = Caffeine.newBuilder()
+		.maximumSize(L1_MAX_SIZE)
+		.expireAfterWrite(L1_TTL)
+		.build();
+
+	public PostHydrationCache(StringRedisTemplate stringRedisTemplate, FeedFragmentCache feedFragmentCache,
+		RedisMessageListenerContainer redisMessageListenerContainer) {
+		this.stringRedisTemplate = stringRedisTemplate;
+		this.feedFragmentCache = feedFragmentCache;
+		redisMessageListenerContainer.addMessageListener(this, INVALIDATE_TOPIC);
+	}
+
+	/**
+	 * 게시물 ID 별 해시태그 / 이미지 URL 을 L1 -> L2 -> loader(DB) 순서로 조회
+	 * loader 로 읽어온 값은 L1 과 L2 에 모두 저장하되, loader 호출 전에 읽은 버전이 그 사이 바뀐 게시물은 저장하지 않는다.
+	 * @param postIds 게시물 ID 리스트
+	 * @param loader 캐시에 없는 게시물 ID 로 DB 를 조회하는 함수 (결과에 없는 게시물은 빈 값으로 취급)
+	 * @return 게시물 ID 별 데이터
+	 */
+	public Map<Long, PostHydration> findAll(Collection<Long> postIds,
+		Function<List<Long>, Map<Long, PostHydration>> loader) {
+
+		Map<Long, PostHydration> result = new HashMap<>(localCache.getAllPresent(postIds));
+
+		List<Long> l1Misses = postIds.stream().filter(postId -> !result.containsKey(postId)).toList();
+		if (l1Misses.isEmpty()) {
+			return result;
+		}
+
+		// 캐시 값과 버전을 함께 조회 (앞쪽 절반은 캐시 값, 뒤쪽 절반은 버전)
+		List<String> keys = new ArrayList<>(l1Misses.size() * 2);
+		l1Misses.forEach(postId -> keys.add(getKey(postId)));
+		l1Misses.forEach(postId -> keys.add(getVersionKey(postId)));
+		List<String> values = stringRedisTemplate.opsForValue().multiGet(keys);
+
+		List<Long> l2Misses = new ArrayList<>();
+		Map<Long, String> versions = new HashMap<>();
+		for (int i = 0; i < l1Misses.size(); i++) {
+			PostHydration hydration = values == null ? null : deserialize(values.get(i));
+			if (hydration == null) {
+				String version = values == null ? null : values.get(l1Misses.size() + i);
+				l2Misses.add(l1Misses.get(i));
+				versions.put(l1Misses.get(i), version != null ? version : NO_VERSION);
+				continue;
+			}
+			localCache.put(l1Misses.get(i), hydration);
+			result.put(l1Misses.get(i), hydration);
+		}
+
+		if (l2Misses.isEmpty()) {
+			return result;
+		}
+
+		Map<Long, PostHydration> loaded = loader.apply(l2Misses);
+		Map<Long, PostHydration> missed = new HashMap<>();
+		l2Misses.forEach(postId -> missed.put(postId, loaded.getOrDefault(postId, PostHydration.EMPTY)));
+
+		saveAll(missed, versions);
+		result.putAll(missed);
+		return result;
+	}
+
+	/**
+	 * 게시물의 해시태그 / 이미지가 바뀌었을 때 캐시를 무효화
+	 * 트랜잭션 안에서 호출되면 커밋 이후에 무효화하여, 커밋 전 데이터가 다시 캐싱되지 않도록 한다.
+	 * @param postId 게시물 ID
+	 */
+	public void evict(Long postId) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					evictNow(postId);
+				}
+			});
+			return;
+		}
+		evictNow(postId);
+	}
+
+	/**
+	 * 다른 서버에서 발행한 무효화 메시지 수신 (자신이 발행한 메시지도 수신하지만 결과는 같다)
+	 */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		try {
+			Long postId = Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8));
+			localCache.invalidate(postId);
+			feedFragmentCache.evict(postId);
+		} catch (NumberFormatException e) {
+			log.warn("잘못된 피드 캐시 무효화 메시지: {}", e.getMessage());
+		}
+	}
+
+	private void evictNow(Long postId) {
+		localCache.invalidate(postId);
+		feedFragmentCache.evict(postId);
+		stringRedisTemplate.execute(EVICT_SCRIPT, List.of(getKey(postId), getVersionKey(postId)),
+			String.valueOf(L2_TTL.toSeconds()));
+		stringRedisTemplate.convertAndSend(INVALIDATE_TOPIC.getTopic(), String.valueOf(postId));
+	}
+
+	/**
+	 * 조회 시점의 버전이 그대로인 게시물만 L1 / L2 에 저장
+	 * L1 에 먼저 넣고 L2 저장에 실패한 (그 사이 무효화된) 게시물은 L1 에서 다시 제거하여,
+	 * 무효화와 겹쳐도 무효화 이전 값이 L1 에 남지 않도록 한다.
+	 */
+	private void saveAll(Map<Long, PostHydration> hydrations, Map<Long, String> versions) {
+		localCache.putAll(hydrations);
+
+		List<Long> postIds = new ArrayList<>(hydrations.size());
+		List<String> keys = new ArrayList<>(hydrations.size() * 2);
+		List<String> args = new ArrayList<>(hydrations.size() * 2 + 1);
+		args.add(String.valueOf(L2_TTL.toSeconds()));
+		hydrations.forEach((postId, hydration) -> {
+			String value = serialize(hydration);
+			if (value == null) {
+				localCache.asMap().remove(postId, hydration);
+				return;
+			}
+			postIds.add(postId);
+			keys.add(getKey(postId));
+			keys.add(getVersionKey(postId));
+			args.add(versions.getOrDefault(postId, NO_VERSION));
+			args.add(value);
+		});
+		if (postIds.isEmpty()) {
+			return;
+		}
+
+		List<?> saved = stringRedisTemplate.execute(SAVE_SCRIPT, keys, args.toArray());
+		for (int i = 0; i < postIds.size(); i++) {
+			if (saved == null || ((Number)saved.get(i)).longValue() == 0L) {
+				localCache.asMap().remove(postIds.get(i), hydrations.get(postIds.get(i)));
+			}
+		}
+	}
+
+	private String serialize(PostHydration hydration) {
+		try {
+			return objectMapper.writeValueAsString(hydration);
+		} catch (JsonProcessingException e) {
+			log.warn("피드 캐시 직렬화 실패: {}", e.getMessage());
+			return null;
+		}
+	}
+
+	private PostHydration deserialize(String value) {
+		if (value == null) {
+			return null;
+		}
+		try {
+			return objectMapper.readValue(value, PostHydration.class);
+		} catch (JsonProcessingException e) {
+			log.warn("피드 캐시 역직렬화 실패: {}", e.getMessage());
+			return null;
+		}
+	}
+
+	private String getKey(Long postId) {
+		return String.format(HYDRATION_KEY_FORMAT, postId);
+	}
+
+	private String getVersionKey(Long postId) {
+		return String.format(VERSION_KEY_FORMAT, postId);
+	}
+
+	/**
+	 * 게시물별로 캐싱되는 피드 데이터
+	 * @param hashtagList 해시태그 리스트
+	 * @param imageUrlList 이미지 URL 리스트
+	 */
+	public record PostHydration(
+		List<String> hashtagList,
+		List<String> imageUrlList
+	) {
+		public static final PostHydration EMPTY = new PostHydration(List.of(), List.of());
+	}
+}
@@ -0,0 +1,308 @@
+package com.example.backend.social.feed.implement;
+
+import static com.example.backend.entity.QPostEntity.*;
+import static com.example.backend.entity.QPostStatsEntity.*;
+import static com.example.backend.social.feed.constant.FeedConstants.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.backend.entity.HashtagEntity;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/***
+ * PostPopularityIndex
+ * 추천 피드에 사용할 게시물 인기 점수를 Redis Sorted Set 으로 유지하는 컴포넌트
+ * 게시물 작성일 기준 일 단위 버킷으로 나누어 저장하므로, 추천 탐색 범위에 해당하는 버킷만 읽어 top-N 을 구한다.
+ * 좋아요 / 댓글 / 팔로우 시점에 점수를 증감시키고, 인기 해시태그가 갱신될 때 전체 점수를 다시 계산한다.
+ * @author ChoiHyunSan
+ * @since 2025-03-14
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostPopularityIndex {
+
+	private static final String POPULARITY_KEY_FORMAT = "feed:popularity:%s";
+	private static final String REBUILD_KEY_SUFFIX = ":rebuild";
+	private static final DateTimeFormatter BUCKET_FORMATTER = DateTimeFormatter.BASIC_ISO_DATE;
+	private static final Duration BUCKET_TTL = Duration.ofDays(RECOMMEND_SEARCH_DATE_RANGE + 1);
+
+	// 게시물이 속한 버킷을 찾아서 점수를 증감 (없으면 무시)
+	private static final RedisScript<Long> INCREASE_SCRIPT = new DefaultRedisScript<>(
+		"for i, key in ipairs(KEYS) do "
+			+ "  if redis.call('ZSCORE', key, ARGV[1]) then "
+			+ "    redis.call('ZINCRBY', key, ARGV[2], ARGV[1]) "
+			+ "    return 1 "
+			+ "  end "
+			+ "end "
+			+ "return 0",
+		Long.class);
+
+	// 여러 게시물을 각각 속한 버킷에서 찾아 점수를 증감 (ARGV[1] : 증감할 점수, ARGV[2..] : 게시물 ID)
+	private static final RedisScript<Long> INCREASE_ALL_SCRIPT = new DefaultRedisScript<>(
+		"local increased = 0 "
+			+ "for i = 2, #ARGV do "
+			+ "  for _, key in ipairs(KEYS) do "
+			+ "    if redis.call('ZSCORE', key, ARGV[i]) then "
+			+ "      redis.call('ZINCRBY', key, ARGV[1], ARGV[i]) "
+			+ "      increased = increased + 1 "
+			+ "      break "
+			+ "    end "
+			+ "  end "
+			+ "end "
+			+ "return increased",
+		Long.class);
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final JPAQueryFactory queryFactory;
+
+	/**
+	 * 새로 작성된 게시물을 인덱스에 추가
+	 * @param postId 게시물 ID
+	 * @param createDate 게시물 작성 시간
+	 * @param authorFollowerCount 작성자의 팔로워 수
+	 */
+	public void add(Long postId, LocalDateTime createDate, Long authorFollowerCount) {
+		String key = getKey(createDate.toLocalDate());
+		stringRedisTemplate.opsForZSet()
+			.add(key, String.valueOf(postId), authorFollowerCount * POPULARITY_FOLLOWER_WEIGHT);
+		stringRedisTemplate.expireAt(key, getExpireAt(createDate.toLocalDate()));
+	}
+
+	/**
+	 * 탐색 범위 안에 있는 게시물의 점수를 증감
+	 * 트랜잭션 안에서 호출되면 커밋 이후에 반영하여, 롤백된 좋아요 / 댓글이 점수에 남지 않도록 한다.
+	 * @param postId 게시물 ID
+	 * @param delta 증감할 점수
+	 */
+	public void increase(Long postId, double delta) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					increaseNow(postId, delta);
+				}
+			});
+			return;
+		}
+		increaseNow(postId, delta);
+	}
+
+	private void increaseNow(Long postId, double delta) {
+		try {
+			stringRedisTemplate.execute(
+				INCREASE_SCRIPT, getRecentKeys(), String.valueOf(postId), String.valueOf(delta));
+		} catch (Exception e) {
+			// 점수는 다음 재계산 때 DB 기준으로 맞춰지므로 요청은 실패시키지 않는다
+			log.warn("게시물 인기 점수 갱신 실패: postId={}", postId, e);
+		}
+	}
+
+	/**
+	 * 작성자의 탐색 범위 내 게시물 점수를 일괄 증감 (팔로우 / 언팔로우 시)
+	 * 트랜잭션 안에서 호출되면 커밋 이후에 반영하여, 게시물 조회와 Redis 호출이 트랜잭션을 길게 잡지 않도록 한다.
+	 * @param authorId 작성자 ID
+	 * @param delta 증감할 점수
+	 */
+	public void increaseByAuthor(Long authorId, double delta) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					increaseByAuthorNow(authorId, delta);
+				}
+			});
+			return;
+		}
+		increaseByAuthorNow(authorId, delta);
+	}
+
+	private void increaseByAuthorNow(Long authorId, double delta) {
+		LocalDateTime from = LocalDate.now().minusDays(RECOMMEND_SEARCH_DATE_RANGE).atStartOfDay();
+
+		try {
+			List<Long> postIds = queryFactory.select(postEntity.id)
+				.from(postEntity)
+				.where(
+					postEntity.member.id.eq(authorId)
+						.and(postEntity.createDate.goe(from))
+						.and(postEntity.isDeleted.isFalse()))
+				.fetch();
+			if (postIds.isEmpty()) {
+				return;
+			}
+
+			List<String> args = new ArrayList<>(postIds.size() + 1);
+			args.add(String.valueOf(delta));
+			postIds.forEach(postId -> args.add(String.valueOf(postId)));
+			stringRedisTemplate.execute(INCREASE_ALL_SCRIPT, getRecentKeys(), args.toArray());
+		} catch (Exception e) {
+			// 점수는 다음 재계산 때 DB 기준으로 맞춰지므로 팔로우 요청은 실패시키지 않는다
+			log.warn("작성자 게시물 인기 점수 갱신 실패: authorId={}", authorId, e);
+		}
+	}
+
+	/**
+	 * 탐색 범위 [lastTime, startTime) 에 해당하는 버킷에서 점수가 높은 게시물 ID 를 최대 count 개 반환
+	 * 버킷 단위로 읽기 때문에 범위 경계의 게시물이 섞일 수 있으므로, 정확한 범위 필터는 호출 측에서 처리한다.
+	 * @param startTime 탐색 범위 끝 (exclusive)
+	 * @param lastTime 탐색 범위 시작 (inclusive)
+	 * @param count 최대 개수
+	 * @return 점수 내림차순 게시물 ID 리스트
+	 */
+	public List<Long> findTopPostIds(LocalDateTime startTime, LocalDateTime lastTime, long count) {
+		LocalDate oldestBucket = LocalDate.now().minusDays(RECOMMEND_SEARCH_DATE_RANGE);
+		LocalDate from = lastTime.toLocalDate().isBefore(oldestBucket) ? oldestBucket : lastTime.toLocalDate();
+
+		List<String> keys = getKeysBetween(from, startTime.toLocalDate());
+		if (keys.isEmpty()) {
+			return new ArrayList<>();
+		}
+
+		List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			keys.forEach(key -> zRevRangeWithScores(connection, key, count));
+			return null;
+		});
+
+		List<ZSetOperations.TypedTuple<String>> candidates = new ArrayList<>();
+		for (Object result : results) {
+			if (result instanceof Set<?> tuples) {
+				tuples.forEach(tuple -> candidates.add(castTuple(tuple)));
+			}
+		}
+
+		return candidates.stream()
+			.sorted(Comparator.comparing(ZSetOperations.TypedTuple<String>::getScore, Comparator.reverseOrder()))
+			.limit(count)
+			.map(tuple -> Long.valueOf(tuple.getValue()))
+			.toList();
+	}
+
+	/**
+	 * 인기 해시태그가 갱신되었을 때 탐색 범위 안의 게시물 점수를 DB 기준으로 다시 계산
+	 * @param popularHashtagList 인기 해시태그 리스트
+	 */
+	public void rebuild(List<HashtagEntity> popularHashtagList) {
+		LocalDate today = LocalDate.now();
+		LocalDateTime from = today.minusDays(RECOMMEND_SEARCH_DATE_RANGE).atStartOfDay();
+
+		List<Tuple> scores = queryFactory.select(postEntity.id, postEntity.createDate, popularityScore(popularHashtagList))
+			.from(postEntity)
+			.join(postEntity.member)
+			.leftJoin(postStatsEntity).on(postStatsEntity.postId.eq(postEntity.id))
+			.where(postEntity.createDate.goe(from).and(postEntity.isDeleted.isFalse()))
+			.fetch();
+
+		Map<String, List<Tuple>> scoresByKey = new HashMap<>();
+		scores.forEach(tuple -> scoresByKey
+			.computeIfAbsent(getKey(tuple.get(postEntity.createDate).toLocalDate()), key -> new ArrayList<>())
+			.add(tuple));
+
+		// 임시 키에 새로 만든 뒤 RENAME 으로 교체하여, 재계산 중에도 추천 조회가 빈 버킷을 보지 않도록 한다
+		scoresByKey.forEach((key, tuples) -> {
+			Set<ZSetOperations.TypedTuple<String>> values = new HashSet<>();
+			tuples.forEach(tuple -> values.add(ZSetOperations.TypedTuple.of(
+				String.valueOf(tuple.get(postEntity.id)),
+				tuple.get(2, Double.class))));
+
+			String rebuildKey = key + REBUILD_KEY_SUFFIX;
+			stringRedisTemplate.delete(rebuildKey);
+			stringRedisTemplate.opsForZSet().add(rebuildKey, values);
+			stringRedisTemplate.expireAt(rebuildKey,
+				getExpireAt(tuples.getFirst().get(postEntity.createDate).toLocalDate()));
+			stringRedisTemplate.rename(rebuildKey, key);
+		});
+
+		// 게시물이 하나도 없는 버킷은 교체할 내용이 없으므로 지운다
+		List<String> emptyKeys = getRecentKeys().stream()
+			.filter(key -> !scoresByKey.containsKey(key))
+			.toList();
+		stringRedisTemplate.delete(emptyKeys);
+
+		log.info("게시물 인기 점수 재계산 완료: {}개", scores.size());
+	}
+
+	// 팔로워 수 / 좋아요 수 / 댓글 수 / 인기 해시태그 포함 여부에 각각 점수를 매긴다
+	private NumberExpression<Double> popularityScore(List<HashtagEntity> popularHashtagList) {
+		String template = "({1} * " + POPULARITY_FOLLOWER_WEIGHT + ") + ({2} * " + POPULARITY_LIKE_WEIGHT + ") + "
+			+ "({3} * " + POPULARITY_COMMENT_WEIGHT + ")";
+
+		if (popularHashtagList.isEmpty()) {
+			return Expressions.numberTemplate(Double.class, template,
+				postEntity.id,
+				postEntity.member.followerCount,
+				postStatsEntity.likeCount.coalesce(0L),
+				postStatsEntity.commentCount.coalesce(0L));
+		}
+
+		return Expressions.numberTemplate(Double.class,
+			template + " + (select case when count(*) > 0 then " + POPULARITY_HASHTAG_WEIGHT + " else 0 end "
+				+ "from PostHashtagEntity ph where ph.post.id = {0} and ph.hashtag.id in ({4}))",
+			postEntity.id,
+			postEntity.member.followerCount,
+			postStatsEntity.likeCount.coalesce(0L),
+			postStatsEntity.commentCount.coalesce(0L),
+			popularHashtagList);
+	}
+
+	private static void zRevRangeWithScores(RedisConnection connection, String key, long count) {
+		connection.zSetCommands().zRevRangeWithScores(key.getBytes(StandardCharsets.UTF_8), 0, count - 1);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static ZSetOperations.TypedTuple<String> castTuple(Object tuple) {
+		return (ZSetOperations.TypedTuple<String>)tuple;
+	}
+
+	private static List<String> getRecentKeys() {
+		LocalDate today = LocalDate.now();
+		return getKeysBetween(today.minusDays(RECOMMEND_SEARCH_DATE_RANGE), today);
+	}
+
+	private static List<String> getKeysBetween(LocalDate from, LocalDate to) {
+		List<String> keys = new ArrayList<>();
+		for (LocalDate date = to; !date.isBefore(from); date = date.minusDays(1)) {
+			keys.add(getKey(date));
+		}
+		return keys;
+	}
+
+	private static Instant getExpireAt(LocalDate bucketDate) {
+		return bucketDate.plusDays(BUCKET_TTL.toDays())
+			.atStartOfDay(ZoneId.systemDefault())
+			.toInstant();
+	}
+
+	private static String getKey(LocalDate date) {
+		return String.format(POPULARITY_KEY_FORMAT, date.format(BUCKET_FORMATTER));
+	}
+}
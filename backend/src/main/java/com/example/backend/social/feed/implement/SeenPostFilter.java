@@ -0,0 +1,71 @@
+package com.example.backend.social.feed.implement;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.example.backend.global.util.ScalableBloomFilter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/***
+ * SeenPostFilter
+ * 멤버별로 이미 피드로 내려준 게시물을 기억하여, 추천 피드에서 같은 게시물이 반복되지 않도록 하는 컴포넌트
+ * 멤버마다 ScalableBloomFilter 를 로컬 메모리에 두며, 첫 페이지를 다시 요청하거나 일정 시간 피드 요청이 없으면 제거된다.
+ * Bloom filter 특성상 보지 않은 게시물이 드물게 본 것으로 판단되어 제외될 수 있다.
+ * @author ChoiHyunSan
+ * @since 2025-03-15
+ */
+@Component
+public class SeenPostFilter {
+
+	private static final Duration SEEN_TTL = Duration.ofHours(6);
+	private static final long MAX_MEMBER_COUNT = 100_000L;
+
+	private static final int INITIAL_CAPACITY = 256;
+	private static final double FALSE_POSITIVE_RATE = 0.01;
+	// 멤버당 최대 약 4096 * 5 개를 기억하며, 필터 하나는 수십 KB 를 넘지 않는다
+	private static final int MAX_SLICE_CAPACITY = 4_096;
+	private static final int MAX_SLICES = 5;
+
+	private final Cache<Long, ScalableBloomFilter> seenByMemberId = Caffeine.newBuilder()
+		.maximumSize(MAX_MEMBER_COUNT)
+		.expireAfterAccess(SEEN_TTL)
+		.build();
+
+	/**
+	 * 피드로 내려준 게시물을 본 것으로 기록
+	 * @param memberId 멤버 ID
+	 * @param postIds 게시물 ID 리스트
+	 */
+	public void markSeen(Long memberId, Collection<Long> postIds) {
+		ScalableBloomFilter seen = seenByMemberId.get(memberId,
+			id -> new ScalableBloomFilter(INITIAL_CAPACITY, FALSE_POSITIVE_RATE, MAX_SLICE_CAPACITY, MAX_SLICES));
+		postIds.forEach(seen::add);
+	}
+
+	/**
+	 * 아직 보지 않은 게시물 ID 만 순서를 유지하여 반환
+	 * @param memberId 멤버 ID
+	 * @param postIds 게시물 ID 리스트
+	 * @return 보지 않은 게시물 ID 리스트
+	 */
+	public List<Long> filterUnseen(Long memberId, List<Long> postIds) {
+		ScalableBloomFilter seen = seenByMemberId.getIfPresent(memberId);
+		if (seen == null) {
+			return postIds;
+		}
+		return postIds.stream().filter(postId -> !seen.mightContain(postId)).toList();
+	}
+
+
+	/**
+	 * 본 게시물 기록을 초기화 (첫 페이지부터 다시 조회하는 경우)
+	 * @param memberId 멤버 ID
+	 */
+	public void reset(Long memberId) {
+		seenByMemberId.invalidate(memberId);
+	}
+}
@@ -6,11 +6,14 @@ import static com.example.backend.social.feed.constant.FeedConstants.*;
 import java.util.Collections;
 import java.util.List;
 
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.backend.entity.HashtagEntity;
+import com.example.backend.social.feed.implement.PostPopularityIndex;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import lombok.Getter;
@@ -27,10 +30,12 @@ import lombok.RequiredArgsConstructor;
 public class FeedScheduler {
 
 	private final JPAQueryFactory queryFactory;
+	private final PostPopularityIndex postPopularityIndex;
 
 	@Getter
 	private List<HashtagEntity> popularHashtagList = Collections.emptyList();
 
+	@EventListener(ApplicationReadyEvent.class)
 	@Scheduled(cron = "0 0 0 * * *")
 	@Transactional(readOnly = true)
 	public void updatePopularHashtag() {
@@ -43,5 +48,8 @@ public class FeedScheduler {
 			.fetch();
 
 		popularHashtagList = Collections.unmodifiableList(newPopularHashtagList);
+
+		// 갱신된 인기 해시태그 기준으로 게시물 인기 점수를 다시 계산
+		postPopularityIndex.rebuild(popularHashtagList);
 	}
 }
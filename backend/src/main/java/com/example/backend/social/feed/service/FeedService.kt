@@ -1,15 +1,36 @@
 package com.example.backend.social.feed.service
 
+import com.example.backend.entity.MemberEntity
+import com.example.backend.global.datasource.ReplicaRoutingContext
 import com.example.backend.global.exception.GlobalException
 import com.example.backend.identity.member.exception.MemberErrorCode
 import com.example.backend.identity.member.service.MemberService
+import com.example.backend.social.feed.Feed
+import com.example.backend.social.feed.FeedCursor
 import com.example.backend.social.feed.constant.FeedConstants
 import com.example.backend.social.feed.converter.FeedConverter
 import com.example.backend.social.feed.dto.*
 import com.example.backend.social.feed.implement.FeedSelectorCache
+import com.example.backend.social.feed.implement.FeedTimelineStore
 import com.example.backend.social.feed.implement.FeedValidator
+import com.example.backend.social.feed.implement.SeenPostFilter
+import org.hibernate.Hibernate
+import org.springframework.beans.factory.annotation.Qualifier
+import org.springframework.beans.factory.annotation.Value
 import org.springframework.stereotype.Service
+import org.springframework.transaction.PlatformTransactionManager
+import org.springframework.transaction.TransactionDefinition
 import org.springframework.transaction.annotation.Transactional
+import org.springframework.transaction.support.TransactionTemplate
+import java.time.LocalDateTime
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Future
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.TimeoutException
+import java.util.function.Consumer
+import java.util.function.Function
 
 /**
  * FeedService
@@ -22,45 +43,241 @@ open class FeedService(
     private val memberService: MemberService,
     private val feedValidator: FeedValidator,
     private val feedConverter: FeedConverter,
-    private val feedSelector: FeedSelectorCache
+    private val feedSelector: FeedSelectorCache,
+    private val feedTimelineStore: FeedTimelineStore,
+    private val seenPostFilter: SeenPostFilter,
+    @Qualifier("feedExecutor") private val feedExecutor: ExecutorService,
+    transactionManager: PlatformTransactionManager,
+    @Value("\${custom.feed.concurrentRetrieval:true}") private val concurrentRetrieval: Boolean
 ) {
+    // 병렬 조회 시 각 작업이 별도의 읽기 전용 커넥션을 사용하도록 새 트랜잭션으로 실행
+    private val readOnlyTransaction = TransactionTemplate(transactionManager).apply {
+        isReadOnly = true
+        propagationBehavior = TransactionDefinition.PROPAGATION_REQUIRES_NEW
+    }
+
+    // 요청 스레드에서의 조회 (진행 중인 트랜잭션이 있으면 참여)
+    private val readOnlyScope = TransactionTemplate(transactionManager).apply {
+        isReadOnly = true
+    }
+
     /**
      * Feed 요청 시에 적절한 게시물을 취합하여 반환하는 메서드
+     * 병렬 조회 시에는 요청 스레드가 커넥션을 잡고 기다리지 않도록 전체를 하나의 트랜잭션으로 묶지 않는다.
      * @param request Feed 요청 시에 클라이언트에서 전달하는 Request 객체
      * @param userId 요청한 사용자의 ID
      * @return Feed 객체를 클라이언트 요청 정보를 Response 형태로 매핑한 리스트
      */
-    @Transactional(readOnly = true)
     open fun findList(request: FeedRequest, userId: Long): FeedListResponse {
         feedValidator.validateRequest(request)
 
-        val member = memberService.findById(userId)
-            .orElseThrow { GlobalException(MemberErrorCode.NOT_FOUND) }
+        // 커서가 있으면 커서로, 없으면 timestamp / lastPostId 로 페이징 위치를 정한다
+        val cursor = request.cursor?.let { FeedCursor.decode(it) }
+            ?: FeedCursor.fromLegacy(request.timestamp, request.lastPostId)
+        val timestamp = cursor.createDate
+        val requestLastPostId = if (cursor.isFirst) 0L else cursor.postId
+
+        // 첫 페이지 요청은 새로운 탐색으로 보고 이전에 본 추천 게시물 기록을 지운다
+        if (cursor.isFirst) {
+            seenPostFilter.reset(userId)
+        }
 
         val followingCount = (request.maxSize * FeedConstants.FOLLOWING_FEED_RATE).toInt()
-        val feedList = feedSelector.findByFollower(
-            member, request.lastPostId, followingCount
-        ).toMutableList()
+        if (concurrentRetrieval) {
+            return findListConcurrently(request, userId, followingCount, timestamp, requestLastPostId)
+        }
+
+        return readOnlyScope.execute {
+            val member = memberService.findById(userId)
+                .orElseThrow { GlobalException(MemberErrorCode.NOT_FOUND) }
+            findListSequentially(request, member, followingCount, timestamp, requestLastPostId)
+        }!!
+    }
+
+    private fun findListSequentially(
+        request: FeedRequest,
+        member: MemberEntity,
+        followingCount: Int,
+        timestamp: LocalDateTime,
+        requestLastPostId: Long
+    ): FeedListResponse {
+        val feedList = findFollowingFeeds(member, requestLastPostId, followingCount).toMutableList()
 
         // 마지막 포스트 ID와 시간 추출 (안전하게 접근)
         val lastFeed = feedList.lastOrNull()
-        val lastPostId = lastFeed?.post?.id ?: request.lastPostId
+        val followingCursor = lastFeed?.let { FeedCursor.of(it.post.createDate, it.post.id) }
 
         val lastTime =
-            lastFeed?.post?.createDate ?: request.timestamp.minusDays(FeedConstants.RECOMMEND_SEARCH_DATE_RANGE)
+            lastFeed?.post?.createDate ?: timestamp.minusDays(FeedConstants.RECOMMEND_SEARCH_DATE_RANGE)
 
         val recommendCount = (request.maxSize * FeedConstants.RECOMMEND_FEED_RATE).toInt() +
                 (followingCount - feedList.size)
 
         val recommendFeedList = feedSelector.findRecommendFinder(
             member,
-            request.timestamp,
+            timestamp,
             lastTime,
             recommendCount
         )
 
         feedList.addAll(recommendFeedList)
+        seenPostFilter.markSeen(member.id, recommendFeedList.map { it.post.id })
+
+        return createListResponse(feedList, followingCursor, timestamp, requestLastPostId)
+    }
 
+    /**
+     * 피드를 한 번에 응답하지 않고 준비된 피드부터 순서대로 전달하는 스트림을 여는 메서드
+     * 요청 검증과 멤버 조회는 호출한 스레드에서 바로 수행하여, 스트리밍 시작 전에 오류를 반환할 수 있도록 한다.
+     * 반환된 함수는 팔로잉 피드를 먼저 전달한 뒤 추천 피드를 조회하여 전달하며,
+     * 각 단계는 별도의 읽기 전용 트랜잭션에서 수행하여 피드를 쓰는 동안 커넥션을 점유하지 않는다.
+     * @param request Feed 요청 시에 클라이언트에서 전달하는 Request 객체
+     * @param userId 요청한 사용자의 ID
+     * @return 피드를 전달받을 콜백을 받아 스트리밍을 수행하고, 다음 페이지 정보를 반환하는 함수 (feedList 는 비어있음)
+     */
+    fun openStream(request: FeedRequest, userId: Long): Function<Consumer<FeedInfoResponse>, FeedListResponse> {
+        feedValidator.validateRequest(request)
+        memberService.findById(userId)
+            .orElseThrow { GlobalException(MemberErrorCode.NOT_FOUND) }
+
+        val cursor = request.cursor?.let { FeedCursor.decode(it) }
+            ?: FeedCursor.fromLegacy(request.timestamp, request.lastPostId)
+
+        return Function { sink ->
+            ReplicaRoutingContext.propagate { streamList(request, userId, cursor, sink) }.get()
+        }
+    }
+
+    private fun streamList(
+        request: FeedRequest,
+        userId: Long,
+        cursor: FeedCursor,
+        sink: Consumer<FeedInfoResponse>
+    ): FeedListResponse {
+        val timestamp = cursor.createDate
+        val requestLastPostId = if (cursor.isFirst) 0L else cursor.postId
+        val followingCount = (request.maxSize * FeedConstants.FOLLOWING_FEED_RATE).toInt()
+
+        // 1. 팔로잉 피드 : 타임라인에서 바로 구할 수 있으므로 먼저 전달한다
+        val (member, followingList) = readOnlyTransaction.execute {
+            val member = memberService.findById(userId)
+                .orElseThrow { GlobalException(MemberErrorCode.NOT_FOUND) }
+            Hibernate.initialize(member.followingList)
+
+            member to findFollowingFeeds(member, requestLastPostId, followingCount)
+                .map { feedConverter.toFeedInfoResponse(it) }
+        }!!
+        followingList.forEach(sink::accept)
+
+        val lastFeed = followingList.lastOrNull()
+        val lastTime = lastFeed?.createdDate ?: timestamp.minusDays(FeedConstants.RECOMMEND_SEARCH_DATE_RANGE)
+
+        // 2. 추천 피드
+        if (cursor.isFirst) {
+            seenPostFilter.reset(member.id)
+        }
+
+        val recommendCount = (request.maxSize * FeedConstants.RECOMMEND_FEED_RATE).toInt() +
+                (followingCount - followingList.size)
+
+        val recommendList = readOnlyTransaction.execute {
+            feedSelector.findRecommendFinder(member, timestamp, lastTime, recommendCount)
+                .sortedByDescending { it.post.createDate }
+                .map { feedConverter.toFeedInfoResponse(it) }
+        }!!
+        seenPostFilter.markSeen(member.id, recommendList.map { it.postId })
+        recommendList.forEach(sink::accept)
+
+        val followingCursor = lastFeed?.let { FeedCursor.of(it.createdDate, it.postId) }
+        return FeedListResponse.create(
+            emptyList(),
+            nextCursor(followingCursor, followingList + recommendList, timestamp, requestLastPostId)
+        )
+    }
+
+    /**
+     * 팔로잉 피드와 추천 피드를 가상 스레드에서 병렬로 조회하는 메서드
+     * 추천 탐색 범위는 팔로잉 게시물 ID 만으로 먼저 정하고, 게시물 조회 / 데이터 채우기는 각 작업에서 동시에 수행한다.
+     * 멤버 / 팔로잉 게시물 ID 조회만 짧은 트랜잭션에서 수행하고, 각 작업은 자신의 트랜잭션에서 실행한다.
+     * 제한 시간 안에 끝나지 않은 작업은 중단시키고 준비된 결과만 반환한다.
+     * @param request 피드 요청 객체
+     * @param userId 요청한 사용자의 ID
+     * @param followingCount 팔로잉 피드 최대 개수
+     * @param timestamp 추천 피드 탐색 범위의 끝
+     * @param requestLastPostId 마지막으로 받은 팔로잉 게시물 ID (0 이면 처음부터)
+     * @return 피드 리스트 응답
+     */
+    private fun findListConcurrently(
+        request: FeedRequest,
+        userId: Long,
+        followingCount: Int,
+        timestamp: LocalDateTime,
+        requestLastPostId: Long
+    ): FeedListResponse {
+        val (member, followingPostIds, lastFollowingTime) = readOnlyScope.execute {
+            val member = memberService.findById(userId)
+                .orElseThrow { GlobalException(MemberErrorCode.NOT_FOUND) }
+            // 다른 스레드에서 지연 로딩이 일어나지 않도록 미리 초기화
+            Hibernate.initialize(member.followingList)
+
+            val followingPostIds = findFollowingPostIds(member, requestLastPostId, followingCount)
+            val lastFollowingTime = followingPostIds.lastOrNull()?.let { feedSelector.findCreateDate(it) }
+            Triple(member, followingPostIds, lastFollowingTime)
+        }!!
+        val lastTime = lastFollowingTime ?: timestamp.minusDays(FeedConstants.RECOMMEND_SEARCH_DATE_RANGE)
+
+        val recommendCount = (request.maxSize * FeedConstants.RECOMMEND_FEED_RATE).toInt() +
+                (followingCount - followingPostIds.size)
+
+        val followingFuture = submitFeeds {
+            feedSelector.findByPostIds(followingPostIds, member)
+        }
+        val recommendFuture = submitFeeds {
+            feedSelector.findRecommendFinder(member, timestamp, lastTime, recommendCount)
+        }
+
+        // 두 작업이 같은 제한 시간을 공유하도록 마감 시각을 기준으로 기다린다
+        val deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(FeedConstants.FEED_SOURCE_TIMEOUT_MILLIS)
+        val recommendFeedList = awaitFeeds(recommendFuture, deadline) ?: emptyList()
+        seenPostFilter.markSeen(member.id, recommendFeedList.map { it.post.id })
+
+        // 팔로잉 커서는 실제로 반환한 게시물 기준으로 정하고, 제한 시간을 넘겨 하나도 받지 못했으면
+        // 다음 요청에서 같은 팔로잉 게시물부터 다시 조회하도록 요청한 위치를 유지한다
+        val followingFeedList = awaitFeeds(followingFuture, deadline)
+        val followingCursor = if (followingFeedList == null && followingPostIds.isNotEmpty()) {
+            FeedCursor.of(timestamp, requestLastPostId)
+        } else {
+            followingFeedList?.lastOrNull()?.let { FeedCursor.of(it.post.createDate, it.post.id) }
+        }
+
+        val feedList = (followingFeedList ?: emptyList()) + recommendFeedList
+        return createListResponse(feedList, followingCursor, timestamp, requestLastPostId)
+    }
+
+    private fun submitFeeds(finder: () -> List<Feed>): Future<List<Feed>> {
+        val task = ReplicaRoutingContext.propagate { readOnlyTransaction.execute { finder() } ?: emptyList() }
+        return feedExecutor.submit(Callable { task.get() })
+    }
+
+    // 제한 시간 안에 끝나지 않으면 null
+    private fun awaitFeeds(future: Future<List<Feed>>, deadline: Long): List<Feed>? {
+        try {
+            return future.get(maxOf(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)
+        } catch (e: TimeoutException) {
+            // 제한 시간이 지난 작업은 중단시켜 스레드와 커넥션을 계속 점유하지 않도록 한다
+            future.cancel(true)
+            return null
+        } catch (e: ExecutionException) {
+            throw e.cause ?: e
+        }
+    }
+
+    private fun createListResponse(
+        feedList: List<Feed>,
+        followingCursor: FeedCursor?,
+        timestamp: LocalDateTime,
+        requestLastPostId: Long
+    ): FeedListResponse {
         // 생성일 기준으로 정렬 (자바 호환성을 위해 메서드 호출 방식 사용)
         val feedDtoList = feedList
             .sortedByDescending { it.post.createDate }
@@ -68,11 +285,86 @@ open class FeedService(
 
         return FeedListResponse.create(
             feedDtoList,
-            lastTime,
-            lastPostId
+            nextCursor(followingCursor, feedDtoList, timestamp, requestLastPostId)
         )
     }
 
+    /**
+     * 다음 페이지 커서를 만드는 메서드
+     * 팔로잉 피드가 있으면 마지막 팔로잉 게시물, 없으면 이번에 반환한 피드 중 가장 오래된 게시물을 가리킨다.
+     * 팔로잉 피드가 이미 끝난 경우 요청한 게시물 ID 보다 큰 ID 로 돌아가지 않도록 작은 쪽을 사용하며,
+     * 반환한 피드가 없어도 첫 페이지 커서를 돌려주지 않고 추천 탐색 범위만큼 이전으로 이동한다.
+     * @param followingCursor 마지막 팔로잉 게시물 위치 (없으면 null)
+     * @param feedList 이번에 반환한 피드 리스트
+     * @param timestamp 요청 커서의 시간
+     * @param requestLastPostId 요청 커서의 게시물 ID (0 이면 첫 요청)
+     * @return 다음 페이지 커서
+     */
+    private fun nextCursor(
+        followingCursor: FeedCursor?,
+        feedList: List<FeedInfoResponse>,
+        timestamp: LocalDateTime,
+        requestLastPostId: Long
+    ): FeedCursor {
+        if (followingCursor != null) {
+            return followingCursor
+        }
+
+        val oldest = feedList.minWithOrNull(compareBy<FeedInfoResponse>({ it.createdDate }, { it.postId }))
+            ?: return FeedCursor.of(timestamp.minusDays(FeedConstants.RECOMMEND_SEARCH_DATE_RANGE), requestLastPostId)
+
+        val postId = if (requestLastPostId == 0L) oldest.postId else minOf(oldest.postId, requestLastPostId)
+        return FeedCursor.of(oldest.createdDate, postId)
+    }
+
+    /**
+     * 미리 계산된 타임라인에서 팔로잉 피드를 조회하는 메서드
+     * 타임라인이 없으면 DB 에서 새로 구성하고, fan-out 대상이 아닌 팔로잉 멤버의 게시물은 pull 방식으로 합친다.
+     * 타임라인 보관 범위보다 오래된 페이지는 DB 에서 조회한다.
+     * @param member 요청한 사용자
+     * @param lastPostId 마지막으로 받은 게시물 ID
+     * @param limit 최대 개수
+     * @return 게시물 ID 내림차순의 피드 리스트
+     */
+    private fun findFollowingFeeds(member: MemberEntity, lastPostId: Long, limit: Int): List<Feed> {
+        return feedSelector.findByPostIds(findFollowingPostIds(member, lastPostId, limit), member)
+    }
+
+    /**
+     * 팔로잉 피드에 담을 게시물 ID 를 타임라인과 pull 대상 게시물에서 취합하는 메서드
+     * @param member 요청한 사용자
+     * @param lastPostId 마지막으로 받은 게시물 ID
+     * @param limit 최대 개수
+     * @return 게시물 ID 내림차순 리스트
+     */
+    private fun findFollowingPostIds(member: MemberEntity, lastPostId: Long, limit: Int): List<Long> {
+        if (!feedTimelineStore.exists(member.id)) {
+            feedTimelineStore.initialize(
+                member.id,
+                feedSelector.findTimelinePostIds(member, FeedConstants.TIMELINE_MAX_SIZE)
+            )
+        }
+
+        val timelinePostIds = feedTimelineStore.findPostIds(member.id, lastPostId, limit)
+            .toMutableList()
+
+        // 타임라인은 최근 게시물만 보관하므로, 보관 범위를 지나면 더 오래된 게시물을 DB 에서 이어서 가져온다
+        if (timelinePostIds.size < limit && !feedTimelineStore.isComplete(member.id)) {
+            timelinePostIds += feedSelector.findTimelinePostIds(
+                member,
+                timelinePostIds.lastOrNull() ?: lastPostId,
+                limit - timelinePostIds.size
+            )
+        }
+
+        val pulledPostIds = feedSelector.findPulledPostIds(member, lastPostId, limit)
+
+        return (timelinePostIds + pulledPostIds)
+            .distinct()
+            .sortedDescending()
+            .take(limit)
+    }
+
     /**
      * 특정 포스트 ID로 피드를 조회하는 메서드
      * @param postId 조회할 포스트 ID
@@ -101,11 +393,17 @@ open class FeedService(
         val member = memberService.findById(userId)
             .orElseThrow { GlobalException(MemberErrorCode.NOT_FOUND) }
 
-        val feedList = feedSelector.findByMember(member, request.lastPostId, request.maxSize)
+        // 커서가 없으면 lastPostId 의 작성 시간으로 커서를 만든다
+        val cursor = request.cursor?.let { FeedCursor.decode(it) }
+            ?: feedSelector.findCursor(request.lastPostId)
+
+        val feedList = feedSelector.findByMember(member, cursor, request.maxSize)
             .map { feedConverter.toFeedInfoResponse(it) }
 
-        val lastPostId = feedList.lastOrNull()?.postId ?: request.lastPostId
+        val lastFeed = feedList.lastOrNull()
+        val nextCursor = lastFeed?.let { FeedCursor.of(it.createdDate, it.postId) } ?: cursor
+        val lastPostId = lastFeed?.postId ?: if (cursor.isFirst) 0L else cursor.postId
 
-        return FeedMemberResponse.create(feedList, lastPostId)
+        return FeedMemberResponse.create(feedList, lastPostId, nextCursor.encode())
     }
 }
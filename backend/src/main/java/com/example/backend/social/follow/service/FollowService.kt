@@ -4,6 +4,9 @@ import com.example.backend.entity.MemberRepository
 import com.example.backend.global.event.FollowEvent
 import com.example.backend.social.exception.SocialErrorCode
 import com.example.backend.social.exception.SocialException
+import com.example.backend.social.feed.constant.FeedConstants
+import com.example.backend.social.feed.implement.FeedTimelineStore
+import com.example.backend.social.feed.implement.PostPopularityIndex
 import com.example.backend.social.follow.converter.FollowConverter
 import com.example.backend.social.follow.dto.FollowResponse
 import com.example.backend.social.follow.dto.FollowerListResponse
@@ -23,7 +26,9 @@ import org.springframework.transaction.annotation.Transactional
 @Service
 open class FollowService @Autowired constructor(
     private val memberRepository: MemberRepository,
-    private val applicationEventPublisher: ApplicationEventPublisher
+    private val applicationEventPublisher: ApplicationEventPublisher,
+    private val feedTimelineStore: FeedTimelineStore,
+    private val postPopularityIndex: PostPopularityIndex
 ) {
     // 본인을 팔로우 신청하는지 확인
     private fun checkNotSelfFollow(senderUsername: String, receiverUsername: String) {
@@ -63,6 +68,8 @@ open class FollowService @Autowired constructor(
         // 5. 팔로우 관계 생성 및 팔로우 카운트 증가
         sender.addFollowing(receiver)
         receiver.addFollower(sender)
+        feedTimelineStore.evict(sender.id)
+        postPopularityIndex.increaseByAuthor(receiver.id, FeedConstants.POPULARITY_FOLLOWER_WEIGHT.toDouble())
 
         // 6. 팔로우 이벤트 발생
         applicationEventPublisher.publishEvent(
@@ -103,6 +110,12 @@ open class FollowService @Autowired constructor(
         // 5. 팔로우 취소 관계 처리 및 팔로우 카운트 감소
         sender.removeFollowing(receiver)
         receiver.removeFollower(sender)
+        feedTimelineStore.evict(sender.id)
+        // 팔로워 수가 fan-out 기준 이하로 내려오면 pull 로만 보이던 게시물이 팔로워들의 타임라인에 없으므로 다시 구성하게 한다
+        if (receiver.followerCount == FeedConstants.FAN_OUT_FOLLOWER_THRESHOLD) {
+            feedTimelineStore.evict(memberRepository.findFollowerIdsById(receiver.id))
+        }
+        postPopularityIndex.increaseByAuthor(receiver.id, -FeedConstants.POPULARITY_FOLLOWER_WEIGHT.toDouble())
 
         return FollowConverter.toResponse(sender, receiver)
     }
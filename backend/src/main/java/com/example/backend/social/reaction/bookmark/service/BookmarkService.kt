@@ -4,6 +4,7 @@ import com.example.backend.entity.BookmarkEntity
 import com.example.backend.entity.BookmarkRepository
 import com.example.backend.entity.MemberRepository
 import com.example.backend.entity.PostRepository
+import com.example.backend.entity.PostStatsRepository
 import com.example.backend.social.exception.SocialErrorCode
 import com.example.backend.social.exception.SocialException
 import com.example.backend.social.reaction.bookmark.converter.BookmarkConverter
@@ -25,7 +26,8 @@ import org.springframework.transaction.annotation.Transactional
 open class BookmarkService @Autowired constructor(
     private val bookmarkRepository: BookmarkRepository,
     private val memberRepository: MemberRepository,
-    private val postRepository: PostRepository
+    private val postRepository: PostRepository,
+    private val postStatsRepository: PostStatsRepository
 ) {
     /**
      * 북마크 생성 메서드
@@ -54,6 +56,7 @@ open class BookmarkService @Autowired constructor(
 
         // 5. 생성 로직
         bookmarkRepository.save(bookmark)
+        postStatsRepository.increaseBookmarkCount(postId, 1)
 
         return BookmarkConverter.toCreateResponse(bookmark)
     }
@@ -83,6 +86,7 @@ open class BookmarkService @Autowired constructor(
 
         // 4. 삭제 로직
         bookmarkRepository.delete(bookmark)
+        postStatsRepository.increaseBookmarkCount(postId, -1)
 
         return BookmarkConverter.toDeleteResponse(bookmark)
     }
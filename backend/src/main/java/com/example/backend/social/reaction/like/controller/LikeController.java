@@ -1,8 +1,12 @@
 package com.example.backend.social.reaction.like.controller;
 
+import java.time.LocalDateTime;
+
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -13,6 +17,7 @@ import org.springframework.web.bind.annotation.RestController;
 import com.example.backend.global.rs.RsData;
 import com.example.backend.identity.security.user.CustomUser;
 import com.example.backend.social.reaction.like.dto.LikeToggleResponse;
+import com.example.backend.social.reaction.like.dto.LikerListResponse;
 import com.example.backend.social.reaction.like.service.LikeService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -52,4 +57,21 @@ public class LikeController {
 			: "좋아요가 성공적으로 취소되었습니다.";
 		return RsData.success(response, message);
 	}
+
+	/**
+	 * 좋아요를 누른 멤버 목록을 최근 좋아요 순으로 조회합니다
+	 */
+	@Operation(summary = "좋아요 누른 멤버 목록", description = "게시물, 댓글, 대댓글에 좋아요를 누른 멤버 목록을 커서 기반으로 조회합니다.")
+	@GetMapping("/{id}/likers")
+	@ResponseStatus(HttpStatus.OK)
+	public RsData<LikerListResponse> getLikers(
+		@PathVariable Long id,
+		@RequestParam String resourceType, // post, comment, reply
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime lastLikedAt,
+		@RequestParam(required = false) Long lastMemberId,
+		@RequestParam(defaultValue = "20") int size
+	) {
+		LikerListResponse response = likeService.getLikers(resourceType, id, lastLikedAt, lastMemberId, size);
+		return RsData.success(response, "좋아요 누른 멤버 목록 조회에 성공했습니다.");
+	}
 }
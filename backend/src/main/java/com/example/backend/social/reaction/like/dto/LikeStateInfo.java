@@ -1,6 +0,0 @@
-package com.example.backend.social.reaction.like.dto;
-
-public record LikeStateInfo(
-	boolean currentlyLiked,
-	boolean isNewLike
-) { }
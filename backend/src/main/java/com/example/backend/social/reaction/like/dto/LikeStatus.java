@@ -0,0 +1,15 @@
+package com.example.backend.social.reaction.like.dto;
+
+/**
+ * Redis 에서 조회한 리소스의 좋아요 상태
+ * Redis 에 없는 값은 null 이며, 호출하는 쪽에서 DB 값으로 대체한다.
+ *
+ * @author Metronon
+ * @since 2025-03-15
+ */
+public record LikeStatus(
+	Boolean isLiked,
+	Long likeCount
+) {
+	public static final LikeStatus UNKNOWN = new LikeStatus(null, null);
+}
@@ -0,0 +1,8 @@
+package com.example.backend.social.reaction.like.dto;
+
+import java.time.LocalDateTime;
+
+public record LikerInfo(
+	Long memberId,
+	LocalDateTime likedAt
+) { }
@@ -0,0 +1,43 @@
+package com.example.backend.social.reaction.like.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.example.backend.entity.MemberEntity;
+
+/**
+ * 좋아요 누른 멤버 목록 조회 응답 DTO
+ * 다음 페이지는 lastLikedAt, lastMemberId 를 커서로 요청한다.
+ *
+ * @author Metronon
+ * @since 2025-03-15
+ */
+public record LikerListResponse(
+	List<LikerDto> likerList,
+	LocalDateTime lastLikedAt,
+	Long lastMemberId
+) {
+	public record LikerDto(
+		Long memberId,
+		String username,
+		String profileUrl,
+		LocalDateTime likedAt
+	) {
+		public static LikerDto of(MemberEntity member, LocalDateTime likedAt) {
+			return new LikerDto(
+				member.getId(),
+				member.getUsername(),
+				member.getProfileUrl(),
+				likedAt
+			);
+		}
+	}
+
+	public static LikerListResponse of(List<LikerDto> likerList) {
+		if (likerList.isEmpty()) {
+			return new LikerListResponse(likerList, null, null);
+		}
+		LikerDto last = likerList.getLast();
+		return new LikerListResponse(likerList, last.likedAt(), last.memberId());
+	}
+}
@@ -3,12 +3,15 @@ package com.example.backend.social.reaction.like.service
 import com.example.backend.entity.MemberRepository
 import com.example.backend.social.exception.SocialErrorCode
 import com.example.backend.social.exception.SocialException
+import com.example.backend.social.feed.constant.FeedConstants
+import com.example.backend.social.feed.implement.PostPopularityIndex
 import com.example.backend.social.reaction.like.converter.LikeConverter
-import com.example.backend.social.reaction.like.dto.LikeInfo
 import com.example.backend.social.reaction.like.dto.LikeToggleResponse
+import com.example.backend.social.reaction.like.dto.LikerListResponse
 import com.example.backend.social.reaction.like.scheduler.LikeSyncManager
 import com.example.backend.social.reaction.like.util.RedisKeyUtil
 import com.example.backend.social.reaction.like.util.component.LikeEventPublisher
+import com.example.backend.social.reaction.like.util.component.LikerIndex
 import com.example.backend.social.reaction.like.util.component.OwnerChecker
 import com.example.backend.social.reaction.like.util.component.RedisLikeService
 import com.example.backend.social.reaction.like.util.component.ResourceResolver
@@ -31,9 +34,15 @@ open class LikeService(
     private val resourceResolver: ResourceResolver,
     private val redisLikeService: RedisLikeService,
     private val likeEventPublisher: LikeEventPublisher,
-    private val likeSyncManager: LikeSyncManager
+    private val likeSyncManager: LikeSyncManager,
+    private val postPopularityIndex: PostPopularityIndex,
+    private val likerIndex: LikerIndex
 ) {
 
+    companion object {
+        private const val MAX_LIKER_PAGE_SIZE = 50
+    }
+
 /**
      * 좋아요 토글 메서드
      * 리소스의 타입을 통해 대상 확인 및 좋아요 토글을 진행합니다.
@@ -61,39 +70,57 @@ open class LikeService(
         val likeKey = RedisKeyUtil.getLikeKey(upperResourceType, resourceId, memberId)
         val countKey = RedisKeyUtil.getLikeCountKey(upperResourceType, resourceId)
 
-        // 5. 현재 좋아요 상태 확인
-        val likeStateInfo = redisLikeService!!.getLikeState(
-            likeKey, memberId, resourceId, upperResourceType
+        // 5. 현재 상태 확인 / 토글 / 카운트 갱신을 Redis 에서 원자적으로 처리
+        val toggleResult = redisLikeService!!.toggleLike(
+            likeKey, countKey, memberId, resourceId, upperResourceType
         )
-        val currentlyLiked = likeStateInfo.currentlyLiked
-        val isNewLike = likeStateInfo.isNewLike
-
-        // 6. 상태 토글
-        val newLikedState = !currentlyLiked
-
-        // 7. Redis 업데이트
-        val likeInfo = LikeInfo(
-            memberId,
-            resourceId,
-            upperResourceType,
-            if (isNewLike) LocalDateTime.now() else null,
-            LocalDateTime.now(),
-            newLikedState
-        )
-
-        // Redis에 좋아요 정보 저장 및 카운트 업데이트
-        redisLikeService.updateLikeInfo(likeKey, likeInfo)
-        redisLikeService.updateLikeCount(countKey, newLikedState)
+        val likeInfo = toggleResult.likeInfo
+        val newLikedState = likeInfo.isActive
+        val isNewLike = toggleResult.isNewLike
 
-        // 8. 비동기로 DB 업데이트 스케줄링
+        // 6. 비동기로 DB 업데이트 스케줄링
         likeSyncManager!!.scheduleSyncToDatabase(memberId, resourceId, upperResourceType, newLikedState, isNewLike)
 
-        // 9. 알림 이벤트 발행
+        // 추천 피드 인기 점수 반영 (게시물 좋아요만 해당)
+        if (upperResourceType == "POST") {
+            val delta = if (newLikedState) FeedConstants.POPULARITY_LIKE_WEIGHT else -FeedConstants.POPULARITY_LIKE_WEIGHT
+            postPopularityIndex.increase(resourceId, delta.toDouble())
+        }
+
+        // 7. 알림 이벤트 발행
         likeEventPublisher!!.publishLikeEvent(member, resource, resourceId, upperResourceType)
 
-        // 10. 좋아요 수 조회
-        val likeCount = redisLikeService.getLikeCount(countKey)
+        return LikeConverter.toLikeResponse(likeInfo, toggleResult.likeCount)
+    }
+
+    /**
+     * 좋아요 누른 멤버 목록 조회 메서드
+     * 최근 좋아요 순으로 커서 페이징하며, 멤버 정보는 페이지 단위로 한 번에 조회합니다.
+     *
+     * @param resourceType, resourceId, lastLikedAt, lastMemberId, size
+     * @return LikerListResponse (DTO)
+     */
+    @Transactional(readOnly = true)
+    open fun getLikers(
+        resourceType: String, resourceId: Long, lastLikedAt: LocalDateTime?, lastMemberId: Long?, size: Int
+    ): LikerListResponse {
+        if (size < 1 || size > MAX_LIKER_PAGE_SIZE) {
+            throw SocialException(SocialErrorCode.INVALID_REQUEST, "페이지 크기는 1 ~ $MAX_LIKER_PAGE_SIZE 사이여야 합니다.")
+        }
+
+        // 1. 리소스 존재 여부 확인
+        resourceResolver.resolveResource(resourceType, resourceId)
+        val upperResourceType = resourceResolver.normalizeResourceType(resourceType)
+
+        // 2. 좋아요 누른 멤버 ID 조회 (Redis 목록 -> 보관 범위를 넘어서면 DB)
+        val likers = likerIndex.findLikers(upperResourceType, resourceId, lastLikedAt, lastMemberId, size)
+
+        // 3. 멤버 정보 일괄 조회
+        val membersById = memberRepository.findAllById(likers.map { it.memberId }).associateBy { it.id }
+        val likerList = likers.mapNotNull { liker ->
+            membersById[liker.memberId]?.let { LikerListResponse.LikerDto.of(it, liker.likedAt) }
+        }
 
-        return LikeConverter.toLikeResponse(likeInfo, likeCount)
+        return LikerListResponse.of(likerList)
     }
 }
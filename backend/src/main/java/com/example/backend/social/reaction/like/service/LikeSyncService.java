@@ -2,19 +2,35 @@ package com.example.backend.social.reaction.like.service;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.example.backend.entity.LikeRepositoryCustomImpl;
 import com.example.backend.social.reaction.like.dto.LikeInfo;
+import com.example.backend.social.reaction.like.util.PendingLikeBuffer;
+import com.example.backend.social.reaction.like.util.PendingLikeBuffer.PendingLike;
+import com.example.backend.social.reaction.like.util.component.LikeExistenceFilter;
+import com.example.backend.social.reaction.like.util.component.LikeSyncJournal;
+import com.example.backend.social.reaction.like.util.component.LikeSyncJournal.JournalEntry;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
@@ -22,73 +38,300 @@ import lombok.extern.slf4j.Slf4j;
 public class LikeSyncService {
     private final LikeRepositoryCustomImpl likeRepositoryCustom;
     private final RedisTemplate<String, Object> redisTemplate;
+    private final LikeSyncJournal likeSyncJournal;
+    private final LikeExistenceFilter likeExistenceFilter;
+    private final TransactionTemplate transactionTemplate;
+
+    // 동기화 대기 중인 좋아요를 대상별로 합쳐서 저장할 버퍼
+    private final PendingLikeBuffer pendingLikes = new PendingLikeBuffer(MAX_PENDING_LIKES, MAX_BUFFER_BYTES);
+
+    // 버퍼에서 꺼내 DB 에 반영 중인 좋아요 (반영이 끝나면 비운다)
+    private volatile List<PendingLike> inFlightLikes = List.of();
+
+    // 동시에 하나의 동기화만 실행되도록 하는 락
+    private final ReentrantLock syncLock = new ReentrantLock();
 
-    // 동기화 대기 중인 좋아요 목록을 저장할 큐
-    private final Queue<LikeInfo> pendingLikes = new ConcurrentLinkedQueue<>();
-    
     // 마지막 동기화 시간
     private AtomicLong lastSyncTime = new AtomicLong(System.currentTimeMillis());
-    
-    // 임계값 설정
-    private static final int BATCH_SIZE_THRESHOLD = 5;
+
+    // 임계값 설정 (저널에 기록되므로 배치를 크게 가져가도 유실되지 않는다)
+    private static final int MIN_BATCH_SIZE = 100;
+    private static final int MAX_BATCH_SIZE = 5_000;
     private static final long TIME_THRESHOLD_MS = 30_000; // 30초
+    private static final long TARGET_FLUSH_LATENCY_MS = 500;
+
+    // 버퍼 한도 (DB 반영이 밀리는 경우 생산자를 최대 BACKPRESSURE_WAIT_MS 동안 대기시킨다)
+    private static final int MAX_PENDING_LIKES = 100_000;
+    private static final long MAX_BUFFER_BYTES = 32L * 1024 * 1024;
+    private static final long FLUSH_BUFFER_BYTES = MAX_BUFFER_BYTES / 2;
+    private static final long BACKPRESSURE_WAIT_MS = 200;
+    private static final long FLUSHER_POLL_MS = 1_000;
+
+    // 최근 DB 반영 시간에 따라 조절되는 배치 크기
+    private final AtomicInteger batchSize = new AtomicInteger(MIN_BATCH_SIZE);
+
+    // 플러셔 스레드
+    private final Object flushSignal = new Object();
+    private volatile boolean running;
+    private Thread flusher;
+
+    // 메트릭
+    private final Counter receivedCounter;
+    private final Counter writtenCounter;
+    private final Counter overflowCounter;
+    private final Timer flushTimer;
 
     @Autowired
     public LikeSyncService(LikeRepositoryCustomImpl likeRepositoryCustom,
-        @Qualifier("redisTemplate") RedisTemplate<String, Object> redisTemplate) {
+        @Qualifier("redisTemplate") RedisTemplate<String, Object> redisTemplate,
+        LikeSyncJournal likeSyncJournal,
+        LikeExistenceFilter likeExistenceFilter,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry) {
         this.likeRepositoryCustom = likeRepositoryCustom;
         this.redisTemplate = redisTemplate;
+        this.likeSyncJournal = likeSyncJournal;
+        this.likeExistenceFilter = likeExistenceFilter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        this.receivedCounter = meterRegistry.counter("like.sync.received");
+        this.writtenCounter = meterRegistry.counter("like.sync.written");
+        this.overflowCounter = meterRegistry.counter("like.sync.backpressure.overflow");
+        this.flushTimer = meterRegistry.timer("like.sync.flush");
+        Gauge.builder("like.sync.pending", pendingLikes, PendingLikeBuffer::size).register(meterRegistry);
+        Gauge.builder("like.sync.buffer.bytes", pendingLikes, PendingLikeBuffer::estimatedBytes).register(meterRegistry);
+        Gauge.builder("like.sync.batch.size", batchSize, AtomicInteger::get).register(meterRegistry);
+        Gauge.builder("like.sync.coalescing.ratio", this, LikeSyncService::getCoalescingRatio).register(meterRegistry);
+    }
+
+    /**
+     * 이전 실행에서 DB 에 반영되지 못한 좋아요를 저널에서 복구하여 버퍼에 추가하고, 플러셔 스레드를 시작
+     */
+    @PostConstruct
+    public void start() {
+        List<JournalEntry> recovered = likeSyncJournal.drainRecovered();
+        recovered.forEach(entry -> pendingLikes.offer(entry.likeInfo(), entry.sequence(), 0));
+        if (!recovered.isEmpty()) {
+            log.info("Recovered {} pending likes from journal", recovered.size());
+        }
+
+        running = true;
+        flusher = Thread.ofPlatform()
+            .name("like-sync-flusher")
+            .daemon()
+            .start(this::runFlusher);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (flusher != null) {
+            flusher.interrupt();
+            flusher.join(TimeUnit.SECONDS.toMillis(5));
+        }
     }
-    
+
     /**
-     * 좋아요 동기화 큐에 추가
+     * 좋아요 동기화 버퍼에 추가
+     * 저널에 먼저 기록한 뒤 버퍼에 추가하며, 임계값에 도달하면 플러셔 스레드에 동기화를 요청한다.
      */
     public void addToPendingSync(LikeInfo likeInfo) {
-        pendingLikes.add(likeInfo);
-        
-        // 임계값 체크 후 필요시 동기화 실행
+        long sequence = likeSyncJournal.append(likeInfo);
+        if (sequence == LikeSyncJournal.NOT_JOURNALED && likeSyncJournal.isEnabled()) {
+            log.warn("Like sync journal is full, buffering without journal: {}", likeInfo);
+        }
+
+        receivedCounter.increment();
+        if (pendingLikes.offer(likeInfo, sequence, BACKPRESSURE_WAIT_MS)) {
+            overflowCounter.increment();
+        }
+
+        // 임계값 체크 후 필요시 동기화 요청
         if (shouldSync()) {
-            syncToDatabase();
+            synchronized (flushSignal) {
+                flushSignal.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * 리소스에 DB 에 아직 반영되지 않은 좋아요가 있는지 확인 (버퍼에 대기 중이거나 반영 중인 좋아요)
+     * 이 경우 Redis 좋아요 수에는 반영되었지만 likes 테이블에는 아직 없는 토글이 있다.
+     */
+    public boolean hasPendingLikes(String resourceType, Long resourceId) {
+        if (pendingLikes.containsResource(resourceType, resourceId)) {
+            return true;
         }
+        return inFlightLikes.stream()
+            .map(PendingLike::likeInfo)
+            .anyMatch(likeInfo -> likeInfo.resourceType().equals(resourceType) && likeInfo.resourceId().equals(resourceId));
     }
-    
+
+    /**
+     * 리소스의 DB 에 아직 반영되지 않은 좋아요 조회 (반영 중인 좋아요, 버퍼에 대기 중인 좋아요 순서)
+     * 같은 멤버의 좋아요가 둘 다 있으면 뒤쪽이 최신 상태이다.
+     */
+    public List<LikeInfo> findPendingLikes(String resourceType, Long resourceId) {
+        List<LikeInfo> inFlight = inFlightLikes.stream()
+            .map(PendingLike::likeInfo)
+            .filter(likeInfo -> likeInfo.resourceType().equals(resourceType) && likeInfo.resourceId().equals(resourceId))
+            .toList();
+        List<LikeInfo> buffered = pendingLikes.findByResource(resourceType, resourceId);
+        if (inFlight.isEmpty()) {
+            return buffered;
+        }
+        List<LikeInfo> pending = new ArrayList<>(inFlight);
+        pending.addAll(buffered);
+        return pending;
+    }
+
     /**
      * 동기화가 필요한지 체크
      */
     private boolean shouldSync() {
-        return pendingLikes.size() >= BATCH_SIZE_THRESHOLD || 
-               (System.currentTimeMillis() - lastSyncTime.get() >= TIME_THRESHOLD_MS);
+        return pendingLikes.size() >= batchSize.get() ||
+               pendingLikes.estimatedBytes() >= FLUSH_BUFFER_BYTES ||
+               pendingLikes.oldestAgeMillis() >= TIME_THRESHOLD_MS;
+    }
+
+    private void runFlusher() {
+        while (running) {
+            try {
+                synchronized (flushSignal) {
+                    flushSignal.wait(FLUSHER_POLL_MS);
+                }
+                if (shouldSync()) {
+                    syncToDatabase();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Like sync flusher failed", e);
+            }
+        }
     }
-    
+
     /**
      * 데이터베이스 동기화 실행
+     * 버퍼가 빌 때까지 배치 크기만큼 나누어 반영하며, 반영에 실패하면 남은 좋아요는 다음 동기화로 미룬다.
+     * 다른 스레드에서 동기화 중인 경우에는 건너뛴다.
      */
-    @Transactional
     public void syncToDatabase() {
-        if (pendingLikes.isEmpty()) {
+        if (pendingLikes.size() == 0 || !syncLock.tryLock()) {
             return;
         }
-        
-        log.info("Syncing {} likes to database", pendingLikes.size());
-        
-        // 큐에서 처리할 좋아요 목록 추출
-        List<LikeInfo> likesToSync = new ArrayList<>();
-        LikeInfo like;
-        while ((like = pendingLikes.poll()) != null) {
-            likesToSync.add(like);
+
+        try {
+            boolean synced = true;
+            while (synced && pendingLikes.size() > 0) {
+                synced = syncBatch(pendingLikes.drain(batchSize.get()));
+            }
+
+            // 마지막 동기화 시간 업데이트
+            lastSyncTime.set(System.currentTimeMillis());
+        } finally {
+            syncLock.unlock();
         }
-        
+    }
+
+    private boolean syncBatch(List<PendingLike> batch) {
+        if (batch.isEmpty()) {
+            return false;
+        }
+
+        log.info("Syncing {} likes to database", batch.size());
+        long startTime = System.nanoTime();
+
+        inFlightLikes = batch;
         try {
             // QueryDSL을 사용한 벌크 업데이트 실행
-            int updatedCount = likeRepositoryCustom.bulkUpsertLikes(likesToSync);
-            log.info("Successfully synced {} likes to database", updatedCount);
+            transactionTemplate.executeWithoutResult(status -> upsert(batch));
+            acknowledgeAfterCommit(batch);
         } catch (Exception e) {
-            // 에러 발생 시 큐에 다시 추가
+            // 에러 발생 시 버퍼에 다시 추가
             log.error("Failed to sync likes to database", e);
-            pendingLikes.addAll(likesToSync);
+            pendingLikes.requeue(batch);
+            return false;
+        } finally {
+            inFlightLikes = List.of();
+        }
+
+        long elapsedNanos = System.nanoTime() - startTime;
+        flushTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        writtenCounter.increment(batch.size());
+        adjustBatchSize(batch.size(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        return true;
+    }
+
+    /**
+     * 좋아요 일괄 반영
+     * 제약 조건 위반으로 일괄 반영이 실패하면 한 건씩 반영하고, 반영할 수 없는 기록은 버린다.
+     */
+    private void upsert(List<PendingLike> batch) {
+        try {
+            int updatedCount = likeRepositoryCustom.bulkUpsertLikes(batch.stream().map(PendingLike::likeInfo).toList());
+            log.info("Successfully synced {} likes to database", updatedCount);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Bulk like sync violated a constraint, retrying one by one", e);
+            for (PendingLike pendingLike : batch) {
+                try {
+                    likeRepositoryCustom.bulkUpsertLikes(List.of(pendingLike.likeInfo()));
+                } catch (DataIntegrityViolationException ex) {
+                    log.error("Dropping like that cannot be synced: {}", pendingLike.likeInfo(), ex);
+                }
+            }
+        }
+    }
+
+    /**
+     * 반영이 빠르고 배치가 가득 찼으면 배치를 키우고, 목표 시간보다 느리면 줄인다
+     */
+    private void adjustBatchSize(int syncedCount, long elapsedMillis) {
+        int current = batchSize.get();
+        if (elapsedMillis > TARGET_FLUSH_LATENCY_MS) {
+            batchSize.set(Math.max(MIN_BATCH_SIZE, current / 2));
+        } else if (elapsedMillis < TARGET_FLUSH_LATENCY_MS / 2 && syncedCount >= current) {
+            batchSize.set(Math.min(MAX_BATCH_SIZE, current * 2));
+        }
+    }
+
+    private void acknowledgeAfterCommit(List<PendingLike> batch) {
+        List<Long> sequences = batch.stream()
+            .flatMap(pendingLike -> pendingLike.sequences().stream())
+            .filter(sequence -> sequence != LikeSyncJournal.NOT_JOURNALED)
+            .toList();
+
+        List<LikeInfo> likeInfos = batch.stream().map(PendingLike::likeInfo).toList();
+
+        // 바깥 트랜잭션에 참여한 경우 그 트랜잭션이 커밋된 뒤에 acknowledge 한다
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            likeSyncJournal.acknowledge(sequences);
+            likeExistenceFilter.addAll(likeInfos);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    likeSyncJournal.acknowledge(sequences);
+                    likeExistenceFilter.addAll(likeInfos);
+                } else {
+                    pendingLikes.requeue(batch);
+                }
+            }
+        });
+    }
+
+    /**
+     * 토글 대비 실제 DB 반영 건수로 계산한 합치기 비율 (0 이면 합쳐진 토글이 없음)
+     */
+    private double getCoalescingRatio() {
+        double received = receivedCounter.count();
+        if (received == 0) {
+            return 0;
         }
-        
-        // 마지막 동기화 시간 업데이트
-        lastSyncTime.set(System.currentTimeMillis());
+        return Math.max(0, 1 - (writtenCounter.count() + pendingLikes.size()) / received);
     }
 }
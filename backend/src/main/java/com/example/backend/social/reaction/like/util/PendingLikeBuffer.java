@@ -0,0 +1,242 @@
+package com.example.backend.social.reaction.like.util;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+import com.example.backend.social.reaction.like.dto.LikeInfo;
+
+/**
+ * DB 동기화 대기 중인 좋아요를 (memberId, resourceType, resourceId) 별로 모아두는 버퍼
+ * 같은 대상에 대한 토글은 마지막 상태만 남기며(last write wins), 신규 좋아요의 생성 시간과 저널 seq 는 합쳐서 유지한다.
+ * 버퍼가 가득 차면 생산자는 지정한 시간까지만 대기한다.
+ *
+ * @author Metronon
+ * @since 2025-03-15
+ */
+public class PendingLikeBuffer {
+    // 좋아요 정보 / 키 / seq 목록 등을 포함한 항목 1개의 대략적인 메모리 크기
+    private static final long ESTIMATED_ENTRY_BYTES = 256L;
+    private static final long ESTIMATED_SEQUENCE_BYTES = Long.BYTES;
+
+    private final int maxEntries;
+    private final long maxBytes;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notFull = lock.newCondition();
+    private final Map<LikeKey, PendingLike> pending = new LinkedHashMap<>();
+    // 리소스별 대기 중인 좋아요 수 (좋아요 수 재집계에서 대기 중인 리소스를 건너뛰기 위함)
+    private final Map<ResourceKey, Integer> pendingResources = new HashMap<>();
+    private long estimatedBytes;
+
+    public PendingLikeBuffer(int maxEntries, long maxBytes) {
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+    }
+
+    public record LikeKey(Long memberId, String resourceType, Long resourceId) {
+        static LikeKey of(LikeInfo likeInfo) {
+            return new LikeKey(likeInfo.memberId(), likeInfo.resourceType(), likeInfo.resourceId());
+        }
+    }
+
+    public record ResourceKey(String resourceType, Long resourceId) {
+        static ResourceKey of(LikeInfo likeInfo) {
+            return new ResourceKey(likeInfo.resourceType(), likeInfo.resourceId());
+        }
+    }
+
+    /**
+     * 동기화 대기 중인 좋아요
+     * @param likeInfo 마지막 좋아요 상태
+     * @param sequences 합쳐진 저널 seq 목록
+     * @param enqueuedAt 처음 버퍼에 들어온 시간 (ms)
+     */
+    public record PendingLike(LikeInfo likeInfo, List<Long> sequences, long enqueuedAt) {
+
+        // older 이후에 newer 가 발생한 것으로 보고 합친다
+        static PendingLike merge(PendingLike older, PendingLike newer) {
+            LikeInfo latest = newer.likeInfo();
+            LocalDateTime createDate = latest.createDate() != null ? latest.createDate() : older.likeInfo().createDate();
+
+            return new PendingLike(
+                new LikeInfo(latest.memberId(), latest.resourceId(), latest.resourceType(),
+                    createDate, latest.modifyDate(), latest.isActive()),
+                Stream.concat(older.sequences().stream(), newer.sequences().stream()).toList(),
+                Math.min(older.enqueuedAt(), newer.enqueuedAt()));
+        }
+    }
+
+    /**
+     * 좋아요를 버퍼에 추가
+     * 버퍼가 가득 찬 경우 최대 maxWaitMillis 동안 공간이 생기기를 기다린 뒤, 그래도 가득 차 있으면 그대로 추가한다.
+     * @param likeInfo 좋아요 정보
+     * @param sequence 저널 seq
+     * @param maxWaitMillis 최대 대기 시간
+     * @return 대기 후에도 버퍼가 가득 차 있었는지 여부
+     */
+    public boolean offer(LikeInfo likeInfo, long sequence, long maxWaitMillis) {
+        PendingLike pendingLike = new PendingLike(likeInfo, List.of(sequence), System.currentTimeMillis());
+
+        lock.lock();
+        try {
+            long remainingNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+            while (isFull() && remainingNanos > 0) {
+                remainingNanos = notFull.awaitNanos(remainingNanos);
+            }
+            boolean overflowed = isFull();
+
+            put(pendingLike, false);
+            return overflowed;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            put(pendingLike, false);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 오래된 순서로 최대 limit 개를 꺼낸다
+     * @param limit 최대 개수
+     * @return 꺼낸 좋아요 목록
+     */
+    public List<PendingLike> drain(int limit) {
+        lock.lock();
+        try {
+            List<PendingLike> drained = new ArrayList<>(Math.min(limit, pending.size()));
+            Iterator<PendingLike> iterator = pending.values().iterator();
+            while (iterator.hasNext() && drained.size() < limit) {
+                PendingLike pendingLike = iterator.next();
+                iterator.remove();
+                estimatedBytes -= estimateBytes(pendingLike);
+                pendingResources.computeIfPresent(ResourceKey.of(pendingLike.likeInfo()),
+                    (resourceKey, count) -> count > 1 ? count - 1 : null);
+                drained.add(pendingLike);
+            }
+
+            if (!drained.isEmpty()) {
+                notFull.signalAll();
+            }
+            return drained;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * DB 반영에 실패한 좋아요를 되돌린다
+     * 그 사이에 같은 대상의 새 토글이 들어온 경우 새 상태를 유지한다.
+     * @param pendingLikes 되돌릴 좋아요 목록
+     */
+    public void requeue(List<PendingLike> pendingLikes) {
+        lock.lock();
+        try {
+            pendingLikes.forEach(pendingLike -> put(pendingLike, true));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return pending.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 리소스에 대기 중인 좋아요가 있는지 확인
+     * @param resourceType 리소스 타입
+     * @param resourceId 리소스 ID
+     * @return 대기 중인 좋아요 존재 여부
+     */
+    public boolean containsResource(String resourceType, Long resourceId) {
+        lock.lock();
+        try {
+            return pendingResources.containsKey(new ResourceKey(resourceType, resourceId));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 리소스에 대기 중인 좋아요를 대기 순서대로 조회
+     * @param resourceType 리소스 타입
+     * @param resourceId 리소스 ID
+     * @return 대기 중인 좋아요 목록 (멤버별 마지막 상태)
+     */
+    public List<LikeInfo> findByResource(String resourceType, Long resourceId) {
+        lock.lock();
+        try {
+            if (!pendingResources.containsKey(new ResourceKey(resourceType, resourceId))) {
+                return List.of();
+            }
+            return pending.values().stream()
+                .map(PendingLike::likeInfo)
+                .filter(likeInfo -> likeInfo.resourceType().equals(resourceType) && likeInfo.resourceId().equals(resourceId))
+                .toList();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long estimatedBytes() {
+        lock.lock();
+        try {
+            return estimatedBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 가장 오래 대기 중인 좋아요의 대기 시간
+     * @return 대기 시간 (ms), 비어있으면 0
+     */
+    public long oldestAgeMillis() {
+        lock.lock();
+        try {
+            if (pending.isEmpty()) {
+                return 0L;
+            }
+            return System.currentTimeMillis() - pending.values().iterator().next().enqueuedAt();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isFull() {
+        return pending.size() >= maxEntries || estimatedBytes >= maxBytes;
+    }
+
+    private void put(PendingLike pendingLike, boolean older) {
+        LikeKey key = LikeKey.of(pendingLike.likeInfo());
+        // 이미 있는 키는 put 해도 순서가 유지되므로 가장 오래된 항목이 앞에 남는다
+        PendingLike existing = pending.get(key);
+        if (existing != null) {
+            estimatedBytes -= estimateBytes(existing);
+            pendingLike = older ? PendingLike.merge(pendingLike, existing) : PendingLike.merge(existing, pendingLike);
+        } else {
+            pendingResources.merge(ResourceKey.of(pendingLike.likeInfo()), 1, Integer::sum);
+        }
+
+        pending.put(key, pendingLike);
+        estimatedBytes += estimateBytes(pendingLike);
+    }
+
+    private static long estimateBytes(PendingLike pendingLike) {
+        return ESTIMATED_ENTRY_BYTES + pendingLike.sequences().size() * ESTIMATED_SEQUENCE_BYTES;
+    }
+}
@@ -3,6 +3,10 @@ package com.example.backend.social.reaction.like.util;
 public class RedisKeyUtil {
 	private static final String LIKE_KEY_FORMAT = "like:%s:%d:%d";
 	private static final String LIKE_COUNT_KEY_FORMAT = "likeCount:%s:%d";
+	private static final String LIKE_COUNT_DIRTY_KEY = "likeCount:dirty";
+	private static final String RESOURCE_MEMBER_FORMAT = "%s:%d";
+	private static final String LIKERS_KEY_FORMAT = "likers:%s:%d";
+	private static final String LIKERS_COMPLETE_KEY_FORMAT = "likers:%s:%d:complete";
 
 	public static String getLikeKey(String resourceType, Long resourceId, Long memberId) {
 		return String.format(LIKE_KEY_FORMAT, resourceType, resourceId, memberId);
@@ -11,4 +15,23 @@ public class RedisKeyUtil {
 	public static String getLikeCountKey(String resourceType, Long resourceId) {
 		return String.format(LIKE_COUNT_KEY_FORMAT, resourceType, resourceId);
 	}
+
+	// 좋아요 수가 바뀌어 DB 반영이 필요한 리소스 집합 (멤버 : "리소스 타입:리소스 ID")
+	public static String getLikeCountDirtyKey() {
+		return LIKE_COUNT_DIRTY_KEY;
+	}
+
+	// 리소스에 좋아요를 누른 멤버 목록 (score : 좋아요 시간)
+	public static String getLikersKey(String resourceType, Long resourceId) {
+		return String.format(LIKERS_KEY_FORMAT, resourceType, resourceId);
+	}
+
+	// 좋아요 누른 멤버 목록이 DB 의 전체 목록을 담고 있음을 나타내는 키
+	public static String getLikersCompleteKey(String resourceType, Long resourceId) {
+		return String.format(LIKERS_COMPLETE_KEY_FORMAT, resourceType, resourceId);
+	}
+
+	public static String getResourceMember(String resourceType, Long resourceId) {
+		return String.format(RESOURCE_MEMBER_FORMAT, resourceType, resourceId);
+	}
 }
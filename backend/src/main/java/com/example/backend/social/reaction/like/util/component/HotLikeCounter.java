@@ -0,0 +1,247 @@
+package com.example.backend.social.reaction.like.util.component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.backend.entity.LikeRepository;
+import com.example.backend.social.reaction.like.util.RedisKeyUtil;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 좋아요가 몰리는 리소스의 좋아요 수 증감을 서버 메모리에 모았다가 Redis 에 주기적으로 반영하는 컴포넌트
+ * 1초 구간 동안 한 리소스의 토글 수가 임계값을 넘으면 hot 리소스로 전환하고,
+ * hot 리소스의 좋아요 수 증감은 LongAdder 에 누적한 뒤 FLUSH_INTERVAL_MS 마다 INCRBY 로 한 번에 반영한다.
+ * 좋아요 수 키가 만료 / 재집계로 사라진 경우에는 likes 테이블 기준 좋아요 수로 다시 채운 뒤 증감을 반영한다.
+ * 일정 시간 임계값을 넘지 않으면 다시 일반 모드로 돌아가며, 전환 이후에 들어온 증감도 다음 주기에 반영한다.
+ *
+ * @author Metronon
+ * @since 2025-03-15
+ */
+@Slf4j
+@Component
+public class HotLikeCounter {
+    private static final long FLUSH_INTERVAL_MS = 200;
+    private static final long WINDOW_MS = 1_000;
+    // 임계값을 넘지 않은 구간이 이 시간 동안 이어지면 일반 모드로 전환
+    private static final long COOL_DOWN_MS = Duration.ofMinutes(1).toMillis();
+
+    // 좋아요 수 증감 반영 (KEYS[1] : 좋아요 수 키, KEYS[2] : 변경 리소스 집합 키)
+    // ARGV[1] : 증감, ARGV[2] : TTL (초), ARGV[3] : 변경 리소스 집합에 추가할 멤버
+    // ARGV[4] : 좋아요 수 키가 없을 때 채울 DB 의 좋아요 수 (모르면 "" -> 반영하지 않고 0 반환)
+    private static final String INCREASE_SCRIPT =
+        "if redis.call('EXISTS', KEYS[1]) == 0 then "
+            + "  if ARGV[4] == '' then return 0 end "
+            + "  redis.call('SET', KEYS[1], ARGV[4]) "
+            + "end "
+            + "redis.call('INCRBY', KEYS[1], ARGV[1]) "
+            + "redis.call('EXPIRE', KEYS[1], ARGV[2]) "
+            + "redis.call('SADD', KEYS[2], ARGV[3]) "
+            + "return 1";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final LikeRepository likeRepository;
+    private final long threshold;
+
+    // 현재 구간의 리소스별 토글 수
+    private volatile Map<String, LongAdder> windowHits = new ConcurrentHashMap<>();
+    private long windowStartedAt = System.currentTimeMillis();
+
+    // hot 리소스의 좋아요 수 키 -> 미반영 증감
+    private final Map<String, HotCounter> hotCounters = new ConcurrentHashMap<>();
+    // 일반 모드로 전환된 뒤 다시 반영할 카운터 (전환 이후에 증감이 들어오면 다시 추가된다)
+    private final Queue<HotCounter> retiredCounters = new ConcurrentLinkedQueue<>();
+
+    public HotLikeCounter(
+        StringRedisTemplate stringRedisTemplate,
+        LikeRepository likeRepository,
+        MeterRegistry meterRegistry,
+        @Value("${custom.like.hotKey.threshold:100}") long threshold) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.likeRepository = likeRepository;
+        this.threshold = threshold;
+        Gauge.builder("like.hot.keys", hotCounters, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * 리소스의 미반영 좋아요 수 증감
+     */
+    public static final class HotCounter {
+        private final String countKey;
+        private final String resourceMember;
+        private final Queue<HotCounter> retiredCounters;
+        private final LongAdder delta = new LongAdder();
+        private volatile long lastHotAt;
+        private volatile boolean retired;
+
+        private HotCounter(String countKey, String resourceMember, Queue<HotCounter> retiredCounters, long now) {
+            this.countKey = countKey;
+            this.resourceMember = resourceMember;
+            this.retiredCounters = retiredCounters;
+            this.lastHotAt = now;
+        }
+
+        // 일반 모드로 전환되기 전에 카운터를 받아간 토글이면 다음 주기에 반영되도록 다시 추가한다
+        public void add(long value) {
+            delta.add(value);
+            if (retired) {
+                retiredCounters.add(this);
+            }
+        }
+
+        public long pendingDelta() {
+            return delta.sum();
+        }
+    }
+
+    /**
+     * 토글 요청을 기록하고, hot 리소스인 경우 좋아요 수 증감을 누적할 카운터를 반환
+     *
+     * @param countKey 좋아요 수 키
+     * @param resourceMember 변경 리소스 집합에 기록할 멤버 ("리소스 타입:리소스 ID")
+     * @return hot 리소스이면 카운터, 아니면 null (Redis 에 바로 반영)
+     */
+    public HotCounter acquire(String countKey, String resourceMember) {
+        LongAdder hits = windowHits.computeIfAbsent(countKey, key -> new LongAdder());
+        hits.increment();
+
+        HotCounter counter = hotCounters.get(countKey);
+        if (counter == null && hits.sum() >= threshold) {
+            counter = hotCounters.computeIfAbsent(countKey, key -> {
+                log.info("Like counter switched to hot mode: {}", key);
+                return new HotCounter(key, resourceMember, retiredCounters, System.currentTimeMillis());
+            });
+        }
+        return counter;
+    }
+
+    /**
+     * 좋아요 수 키의 이 서버에서 아직 Redis 에 반영되지 않은 증감
+     */
+    public long pendingDelta(String countKey) {
+        HotCounter counter = hotCounters.get(countKey);
+        return counter != null ? counter.pendingDelta() : 0L;
+    }
+
+    /**
+     * 누적된 좋아요 수 증감을 Redis 에 파이프라인으로 반영하고, 구간이 지나면 hot 리소스를 다시 판정
+     * 좋아요 수 키가 없는 리소스는 DB 의 좋아요 수를 조회하여 채우면서 한 번 더 반영한다.
+     * 반영에 실패한 증감은 카운터에 되돌려 다음 주기에 다시 반영한다.
+     */
+    @Scheduled(fixedDelay = FLUSH_INTERVAL_MS)
+    public void flush() {
+        List<HotCounter> counters = new ArrayList<>(hotCounters.values());
+        HotCounter retired;
+        while ((retired = retiredCounters.poll()) != null) {
+            counters.add(retired);
+        }
+
+        long now = System.currentTimeMillis();
+        if (now - windowStartedAt >= WINDOW_MS) {
+            rotateWindow(now);
+        }
+
+        List<HotCounter> flushing = new ArrayList<>();
+        List<Long> deltas = new ArrayList<>();
+        for (HotCounter counter : counters) {
+            long delta = counter.delta.sumThenReset();
+            if (delta != 0) {
+                flushing.add(counter);
+                deltas.add(delta);
+            }
+        }
+        if (flushing.isEmpty()) {
+            return;
+        }
+
+        // 반영되지 않은 카운터와 증감 (실패 시 되돌릴 대상)
+        List<HotCounter> unflushed = flushing;
+        List<Long> unflushedDeltas = deltas;
+        try {
+            List<Object> results = increase(flushing, deltas, null);
+
+            // 좋아요 수 키가 없어 반영하지 못한 리소스는 DB 의 좋아요 수로 채우면서 다시 반영
+            List<HotCounter> missing = new ArrayList<>();
+            List<Long> missingDeltas = new ArrayList<>();
+            for (int i = 0; i < flushing.size(); i++) {
+                if (results.size() > i && results.get(i) instanceof Number applied && applied.longValue() == 0L) {
+                    missing.add(flushing.get(i));
+                    missingDeltas.add(deltas.get(i));
+                }
+            }
+            unflushed = missing;
+            unflushedDeltas = missingDeltas;
+            if (!missing.isEmpty()) {
+                increase(missing, missingDeltas, missing.stream().map(this::countLikes).toList());
+            }
+        } catch (Exception e) {
+            log.error("Failed to flush hot like counters", e);
+            for (int i = 0; i < unflushed.size(); i++) {
+                unflushed.get(i).add(unflushedDeltas.get(i));
+            }
+        }
+    }
+
+    private List<Object> increase(List<HotCounter> counters, List<Long> deltas, List<String> seeds) {
+        String ttlSeconds = String.valueOf(RedisLikeService.CACHE_TTL.toSeconds());
+        return stringRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection)connection;
+            for (int i = 0; i < counters.size(); i++) {
+                HotCounter counter = counters.get(i);
+                stringConnection.eval(INCREASE_SCRIPT, ReturnType.INTEGER, 2,
+                    counter.countKey, RedisKeyUtil.getLikeCountDirtyKey(),
+                    String.valueOf(deltas.get(i)), ttlSeconds, counter.resourceMember,
+                    seeds != null ? seeds.get(i) : "");
+            }
+            return null;
+        });
+    }
+
+    // 변경 리소스 멤버 ("리소스 타입:리소스 ID") 의 DB 좋아요 수
+    private String countLikes(HotCounter counter) {
+        int separator = counter.resourceMember.lastIndexOf(':');
+        String resourceType = counter.resourceMember.substring(0, separator);
+        Long resourceId = Long.parseLong(counter.resourceMember.substring(separator + 1));
+        return String.valueOf(likeRepository.countLikes(resourceType, resourceId));
+    }
+
+    private void rotateWindow(long now) {
+        Map<String, LongAdder> finished = windowHits;
+        windowHits = new ConcurrentHashMap<>();
+        windowStartedAt = now;
+
+        finished.forEach((countKey, hits) -> {
+            HotCounter counter = hotCounters.get(countKey);
+            if (counter != null && hits.sum() >= threshold) {
+                counter.lastHotAt = now;
+            }
+        });
+
+        // 토글 직전에 카운터를 받아간 요청이 있을 수 있으므로 제거한 카운터도 다음 주기에 한 번 더 반영한다
+        hotCounters.values().removeIf(counter -> {
+            boolean cooled = now - counter.lastHotAt >= COOL_DOWN_MS;
+            if (cooled) {
+                counter.retired = true;
+                retiredCounters.add(counter);
+                log.info("Like counter switched back to normal mode: {}", counter.countKey);
+            }
+            return cooled;
+        });
+    }
+}
@@ -2,57 +2,211 @@ package com.example.backend.social.reaction.like.util.component;
 
 import static com.example.backend.entity.QCommentEntity.*;
 import static com.example.backend.entity.QLikeEntity.*;
-import static com.example.backend.entity.QPostEntity.*;
+import static com.example.backend.entity.QPostStatsEntity.*;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.example.backend.entity.PostStatsRepository;
+import com.example.backend.social.reaction.like.service.LikeSyncService;
+import com.example.backend.social.reaction.like.util.RedisKeyUtil;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * post_stats 와 Comment 엔티티의 likeCount 동기화
+ * 평소에는 좋아요 토글 시 Redis 에 기록된 변경 리소스만 Redis 좋아요 수 기준으로 반영하고,
+ * likes 테이블 기준의 전체 재집계는 하루 한 번 구간별로 나누어 천천히 수행한다.
+ *
+ * @author Metronon
+ * @since 2025-03-15
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class LikeCountSynchronizer {
 
     private final JPAQueryFactory queryFactory;
+    private final PostStatsRepository postStatsRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final LikeSyncService likeSyncService;
+
+    // 한 번에 꺼내서 반영할 변경 리소스 수
+    private static final int DIRTY_BATCH_SIZE = 1_000;
+
+    // 전체 재집계 시 한 트랜잭션에서 처리할 행 수와 구간 사이 대기 시간
+    private static final int REPAIR_CHUNK_SIZE = 1_000;
+    private static final long REPAIR_CHUNK_PAUSE_MS = 200;
+
+    private static final String UPDATE_POST_LIKE_COUNT_SQL =
+        "UPDATE post_stats SET like_count = ? WHERE post_id = ?";
+    private static final String UPDATE_COMMENT_LIKE_COUNT_SQL =
+        "UPDATE comment SET like_count = ? WHERE id = ? AND is_deleted = FALSE";
+
+    @Autowired
+    public LikeCountSynchronizer(JPAQueryFactory queryFactory,
+        PostStatsRepository postStatsRepository,
+        StringRedisTemplate stringRedisTemplate,
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        LikeSyncService likeSyncService) {
+        this.queryFactory = queryFactory;
+        this.postStatsRepository = postStatsRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.likeSyncService = likeSyncService;
+    }
+
+    private record LikeCount(Long resourceId, long count) { }
 
     /**
-     * 30초마다 Post 엔티티와 Comment 엔티티의 likeCount를 동기화
+     * 30초마다 좋아요 수가 바뀐 게시물 / 댓글의 likeCount 를 Redis 좋아요 수로 동기화
+     * 변경이 없으면 DB 에 쿼리를 보내지 않는다.
      */
     @Async
     @Scheduled(fixedRate = 30000) // 30초마다 실행
-    @Transactional
     public void synchronizeLikeCounts() {
-        log.info("========좋아요 동기화 시작========");
         try {
-            // Post 엔티티 likeCount 동기화
-            int updatedPosts = synchronizePostLikeCounts();
-            // Comment 엔티티 likeCount 동기화
-            int updatedComments = synchronizeCommentLikeCounts();
+            int synced = 0;
+            List<String> resources;
+            do {
+                resources = popDirtyResources();
+                synced += applyLikeCounts(resources);
+            } while (resources.size() == DIRTY_BATCH_SIZE);
 
-            log.info("좋아요 수 동기화 완료: 게시물 {}회, 댓글{}회",
-                    updatedPosts, updatedComments);
+            if (synced > 0) {
+                log.info("좋아요 수 동기화 완료: {}건", synced);
+            }
         } catch (Exception e) {
             log.error("좋아요 수 동기화 중 에러 발생: {}", e.getMessage(), e);
         }
     }
 
+    private List<String> popDirtyResources() {
+        List<String> resources = stringRedisTemplate.opsForSet().pop(RedisKeyUtil.getLikeCountDirtyKey(), DIRTY_BATCH_SIZE);
+        return resources != null ? resources : List.of();
+    }
+
+    /**
+     * 변경 리소스의 Redis 좋아요 수를 한 번에 조회하여 타입별 JDBC batch 로 반영
+     * 좋아요 수 키가 만료된 리소스는 건너뛰고 (전체 재집계에서 보정), 반영에 실패하면 변경 집합에 되돌려 놓는다.
+     *
+     * @param resources 변경 리소스 ("리소스 타입:리소스 ID")
+     * @return 반영 대상 건수
+     */
+    private int applyLikeCounts(List<String> resources) {
+        if (resources.isEmpty()) {
+            return 0;
+        }
+
+        List<String> countKeys = new ArrayList<>(resources.size());
+        List<String> resourceTypes = new ArrayList<>(resources.size());
+        List<Long> resourceIds = new ArrayList<>(resources.size());
+        for (String resource : resources) {
+            int separator = resource.lastIndexOf(':');
+            String resourceType = resource.substring(0, separator);
+            Long resourceId = Long.parseLong(resource.substring(separator + 1));
+            resourceTypes.add(resourceType);
+            resourceIds.add(resourceId);
+            countKeys.add(RedisKeyUtil.getLikeCountKey(resourceType, resourceId));
+        }
+
+        List<String> counts = stringRedisTemplate.opsForValue().multiGet(countKeys);
+        List<LikeCount> postCounts = new ArrayList<>();
+        List<LikeCount> commentCounts = new ArrayList<>();
+        for (int i = 0; i < resources.size(); i++) {
+            String count = counts != null ? counts.get(i) : null;
+            if (count == null) {
+                continue;
+            }
+
+            LikeCount likeCount = new LikeCount(resourceIds.get(i), Math.max(0, Long.parseLong(count)));
+            switch (resourceTypes.get(i)) {
+                case "POST" -> postCounts.add(likeCount);
+                case "COMMENT" -> commentCounts.add(likeCount);
+                default -> { }
+            }
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                batchUpdate(UPDATE_POST_LIKE_COUNT_SQL, postCounts);
+                batchUpdate(UPDATE_COMMENT_LIKE_COUNT_SQL, commentCounts);
+            });
+        } catch (Exception e) {
+            log.error("좋아요 수 반영 실패, 다음 동기화에서 재시도: {}", e.getMessage(), e);
+            stringRedisTemplate.opsForSet().add(RedisKeyUtil.getLikeCountDirtyKey(), resources.toArray(String[]::new));
+            return 0;
+        }
+
+        return postCounts.size() + commentCounts.size();
+    }
+
+    private void batchUpdate(String sql, List<LikeCount> likeCounts) {
+        if (likeCounts.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(sql, likeCounts, likeCounts.size(), (ps, likeCount) -> {
+            ps.setLong(1, likeCount.count());
+            ps.setLong(2, likeCount.resourceId());
+        });
+    }
+
     /**
-     * 포스트 엔티티의 좋아요 수를 서브 쿼리를 이용해 동기화합니다.
+     * likes 테이블 기준으로 전체 게시물 / 댓글의 좋아요 수를 다시 집계 (Redis 좋아요 수 만료 등으로 빠진 변경 보정)
+     * id 구간별로 나누어 짧은 트랜잭션으로 처리하고, 구간 사이에 대기하여 DB 부하가 몰리지 않도록 한다.
+     * 값을 바로잡은 리소스는 Redis 좋아요 수 키도 지워서, 어긋난 Redis 값이 다음 동기화 때 다시 DB 에 반영되지 않도록 한다.
+     * 단, DB 반영 대기 중인 좋아요가 있는 리소스는 키를 남겨서 다음 토글이 그 좋아요가 빠진 DB 값으로 다시 채우지 않도록 한다.
+     */
+    @Async
+    @Scheduled(cron = "${custom.like.countRepairCron:0 0 4 * * *}")
+    public void repairLikeCounts() {
+        log.info("========좋아요 수 재집계 시작========");
+        try {
+            // 집계 row 가 없는 게시물은 먼저 생성
+            Integer createdStats = transactionTemplate.execute(status -> postStatsRepository.insertMissingStats());
+            if (createdStats != null && createdStats > 0) {
+                log.info("게시물 집계 {}개 생성", createdStats);
+            }
+
+            // post_stats likeCount 재집계
+            int updatedPosts = repairPostLikeCounts();
+            // Comment 엔티티 likeCount 재집계
+            int updatedComments = repairCommentLikeCounts();
+
+            log.info("좋아요 수 재집계 완료: 게시물 {}회, 댓글{}회",
+                    updatedPosts, updatedComments);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("좋아요 수 재집계 중 에러 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 포스트 집계(post_stats)의 좋아요 수를 서브 쿼리를 이용해 구간별로 재집계합니다.
      * 각 포스트마다 likeEntity 테이블에서 실제 좋아요 카운트를 계산한 후,
      * 현재 저장된 값과 다르면 업데이트합니다.
      *
      * @return 업데이트된 포스트 건수
      */
-    private int synchronizePostLikeCounts() {
+    private int repairPostLikeCounts() throws InterruptedException {
         // 포스트마다 좋아요 수를 계산하는 서브 쿼리
         NumberExpression<Long> likeCountSubQuery = Expressions.numberTemplate(
             Long.class,
@@ -60,34 +214,66 @@ public class LikeCountSynchronizer {
             JPAExpressions.select(likeEntity.count())
                 .from(likeEntity)
                 .where(
-                    likeEntity.resourceId.eq(postEntity.id),
+                    likeEntity.resourceId.eq(postStatsEntity.postId),
                     likeEntity.resourceType.eq("POST"),
                     likeEntity.isLiked.isTrue()
                 )
         );
 
-        // 삭제되지 않은 포스트 중, 서브 쿼리 결과와 현재 likeCount가 다른 포스트 업데이트
-        long updatedPosts = queryFactory
-            .update(postEntity)
-            .set(postEntity.likeCount, likeCountSubQuery)
-            .where(
-                postEntity.isDeleted.isFalse(),
-                likeCountSubQuery.ne(postEntity.likeCount)
-            )
-            .execute();
-
-        log.info("게시글 {}개 -> 좋아요 수 동기화 완료", updatedPosts);
+        long updatedPosts = 0;
+        Long lastPostId = 0L;
+        while (true) {
+            List<Long> postIds = queryFactory
+                .select(postStatsEntity.postId)
+                .from(postStatsEntity)
+                .where(postStatsEntity.postId.gt(lastPostId))
+                .orderBy(postStatsEntity.postId.asc())
+                .limit(REPAIR_CHUNK_SIZE)
+                .fetch();
+            if (postIds.isEmpty()) {
+                break;
+            }
+
+            Long fromId = postIds.get(0);
+            Long toId = postIds.get(postIds.size() - 1);
+            // 서브 쿼리 결과와 현재 likeCount가 다른 포스트 집계 업데이트
+            List<Long> updatedIds = transactionTemplate.execute(status -> {
+                List<Long> ids = queryFactory
+                    .select(postStatsEntity.postId)
+                    .from(postStatsEntity)
+                    .where(
+                        postStatsEntity.postId.between(fromId, toId),
+                        likeCountSubQuery.ne(postStatsEntity.likeCount)
+                    )
+                    .fetch();
+                if (!ids.isEmpty()) {
+                    queryFactory
+                        .update(postStatsEntity)
+                        .set(postStatsEntity.likeCount, likeCountSubQuery)
+                        .where(postStatsEntity.postId.in(ids))
+                        .execute();
+                }
+                return ids;
+            });
+            evictLikeCounts("POST", updatedIds);
+            updatedPosts += updatedIds != null ? updatedIds.size() : 0;
+
+            lastPostId = toId;
+            Thread.sleep(REPAIR_CHUNK_PAUSE_MS);
+        }
+
+        log.info("게시글 {}개 -> 좋아요 수 재집계 완료", updatedPosts);
         return (int) updatedPosts;
     }
 
     /**
-     * 댓글 엔티티의 좋아요 수를 서브 쿼리를 이용해 동기화합니다.
+     * 댓글 엔티티의 좋아요 수를 서브 쿼리를 이용해 구간별로 재집계합니다.
      * 각 댓글마다 likeEntity 테이블에서 실제 좋아요 카운트를 계산한 후,
      * 현재 저장된 값과 다르면 업데이트합니다.
      *
      * @return 업데이트된 댓글 건수
      */
-    private int synchronizeCommentLikeCounts() {
+    private int repairCommentLikeCounts() throws InterruptedException {
         // 댓글마다 좋아요 수를 계산하는 서브 쿼리
         NumberExpression<Long> likeCountSubQuery = Expressions.numberTemplate(
             Long.class,
@@ -101,17 +287,76 @@ public class LikeCountSynchronizer {
                 )
         );
 
-        // 삭제되지 않은 댓글 중, 서브 쿼리 결과와 현재 likeCount가 다른 댓글 업데이트
-        long updatedComments = queryFactory
-            .update(commentEntity)
-            .set(commentEntity.likeCount, likeCountSubQuery)
-            .where(
-                commentEntity.isDeleted.isFalse(),
-                likeCountSubQuery.ne(commentEntity.likeCount)
-            )
-            .execute();
-
-        log.info("댓글/대댓글 {}개 -> 좋아요 수 동기화 완료", updatedComments);
+        long updatedComments = 0;
+        Long lastCommentId = 0L;
+        while (true) {
+            List<Long> commentIds = queryFactory
+                .select(commentEntity.id)
+                .from(commentEntity)
+                .where(commentEntity.id.gt(lastCommentId))
+                .orderBy(commentEntity.id.asc())
+                .limit(REPAIR_CHUNK_SIZE)
+                .fetch();
+            if (commentIds.isEmpty()) {
+                break;
+            }
+
+            Long fromId = commentIds.get(0);
+            Long toId = commentIds.get(commentIds.size() - 1);
+            // 삭제되지 않은 댓글 중, 서브 쿼리 결과와 현재 likeCount가 다른 댓글 업데이트
+            List<Long> updatedIds = transactionTemplate.execute(status -> {
+                List<Long> ids = queryFactory
+                    .select(commentEntity.id)
+                    .from(commentEntity)
+                    .where(
+                        commentEntity.id.between(fromId, toId),
+                        commentEntity.isDeleted.isFalse(),
+                        likeCountSubQuery.ne(commentEntity.likeCount)
+                    )
+                    .fetch();
+                if (!ids.isEmpty()) {
+                    queryFactory
+                        .update(commentEntity)
+                        .set(commentEntity.likeCount, likeCountSubQuery)
+                        .where(commentEntity.id.in(ids))
+                        .execute();
+                }
+                return ids;
+            });
+            evictLikeCounts("COMMENT", updatedIds);
+            updatedComments += updatedIds != null ? updatedIds.size() : 0;
+
+            lastCommentId = toId;
+            Thread.sleep(REPAIR_CHUNK_PAUSE_MS);
+        }
+
+        log.info("댓글/대댓글 {}개 -> 좋아요 수 재집계 완료", updatedComments);
         return (int) updatedComments;
     }
+
+    /**
+     * 재집계로 값이 바뀐 리소스의 Redis 좋아요 수 키 삭제
+     * 다음 토글 때 likes 테이블 기준으로 다시 채워지며, 삭제에 실패해도 재집계 결과는 유지한다.
+     * DB 반영 대기 중인 좋아요가 있는 리소스는 Redis 값이 더 최신이므로 지우지 않는다. (다음 동기화에서 DB 에 반영된다)
+     */
+    private void evictLikeCounts(String resourceType, List<Long> resourceIds) {
+        if (resourceIds == null || resourceIds.isEmpty()) {
+            return;
+        }
+        List<String> countKeys = resourceIds.stream()
+            .filter(resourceId -> !likeSyncService.hasPendingLikes(resourceType, resourceId))
+            .map(resourceId -> RedisKeyUtil.getLikeCountKey(resourceType, resourceId))
+            .toList();
+        if (countKeys.size() < resourceIds.size()) {
+            log.info("DB 반영 대기 중인 좋아요가 있는 {} {}개는 Redis 좋아요 수 유지", resourceType, resourceIds.size() - countKeys.size());
+        }
+        if (countKeys.isEmpty()) {
+            return;
+        }
+        try {
+            stringRedisTemplate.delete(countKeys);
+        } catch (Exception e) {
+            log.warn("재집계한 {} {}개의 Redis 좋아요 수 삭제 실패: {}", resourceType, resourceIds.size(), e.getMessage());
+        }
+    }
 }
@@ -0,0 +1,232 @@
+package com.example.backend.social.reaction.like.util.component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.backend.social.reaction.like.dto.LikeInfo;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * likes 테이블에 (멤버, 리소스) 좋아요 행이 있는지를 리소스 타입별 Bloom filter 로 기억하는 컴포넌트
+ * Redis 에 좋아요 키가 없을 때, 행이 "확실히 없는" 경우에는 DB 조회 없이 신규 좋아요로 처리할 수 있게 한다.
+ *
+ * 필터는 모든 서버가 함께 쓰는 Redis 비트맵이며, 어느 서버에서 DB 에 반영한 행이든 커밋 직후 같은 필터에 기록된다.
+ * 재생성은 한 서버만 임시 키에 만든 뒤 RENAME 으로 교체하고, 재생성 중에 반영된 행은 임시 키에도 함께 기록한다.
+ * 필터 키가 없거나 (재생성 전) Redis 조회에 실패하면 항상 "있을 수 있음" 으로 답하여 DB 를 조회하게 한다.
+ * 필터 기록에 실패하면 필터 키를 지워 다음 재생성 전까지 DB 를 조회하게 한다 (없다고 잘못 답하지 않도록).
+ *
+ * @author Metronon
+ * @since 2025-03-15
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeExistenceFilter {
+    // 약 700만 행까지 오탐률 1% 수준 (리소스 타입당 8MB)
+    private static final long BIT_SIZE = 1L << 26;
+    private static final int HASH_COUNT = 7;
+    private static final int REBUILD_CHUNK_SIZE = 10_000;
+    private static final long REBUILD_INTERVAL_MS = 6 * 60 * 60 * 1000L; // 6시간
+    private static final Duration REBUILD_LOCK_TTL = Duration.ofHours(1);
+
+    private static final String FILTER_KEY_PREFIX = "likeFilter:";
+    private static final String BUILDING_KEY_SUFFIX = ":building";
+    private static final String REBUILD_LOCK_KEY = "likeFilter:rebuild:lock";
+
+    private static final String SELECT_LIKES_SQL =
+        "SELECT id, member_id, resource_type, resource_id FROM likes WHERE id > ? ORDER BY id LIMIT ?";
+    private static final String SELECT_RESOURCE_TYPES_SQL = "SELECT DISTINCT resource_type FROM likes";
+
+    // 필터 키가 없으면 1, 비트가 하나라도 0 이면 0 (KEYS[1] : 필터 키, ARGV : 비트 위치)
+    private static final RedisScript<Long> MIGHT_EXIST_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('EXISTS', KEYS[1]) == 0 then return 1 end "
+            + "for i = 1, #ARGV do "
+            + "  if redis.call('GETBIT', KEYS[1], ARGV[i]) == 0 then return 0 end "
+            + "end "
+            + "return 1",
+        Long.class);
+
+    // 있는 키에만 비트 기록 (KEYS[1] : 필터 키, KEYS[2] : 재생성 중인 임시 키, ARGV : 비트 위치)
+    private static final String ADD_SCRIPT =
+        "for k = 1, 2 do "
+            + "  if redis.call('EXISTS', KEYS[k]) == 1 then "
+            + "    for i = 1, #ARGV do redis.call('SETBIT', KEYS[k], ARGV[i], 1) end "
+            + "  end "
+            + "end "
+            + "return 1";
+
+    // 자신이 잡은 락일 때만 해제 (KEYS[1] : 락 키, ARGV[1] : 락 토큰)
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end "
+            + "return 0",
+        Long.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private record LikeRow(long id, long memberId, String resourceType, long resourceId) { }
+
+    /**
+     * 좋아요 행이 있을 수 있는지 확인
+     * @return false 이면 행이 확실히 없음
+     */
+    public boolean mightExist(Long memberId, String resourceType, Long resourceId) {
+        try {
+            Long result = stringRedisTemplate.execute(MIGHT_EXIST_SCRIPT,
+                List.of(getFilterKey(resourceType)), (Object[])toOffsets(memberId, resourceId));
+            return result == null || result != 0L;
+        } catch (Exception e) {
+            log.warn("Failed to check like existence filter: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * DB 에 반영된 좋아요 행을 기록 (커밋 이후에 호출)
+     */
+    public void addAll(Collection<LikeInfo> likeInfos) {
+        if (likeInfos.isEmpty()) {
+            return;
+        }
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection)connection;
+                for (LikeInfo likeInfo : likeInfos) {
+                    String filterKey = getFilterKey(likeInfo.resourceType());
+                    List<String> keysAndArgs = new ArrayList<>(HASH_COUNT + 2);
+                    keysAndArgs.add(filterKey);
+                    keysAndArgs.add(filterKey + BUILDING_KEY_SUFFIX);
+                    keysAndArgs.addAll(List.of(toOffsets(likeInfo.memberId(), likeInfo.resourceId())));
+                    stringConnection.eval(ADD_SCRIPT, ReturnType.INTEGER, 2, keysAndArgs.toArray(String[]::new));
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.error("Failed to update like existence filter, disabling it until the next rebuild", e);
+            disable(likeInfos);
+        }
+    }
+
+    private void disable(Collection<LikeInfo> likeInfos) {
+        try {
+            stringRedisTemplate.delete(likeInfos.stream()
+                .map(LikeInfo::resourceType)
+                .distinct()
+                .map(LikeExistenceFilter::getFilterKey)
+                .toList());
+        } catch (Exception e) {
+            log.error("Failed to disable like existence filter", e);
+        }
+    }
+
+    /**
+     * likes 테이블을 id 구간별로 읽어 필터를 새로 만들고 교체
+     * 서버 시작 직후 한 번, 이후 REBUILD_INTERVAL_MS 마다 실행하며, 여러 서버 중 락을 얻은 한 서버만 만든다.
+     */
+    @Async
+    @Scheduled(initialDelay = 0, fixedDelay = REBUILD_INTERVAL_MS)
+    public void rebuild() {
+        String lockToken = UUID.randomUUID().toString();
+        Boolean locked = stringRedisTemplate.opsForValue()
+            .setIfAbsent(REBUILD_LOCK_KEY, lockToken, REBUILD_LOCK_TTL);
+        if (!Boolean.TRUE.equals(locked)) {
+            return;
+        }
+
+        try {
+            // 임시 키를 먼저 만들어 두어야 스캔 중에 커밋된 행이 addAll 에서 함께 기록된다
+            List<String> resourceTypes = jdbcTemplate.queryForList(SELECT_RESOURCE_TYPES_SQL, String.class);
+            for (String resourceType : resourceTypes) {
+                String buildingKey = getFilterKey(resourceType) + BUILDING_KEY_SUFFIX;
+                stringRedisTemplate.delete(buildingKey);
+                stringRedisTemplate.opsForValue().setBit(buildingKey, 0, false);
+            }
+
+            long lastId = 0;
+            long rowCount = 0;
+            while (true) {
+                List<LikeRow> rows = jdbcTemplate.query(SELECT_LIKES_SQL,
+                    (rs, rowNum) -> new LikeRow(
+                        rs.getLong("id"), rs.getLong("member_id"), rs.getString("resource_type"), rs.getLong("resource_id")),
+                    lastId, REBUILD_CHUNK_SIZE);
+                // 락이 만료되어 다른 서버가 임시 키를 다시 만들기 시작했으면 중단
+                if (!lockToken.equals(stringRedisTemplate.opsForValue().get(REBUILD_LOCK_KEY))) {
+                    log.warn("Like existence filter rebuild lock expired, aborting");
+                    return;
+                }
+                writeBuilding(rows);
+                rowCount += rows.size();
+                if (rows.size() < REBUILD_CHUNK_SIZE) {
+                    break;
+                }
+                lastId = rows.getLast().id();
+            }
+
+            for (String resourceType : resourceTypes) {
+                String filterKey = getFilterKey(resourceType);
+                stringRedisTemplate.rename(filterKey + BUILDING_KEY_SUFFIX, filterKey);
+            }
+            log.info("Like existence filter rebuilt with {} rows", rowCount);
+        } catch (Exception e) {
+            log.error("Failed to rebuild like existence filter", e);
+        } finally {
+            // 확인과 삭제 사이에 락이 만료되어 다른 서버가 잡은 락을 지우지 않도록 한 번에 처리
+            stringRedisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(REBUILD_LOCK_KEY), lockToken);
+        }
+    }
+
+    private void writeBuilding(List<LikeRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection)connection;
+            for (LikeRow row : rows) {
+                String buildingKey = getFilterKey(row.resourceType()) + BUILDING_KEY_SUFFIX;
+                for (String offset : toOffsets(row.memberId(), row.resourceId())) {
+                    stringConnection.setBit(buildingKey, Long.parseLong(offset), true);
+                }
+            }
+            return null;
+        });
+    }
+
+    private static String getFilterKey(String resourceType) {
+        return FILTER_KEY_PREFIX + resourceType;
+    }
+
+    // 원소 하나의 비트 위치 (double hashing)
+    private static String[] toOffsets(long memberId, long resourceId) {
+        long hash1 = mix(memberId * 0x9E3779B97F4A7C15L + resourceId);
+        long hash2 = mix(hash1) | 1L;
+        String[] offsets = new String[HASH_COUNT];
+        for (int i = 0; i < HASH_COUNT; i++) {
+            offsets[i] = String.valueOf(Math.floorMod(hash1 + i * hash2, BIT_SIZE));
+        }
+        return offsets;
+    }
+
+    // SplitMix64 의 finalizer
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
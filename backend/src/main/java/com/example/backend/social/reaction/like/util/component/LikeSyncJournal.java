@@ -0,0 +1,334 @@
+package com.example.backend.social.reaction.like.util.component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.zip.CRC32;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.backend.social.reaction.like.dto.LikeInfo;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 좋아요 DB 동기화 대기 목록의 write-behind 저널
+ * 메모리 매핑된 append-only 파일에 체크섬(CRC32)과 함께 기록하고, DB 커밋 후 acknowledge 된 기록까지 체크포인트를 옮긴다.
+ * 서버가 비정상 종료되어도 체크포인트 이후의 기록은 재시작 시 replay 로 다시 동기화 대상이 된다.
+ *
+ * 기록은 매핑된 페이지(OS 페이지 캐시)에 쓰이므로 JVM 이 비정상 종료되어도 남지만, 디스크 반영(force)은 기록마다 하지 않고
+ * forceIntervalMs 주기로 모아서 한다 (group commit). 따라서 전원 장애 / OS 장애 시에는 마지막 force 이후의 기록을 잃을 수 있다.
+ *
+ * 파일이 가득 차면 아직 acknowledge 되지 않은 기록만 새 파일에 옮겨 쓴 뒤 원자적으로 교체한다 (compaction).
+ * 교체 전에 종료되면 기존 파일이 그대로 남으므로 기록을 잃지 않는다.
+ * 그래도 공간이 없으면 기록하지 않고 like.journal.full 메트릭과 에러 로그로 알린다 (DB 동기화는 계속된다).
+ *
+ * 파일 구조 : [체크포인트 seq(8)] [레코드]...
+ * 레코드 구조 : [payload 길이(4)] [seq(8)] [CRC32(8)] [payload(LikeInfo JSON)]
+ *
+ * @author Metronon
+ * @since 2025-03-15
+ */
+@Slf4j
+@Component
+public class LikeSyncJournal {
+    public static final long NOT_JOURNALED = -1L;
+
+    private static final int HEADER_SIZE = Long.BYTES;
+    private static final int RECORD_HEADER_SIZE = Integer.BYTES + Long.BYTES + Long.BYTES;
+
+    private final ObjectMapper objectMapper;
+    private final Counter fullCounter;
+    private final Counter compactionCounter;
+    private final boolean enabled;
+    private final Path path;
+    private final int capacity;
+
+    private MappedByteBuffer buffer;
+    private long checkpoint;
+    private long lastSequence;
+    // 가득 찬 상태 (마지막 compaction 이후 acknowledge 가 없으면 다시 compaction 하지 않음)
+    private boolean full;
+    // 파일에 남아 있는 기록 수 (모두 미반영이면 compaction 으로 얻을 공간이 없음)
+    private int recordCount;
+    // 마지막 force 이후 변경 여부
+    private boolean dirty;
+
+    // 기록되었지만 아직 acknowledge 되지 않은 seq
+    private final TreeSet<Long> outstanding = new TreeSet<>();
+    private final List<JournalEntry> recovered = new ArrayList<>();
+
+    public LikeSyncJournal(
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry,
+        @Value("${custom.like.journal.enabled:true}") boolean enabled,
+        @Value("${custom.like.journal.path:./data/like-sync.journal}") String path,
+        @Value("${custom.like.journal.capacityBytes:67108864}") int capacity) {
+        this.objectMapper = objectMapper;
+        this.fullCounter = meterRegistry.counter("like.journal.full");
+        this.compactionCounter = meterRegistry.counter("like.journal.compaction");
+        this.enabled = enabled;
+        this.path = Path.of(path);
+        this.capacity = capacity;
+    }
+
+    public record JournalEntry(long sequence, LikeInfo likeInfo) { }
+
+    /**
+     * 저널 파일을 열고, 체크포인트 이후의 유효한 기록을 복구 대상으로 읽어둔다
+     * 체크섬이 맞지 않거나 잘린 기록을 만나면 그 이후는 기록 도중 종료된 것으로 보고 버린다.
+     */
+    @PostConstruct
+    public synchronized void open() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("좋아요 동기화 저널을 열 수 없습니다: " + path, e);
+        }
+
+        checkpoint = buffer.getLong(0);
+        lastSequence = checkpoint;
+        buffer.position(HEADER_SIZE);
+
+        while (buffer.remaining() >= RECORD_HEADER_SIZE) {
+            int start = buffer.position();
+            int length = buffer.getInt();
+            if (length <= 0 || length > buffer.remaining() - Long.BYTES * 2) {
+                buffer.position(start);
+                break;
+            }
+
+            long sequence = buffer.getLong();
+            long checksum = buffer.getLong();
+            byte[] payload = new byte[length];
+            buffer.get(payload);
+
+            if (checksum(sequence, payload) != checksum) {
+                log.warn("좋아요 동기화 저널의 손상된 기록 이후를 버립니다. seq={}", sequence);
+                buffer.position(start);
+                break;
+            }
+
+            lastSequence = Math.max(lastSequence, sequence);
+            recordCount++;
+            if (sequence > checkpoint) {
+                recover(sequence, payload);
+            }
+        }
+
+        // 유효한 기록의 끝에 종료 표시를 남겨 이후의 쓰레기 데이터를 읽지 않도록 한다
+        markEnd();
+        if (!recovered.isEmpty()) {
+            log.info("좋아요 동기화 저널에서 {}건의 미반영 기록을 복구했습니다.", recovered.size());
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 시작 시 복구된 미반영 기록을 한 번만 반환
+     * @return 복구된 기록 (seq 오름차순)
+     */
+    public synchronized List<JournalEntry> drainRecovered() {
+        List<JournalEntry> entries = List.copyOf(recovered);
+        recovered.clear();
+        return entries;
+    }
+
+    /**
+     * 좋아요 정보를 저널에 기록
+     * @param likeInfo 좋아요 정보
+     * @return 기록의 seq, 저널이 비활성화되었거나 compaction 후에도 가득 찬 경우 NOT_JOURNALED
+     */
+    public synchronized long append(LikeInfo likeInfo) {
+        if (!enabled) {
+            return NOT_JOURNALED;
+        }
+
+        byte[] payload = serialize(likeInfo);
+        // 종료 표시(길이 0)를 쓸 공간까지 남겨둔다
+        int required = RECORD_HEADER_SIZE + payload.length + Integer.BYTES;
+        if (buffer.remaining() < required
+            && (full || recordCount == outstanding.size() || !compact() || buffer.remaining() < required)) {
+            if (!full) {
+                log.error("좋아요 동기화 저널이 가득 차서 기록하지 않습니다. 미반영 {}건, path={}", outstanding.size(), path);
+            }
+            full = true;
+            fullCounter.increment();
+            return NOT_JOURNALED;
+        }
+
+        long sequence = ++lastSequence;
+        buffer.putInt(payload.length);
+        buffer.putLong(sequence);
+        buffer.putLong(checksum(sequence, payload));
+        buffer.put(payload);
+        markEnd();
+
+        recordCount++;
+        outstanding.add(sequence);
+        dirty = true;
+        return sequence;
+    }
+
+    /**
+     * DB 반영이 커밋된 기록을 acknowledge
+     * 가장 오래된 미반영 기록 직전까지 체크포인트를 옮기고, 모두 반영되었으면 파일을 처음부터 다시 사용한다.
+     * @param sequences 커밋된 기록의 seq
+     */
+    public synchronized void acknowledge(Collection<Long> sequences) {
+        if (!enabled || sequences.isEmpty()) {
+            return;
+        }
+
+        outstanding.removeAll(sequences);
+        full = false;
+        checkpoint = outstanding.isEmpty() ? lastSequence : outstanding.first() - 1;
+        buffer.putLong(0, checkpoint);
+        dirty = true;
+
+        if (outstanding.isEmpty()) {
+            buffer.position(HEADER_SIZE);
+            markEnd();
+            recordCount = 0;
+        }
+    }
+
+    /**
+     * acknowledge 되지 않은 기록만 새 파일에 옮겨 쓰고 기존 파일과 교체
+     * @return 교체 성공 여부
+     */
+    private boolean compact() {
+        Path compacted = path.resolveSibling(path.getFileName() + ".compact");
+        try {
+            MappedByteBuffer next;
+            try (FileChannel channel = FileChannel.open(compacted, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                next = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            }
+
+            next.putLong(0, checkpoint);
+            next.position(HEADER_SIZE);
+            int end = buffer.position();
+            for (int offset = HEADER_SIZE; offset < end; ) {
+                int size = RECORD_HEADER_SIZE + buffer.getInt(offset);
+                if (outstanding.contains(buffer.getLong(offset + Integer.BYTES))) {
+                    next.put(buffer.slice(offset, size));
+                }
+                offset += size;
+            }
+            if (next.remaining() >= Integer.BYTES) {
+                next.putInt(next.position(), 0);
+            }
+            next.force();
+
+            Files.move(compacted, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("좋아요 동기화 저널 compaction 완료: {} -> {} bytes", end, next.position());
+            buffer = next;
+            recordCount = outstanding.size();
+            compactionCounter.increment();
+            return true;
+        } catch (IOException e) {
+            log.error("좋아요 동기화 저널 compaction 실패: {}", path, e);
+            try {
+                Files.deleteIfExists(compacted);
+            } catch (IOException ignored) {
+                // 다음 compaction 때 덮어씀
+            }
+            return false;
+        }
+    }
+
+    /**
+     * 마지막 force 이후 변경된 기록을 디스크에 반영 (group commit)
+     * 디스크 반영 중에도 기록할 수 있도록 락 밖에서 force 하며, 그 사이 compaction 으로 교체된 파일은 compaction 에서 이미 반영된다.
+     */
+    @Scheduled(fixedDelayString = "${custom.like.journal.forceIntervalMs:100}")
+    public void force() {
+        MappedByteBuffer target;
+        synchronized (this) {
+            if (!enabled || buffer == null || !dirty) {
+                return;
+            }
+            dirty = false;
+            target = buffer;
+        }
+
+        try {
+            target.force();
+        } catch (UncheckedIOException e) {
+            log.error("좋아요 동기화 저널 디스크 반영 실패: {}", path, e);
+            synchronized (this) {
+                dirty = true;
+            }
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (buffer != null) {
+            buffer.force();
+        }
+    }
+
+    private void markEnd() {
+        if (buffer.remaining() >= Integer.BYTES) {
+            buffer.putInt(buffer.position(), 0);
+        }
+    }
+
+    private static long checksum(long sequence, byte[] payload) {
+        CRC32 crc = new CRC32();
+        for (int i = 0; i < Long.BYTES; i++) {
+            crc.update((int)(sequence >>> (i * 8)));
+        }
+        crc.update(payload);
+        return crc.getValue();
+    }
+
+    private byte[] serialize(LikeInfo likeInfo) {
+        try {
+            return objectMapper.writeValueAsBytes(likeInfo);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("좋아요 정보를 저널에 기록할 수 없습니다.", e);
+        }
+    }
+
+    private void recover(long sequence, byte[] payload) {
+        try {
+            recovered.add(new JournalEntry(sequence, objectMapper.readValue(payload, LikeInfo.class)));
+            outstanding.add(sequence);
+        } catch (IOException e) {
+            log.error("좋아요 동기화 저널의 기록을 읽을 수 없어 건너뜁니다. seq={}", sequence, e);
+        }
+    }
+}
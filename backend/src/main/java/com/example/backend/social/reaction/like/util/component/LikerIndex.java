@@ -0,0 +1,161 @@
+package com.example.backend.social.reaction.like.util.component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Component;
+
+import com.example.backend.entity.LikeRepository;
+import com.example.backend.social.reaction.like.dto.LikeInfo;
+import com.example.backend.social.reaction.like.dto.LikerInfo;
+import com.example.backend.social.reaction.like.service.LikeSyncService;
+import com.example.backend.social.reaction.like.util.RedisKeyUtil;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 리소스별 좋아요 누른 멤버 목록을 Redis sorted set (score : 좋아요 시간) 으로 제공하는 컴포넌트
+ * 최근 MAX_LIKERS 명만 보관하며, 처음 조회할 때 DB 에서 채우고 이후에는 좋아요 토글 스크립트가 함께 갱신한다.
+ * DB 의 전체 목록을 담은 경우에만 완료 키를 두고 (채울 때 MAX_LIKERS 명 미만, 토글 스크립트가 잘라내면 삭제),
+ * 완료 키가 없으면 보관 범위를 넘어선 페이지를 DB 에서 같은 커서로 이어서 조회한다.
+ * (좋아요 취소로 보관 수가 MAX_LIKERS 아래로 내려가도 잘린 목록이므로 DB 조회가 필요하다)
+ * DB 에서 채울 때는 아직 DB 에 반영되지 않은 좋아요 (LikeSyncService 버퍼) 도 합쳐서 채운다.
+ *
+ * 같은 시간에 좋아요한 멤버는 멤버 ID 내림차순으로 정렬되도록, 멤버 ID 를 고정 길이 문자열로 저장한다.
+ *
+ * @author Metronon
+ * @since 2025-03-15
+ */
+@Component
+@RequiredArgsConstructor
+public class LikerIndex {
+    static final int MAX_LIKERS = 1_000;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final LikeRepository likeRepository;
+    private final LikeSyncService likeSyncService;
+
+    /**
+     * 커서 이후의 좋아요 누른 멤버를 최근 좋아요 순으로 조회
+     *
+     * @param resourceType, resourceId
+     * @param lastLikedAt 이전 페이지 마지막 멤버의 좋아요 시간 (첫 페이지는 null)
+     * @param lastMemberId 이전 페이지 마지막 멤버 ID (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 좋아요 누른 멤버 ID 와 좋아요 시간
+     */
+    public List<LikerInfo> findLikers(String resourceType, Long resourceId, LocalDateTime lastLikedAt, Long lastMemberId,
+        int size) {
+        String key = RedisKeyUtil.getLikersKey(resourceType, resourceId);
+        String completeKey = RedisKeyUtil.getLikersCompleteKey(resourceType, resourceId);
+        Long indexSize = stringRedisTemplate.opsForZSet().zCard(key);
+        if (indexSize == null || indexSize == 0) {
+            indexSize = (long)load(key, completeKey, resourceType, resourceId);
+        }
+
+        List<LikerInfo> likers = indexSize == 0 ? new ArrayList<>() : readIndex(key, lastLikedAt, lastMemberId, size);
+
+        // 보관 범위 안에서 페이지를 채우지 못했고 전체 목록이 아닌 경우에만 DB 에서 이어서 조회
+        if (likers.size() < size && indexSize > 0 && !Boolean.TRUE.equals(stringRedisTemplate.hasKey(completeKey))) {
+            LikerInfo last = likers.isEmpty() ? null : likers.getLast();
+            likers.addAll(likeRepository.findLikers(resourceType, resourceId,
+                last != null ? last.likedAt() : lastLikedAt,
+                last != null ? last.memberId() : lastMemberId,
+                size - likers.size()));
+        }
+        return likers;
+    }
+
+    static String toMember(Long memberId) {
+        return String.format("%019d", memberId);
+    }
+
+    static long toScore(LocalDateTime likedAt) {
+        return likedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private List<LikerInfo> readIndex(String key, LocalDateTime lastLikedAt, Long lastMemberId, int size) {
+        ZSetOperations<String, String> zSetOps = stringRedisTemplate.opsForZSet();
+        boolean hasCursor = lastLikedAt != null && lastMemberId != null;
+        double max = hasCursor ? toScore(lastLikedAt) : Double.POSITIVE_INFINITY;
+
+        // 커서와 같은 시간의 멤버 중 이미 내려준 멤버를 건너뛰기 위해 그만큼 더 읽는다
+        Long ties = hasCursor ? zSetOps.count(key, max, max) : null;
+        Set<TypedTuple<String>> tuples = zSetOps.reverseRangeByScoreWithScores(
+            key, Double.NEGATIVE_INFINITY, max, 0, size + (ties != null ? ties : 0));
+        if (tuples == null) {
+            return new ArrayList<>();
+        }
+
+        String lastMember = hasCursor ? toMember(lastMemberId) : null;
+        List<LikerInfo> likers = new ArrayList<>(size);
+        for (TypedTuple<String> tuple : tuples) {
+            if (likers.size() == size) {
+                break;
+            }
+            if (lastMember != null && tuple.getScore() == max && tuple.getValue().compareTo(lastMember) >= 0) {
+                continue;
+            }
+            likers.add(new LikerInfo(
+                Long.parseLong(tuple.getValue()),
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(tuple.getScore().longValue()), ZoneId.systemDefault())));
+        }
+        return likers;
+    }
+
+    // DB 에서 최근 MAX_LIKERS 명을 읽고 DB 반영 대기 중인 좋아요를 합쳐 sorted set 을 만들고, 전체를 읽었으면 완료 키를 둔다
+    private int load(String key, String completeKey, String resourceType, Long resourceId) {
+        List<LikerInfo> likers = likeRepository.findLikers(resourceType, resourceId, null, null, MAX_LIKERS);
+        List<LikeInfo> pendingLikes = likeSyncService.findPendingLikes(resourceType, resourceId);
+        if (likers.isEmpty() && pendingLikes.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, Double> scores = new LinkedHashMap<>();
+        likers.stream()
+            .filter(liker -> liker.likedAt() != null)
+            .forEach(liker -> scores.put(toMember(liker.memberId()), (double)toScore(liker.likedAt())));
+        boolean complete = likers.size() < MAX_LIKERS && scores.size() == likers.size();
+
+        // 대기 중인 좋아요는 DB 보다 최신 상태이므로 덮어쓴다 (좋아요 시간은 DB 와 같이 마지막 변경 시간)
+        for (LikeInfo pendingLike : pendingLikes) {
+            String member = toMember(pendingLike.memberId());
+            if (pendingLike.isActive() && pendingLike.modifyDate() != null) {
+                scores.put(member, (double)toScore(pendingLike.modifyDate()));
+            } else {
+                scores.remove(member);
+            }
+        }
+        if (scores.size() > MAX_LIKERS) {
+            complete = false;
+        }
+
+        Set<TypedTuple<String>> tuples = scores.entrySet().stream()
+            .sorted(Map.Entry.<String, Double>comparingByValue(Comparator.reverseOrder()))
+            .limit(MAX_LIKERS)
+            .map(entry -> TypedTuple.of(entry.getKey(), entry.getValue()))
+            .collect(Collectors.toSet());
+        if (tuples.isEmpty()) {
+            return 0;
+        }
+        stringRedisTemplate.opsForZSet().add(key, tuples);
+        stringRedisTemplate.expire(key, RedisLikeService.CACHE_TTL);
+        if (complete) {
+            stringRedisTemplate.opsForValue().set(completeKey, "1", RedisLikeService.CACHE_TTL);
+        } else {
+            stringRedisTemplate.delete(completeKey);
+        }
+        return tuples.size();
+    }
+}
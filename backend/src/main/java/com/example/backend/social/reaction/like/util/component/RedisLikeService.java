@@ -1,16 +1,30 @@
 package com.example.backend.social.reaction.like.util.component;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Component;
 
 import com.example.backend.entity.LikeEntity;
 import com.example.backend.entity.LikeRepository;
 import com.example.backend.social.reaction.like.dto.LikeInfo;
-import com.example.backend.social.reaction.like.dto.LikeStateInfo;
+import com.example.backend.social.reaction.like.dto.LikeStatus;
+import com.example.backend.social.reaction.like.dto.LikeToggleResult;
+import com.example.backend.social.reaction.like.util.RedisKeyUtil;
+import com.example.backend.social.reaction.like.util.component.HotLikeCounter.HotCounter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
@@ -22,51 +36,226 @@ public class RedisLikeService {
     private final StringRedisTemplate stringRedisTemplate;
     private final LikeRepository likeRepository;
     private final ObjectMapper objectMapper;
-    private static final Duration CACHE_TTL = Duration.ofDays(7);
+    private final HotLikeCounter hotLikeCounter;
+    private final LikeExistenceFilter likeExistenceFilter;
+    static final Duration CACHE_TTL = Duration.ofDays(7);
 
-    public LikeStateInfo getLikeState(String likeKey, Long memberId, Long resourceId, String resourceType) {
-        boolean currentlyLiked = false;
+    // 좋아요 상태 DB 조회가 필요함을 나타내는 스크립트 결과
+    private static final long STATE_MISSING = -1L;
+    private static final String UNKNOWN_STATE = "";
+
+    /**
+     * 좋아요 상태 확인 / 토글 / 카운트 증감 / TTL 갱신 / 변경 기록을 한 번에 원자적으로 수행하는 스크립트
+     * KEYS[1] : 좋아요 키, KEYS[2] : 좋아요 수 키, KEYS[3] : 좋아요 수 변경 리소스 집합 키, KEYS[4] : 좋아요 누른 멤버 목록 키
+     * KEYS[5] : 좋아요 누른 멤버 목록 완료 키
+     * ARGV[1] : 좋아요 상태가 될 때 저장할 값, ARGV[2] : 좋아요 취소 상태가 될 때 저장할 값
+     * ARGV[3] : TTL (초), ARGV[4] : 좋아요 키가 없을 때 사용할 DB 의 현재 상태 ("1", "0", 모르면 "")
+     * ARGV[5] : 좋아요 수 키가 없을 때 사용할 DB 의 좋아요 수 (모르면 ""), ARGV[6] : 변경 리소스 집합에 추가할 멤버
+     * ARGV[7] : 좋아요 수 증감을 서버에서 모아서 반영하는 hot 리소스이면 "1" (좋아요 수 키를 조회만 한다)
+     * ARGV[8] : 좋아요 누른 멤버 목록의 멤버, ARGV[9] : 좋아요 시간 (epoch ms), ARGV[10] : 멤버 목록 최대 크기
+     * 좋아요 누른 멤버 목록은 LikerIndex 가 DB 에서 채운 뒤에만 (키가 있을 때만) 갱신하고, 최대 크기를 넘겨 잘라내면 완료 키를 지운다.
+     * 반환 : {새 상태 (1, 0), 좋아요 수, 좋아요 키 존재 여부 (1, 0)},
+     *        DB 조회가 필요하면 {-1, DB 상태 필요 여부 (1, 0), DB 좋아요 수 필요 여부 (1, 0)}
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> TOGGLE_SCRIPT = new DefaultRedisScript<>(
+        "local current = redis.call('GET', KEYS[1]) "
+            + "local hasCount = redis.call('EXISTS', KEYS[2]) == 1 "
+            + "local needState = not current and ARGV[4] == '' "
+            + "local needCount = not hasCount and ARGV[5] == '' "
+            + "if needState or needCount then "
+            + "  return {-1, needState and 1 or 0, needCount and 1 or 0} "
+            + "end "
+            + "if not hasCount then redis.call('SET', KEYS[2], ARGV[5], 'EX', ARGV[3]) end "
+            + "local liked "
+            + "if current then "
+            + "  local info = cjson.decode(current) "
+            + "  local active = info['isActive'] "
+            + "  if active == nil then active = info['active'] end "
+            + "  liked = active == true "
+            + "else "
+            + "  liked = ARGV[4] == '1' "
+            + "end "
+            + "if liked then "
+            + "  redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3]) "
+            + "else "
+            + "  redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[3]) "
+            + "end "
+            + "if redis.call('EXISTS', KEYS[4]) == 1 then "
+            + "  if liked then "
+            + "    redis.call('ZREM', KEYS[4], ARGV[8]) "
+            + "  else "
+            + "    redis.call('ZADD', KEYS[4], ARGV[9], ARGV[8]) "
+            + "    if redis.call('ZREMRANGEBYRANK', KEYS[4], 0, -(tonumber(ARGV[10]) + 1)) > 0 then "
+            + "      redis.call('DEL', KEYS[5]) "
+            + "    end "
+            + "  end "
+            + "  redis.call('EXPIRE', KEYS[4], ARGV[3]) "
+            + "  redis.call('EXPIRE', KEYS[5], ARGV[3]) "
+            + "end "
+            + "local count "
+            + "if ARGV[7] == '1' then "
+            + "  count = tonumber(redis.call('GET', KEYS[2])) "
+            + "else "
+            + "  if liked then count = redis.call('DECR', KEYS[2]) else count = redis.call('INCR', KEYS[2]) end "
+            + "  redis.call('EXPIRE', KEYS[2], ARGV[3]) "
+            + "  redis.call('SADD', KEYS[3], ARGV[6]) "
+            + "end "
+            + "local cached = current and 1 or 0 "
+            + "if liked then return {0, count, cached} end "
+            + "return {1, count, cached}",
+        List.class);
+
+    /**
+     * 좋아요 상태를 원자적으로 토글하고 새 상태와 좋아요 수를 함께 반환
+     * Redis 에 좋아요 키와 좋아요 수 키가 있으면 스크립트 1회로 처리하며,
+     * 없는 경우에만 DB 에서 없는 값(현재 상태 / 좋아요 수)을 확인한 뒤 한 번 더 실행한다.
+     * 좋아요 행이 확실히 없으면(LikeExistenceFilter) 현재 상태의 DB 조회를 생략하고 신규 좋아요로 처리한다.
+     * 좋아요 수가 바뀐 리소스는 LikeCountSynchronizer 가 DB 에 반영하도록 변경 집합에 기록된다.
+     * 토글이 몰리는 hot 리소스의 좋아요 수 증감은 HotLikeCounter 에 모았다가 반영하며,
+     * 반환하는 좋아요 수는 Redis 값에 이 서버의 미반영 증감을 더한 값이다.
+     *
+     * @param likeKey, countKey, memberId, resourceId, resourceType
+     * @return LikeToggleResult (토글된 좋아요 정보, 신규 좋아요 여부, 좋아요 수)
+     */
+    public LikeToggleResult toggleLike(String likeKey, String countKey, Long memberId, Long resourceId, String resourceType) {
+        HotCounter hotCounter = hotLikeCounter.acquire(countKey, RedisKeyUtil.getResourceMember(resourceType, resourceId));
         boolean isNewLike = false;
+        String dbState = UNKNOWN_STATE;
+        String dbCount = UNKNOWN_STATE;
+
+        // 스크립트가 요청한 값을 DB 에서 채워 다시 실행 (모두 채우면 더 이상 DB 조회를 요청하지 않는다)
+        while (true) {
+            ToggleAttempt attempt = executeToggle(
+                likeKey, countKey, memberId, resourceId, resourceType, isNewLike, dbState, dbCount, hotCounter);
+            if (attempt.result() != null) {
+                return attempt.result();
+            }
 
-        Boolean hasKey = redisTemplate.hasKey(likeKey);
-        if (Boolean.TRUE.equals(hasKey)) {
-            // Redis에 키가 있는 경우
-            LikeInfo likeInfo = redisTemplate.opsForValue().get(likeKey);
-            if (likeInfo != null) {
-                currentlyLiked = likeInfo.isActive();
+            // Redis 에 좋아요 키가 없는 경우 DB 확인
+            if (attempt.needState() && dbState.equals(UNKNOWN_STATE)) {
+                Optional<LikeEntity> likeOp = likeExistenceFilter.mightExist(memberId, resourceType, resourceId)
+                    ? likeRepository.findByMemberIdAndResourceIdAndResourceType(memberId, resourceId, resourceType)
+                    : Optional.empty();
+                isNewLike = likeOp.isEmpty();
+                dbState = likeOp.map(like -> like.isLiked() ? "1" : "0").orElse("0");
             }
-        } else {
-            // Redis에 없는 경우 DB 확인
-            Optional<LikeEntity> likeOp = likeRepository.findByMemberIdAndResourceIdAndResourceType(memberId, resourceId, resourceType);
-            if (likeOp.isPresent()) {
-                currentlyLiked = likeOp.get().isLiked();
-            } else {
-                isNewLike = true;
+
+            // Redis 에 좋아요 수 키가 없는 경우 DB 집계
+            if (attempt.needCount() && dbCount.equals(UNKNOWN_STATE)) {
+                dbCount = String.valueOf(likeRepository.countLikes(resourceType, resourceId));
             }
         }
+    }
+
+    // 토글 스크립트 실행 결과 (DB 조회가 필요하면 result 가 null)
+    private record ToggleAttempt(LikeToggleResult result, boolean needState, boolean needCount) { }
+
+    private ToggleAttempt executeToggle(
+        String likeKey, String countKey, Long memberId, Long resourceId, String resourceType,
+        boolean isNewLike, String dbState, String dbCount, HotCounter hotCounter) {
+
+        LocalDateTime now = LocalDateTime.now();
+        LikeInfo likedInfo = new LikeInfo(memberId, resourceId, resourceType, isNewLike ? now : null, now, true);
+        LikeInfo unlikedInfo = new LikeInfo(memberId, resourceId, resourceType, isNewLike ? now : null, now, false);
+
+        List<?> result = stringRedisTemplate.execute(
+            TOGGLE_SCRIPT,
+            List.of(likeKey, countKey, RedisKeyUtil.getLikeCountDirtyKey(), RedisKeyUtil.getLikersKey(resourceType, resourceId),
+                RedisKeyUtil.getLikersCompleteKey(resourceType, resourceId)),
+            serialize(likedInfo),
+            serialize(unlikedInfo),
+            String.valueOf(CACHE_TTL.toSeconds()),
+            dbState,
+            dbCount,
+            RedisKeyUtil.getResourceMember(resourceType, resourceId),
+            hotCounter != null ? "1" : "0",
+            LikerIndex.toMember(memberId),
+            String.valueOf(LikerIndex.toScore(now)),
+            String.valueOf(LikerIndex.MAX_LIKERS));
+
+        long state = ((Number)result.get(0)).longValue();
+        if (state == STATE_MISSING) {
+            return new ToggleAttempt(null,
+                ((Number)result.get(1)).longValue() == 1L,
+                ((Number)result.get(2)).longValue() == 1L);
+        }
 
-        return new LikeStateInfo(currentlyLiked, isNewLike);
+        // 좋아요 키가 남아있던 경우에는 DB 상태와 무관하게 신규 좋아요가 아니다
+        boolean liked = state == 1L;
+        boolean cached = ((Number)result.get(2)).longValue() == 1L;
+        long likeCount = ((Number)result.get(1)).longValue();
+        if (hotCounter != null) {
+            hotCounter.add(liked ? 1 : -1);
+            likeCount = Math.max(0, likeCount + hotCounter.pendingDelta());
+        }
+        return new ToggleAttempt(new LikeToggleResult(
+            liked ? likedInfo : unlikedInfo,
+            isNewLike && liked && !cached,
+            likeCount), false, false);
     }
 
-    public void updateLikeInfo(String likeKey, LikeInfo likeInfo) {
-        redisTemplate.opsForValue().set(likeKey, likeInfo);
-        redisTemplate.expire(likeKey, CACHE_TTL);
+    /**
+     * 멤버의 리소스별 좋아요 여부와 좋아요 수를 MGET 한 번으로 조회
+     * 좋아요 수에는 이 서버의 미반영 증감(HotLikeCounter)을 더하며, Redis 에 없는 값은 null 로 반환한다.
+     *
+     * @param memberId, resourceType, resourceIds
+     * @return 리소스 ID 별 좋아요 상태 (모든 리소스 ID 포함)
+     */
+    public Map<Long, LikeStatus> findLikeStatuses(Long memberId, String resourceType, List<Long> resourceIds) {
+        if (resourceIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<String> keys = new ArrayList<>(resourceIds.size() * 2);
+        resourceIds.forEach(resourceId -> keys.add(RedisKeyUtil.getLikeKey(resourceType, resourceId, memberId)));
+        resourceIds.forEach(resourceId -> keys.add(RedisKeyUtil.getLikeCountKey(resourceType, resourceId)));
+
+        List<String> values = stringRedisTemplate.opsForValue().multiGet(keys);
+        Map<Long, LikeStatus> statuses = new HashMap<>();
+        for (int i = 0; i < resourceIds.size(); i++) {
+            if (values == null) {
+                statuses.put(resourceIds.get(i), LikeStatus.UNKNOWN);
+                continue;
+            }
+
+            String countKey = keys.get(resourceIds.size() + i);
+            String count = values.get(resourceIds.size() + i);
+            statuses.put(resourceIds.get(i), new LikeStatus(
+                parseLiked(values.get(i)),
+                count != null ? Math.max(0, Long.parseLong(count) + hotLikeCounter.pendingDelta(countKey)) : null));
+        }
+        return statuses;
     }
 
-    public void updateLikeCount(String countKey, boolean increment) {
-        if (increment) {
-            stringRedisTemplate.opsForValue().increment(countKey);
-        } else {
-            stringRedisTemplate.opsForValue().decrement(countKey);
+    // 토글 스크립트와 같은 기준으로 좋아요 정보 JSON 의 활성 여부를 읽는다
+    private Boolean parseLiked(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            JsonNode info = objectMapper.readTree(value);
+            JsonNode active = info.has("isActive") ? info.get("isActive") : info.get("active");
+            return active != null && active.asBoolean();
+        } catch (JsonProcessingException e) {
+            return null;
         }
-        stringRedisTemplate.expire(countKey, CACHE_TTL);
+    }
+
+    // 기존 좋아요 정보와 같은 형식으로 저장되도록 LikeInfo 템플릿의 직렬화 방식을 사용
+    @SuppressWarnings("unchecked")
+    private String serialize(LikeInfo likeInfo) {
+        byte[] bytes = ((RedisSerializer<LikeInfo>)redisTemplate.getValueSerializer())
+            .serialize(likeInfo);
+        return new String(bytes, StandardCharsets.UTF_8);
     }
 
     public Long getLikeCount(String countKey) {
         String countStr = stringRedisTemplate.opsForValue().get(countKey);
+        long pendingDelta = hotLikeCounter.pendingDelta(countKey);
         if (countStr != null) {
-            return Long.parseLong(countStr);
+            return Math.max(0, Long.parseLong(countStr) + pendingDelta);
         }
-        return 0L;
+        return Math.max(0, pendingDelta);
     }
 }
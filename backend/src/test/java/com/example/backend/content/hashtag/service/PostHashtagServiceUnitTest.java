@@ -17,6 +17,7 @@ import com.example.backend.entity.HashtagEntity;
 import com.example.backend.entity.PostEntity;
 import com.example.backend.entity.PostHashtagEntity;
 import com.example.backend.entity.PostHashtagRepository;
+import com.example.backend.social.feed.implement.PostHydrationCache;
 
 @ExtendWith(MockitoExtension.class)
 class PostHashtagServiceUnitTest {
@@ -26,6 +27,9 @@ class PostHashtagServiceUnitTest {
 	@Mock
 	private PostHashtagRepository postHashtagRepository;
 
+	@Mock
+	private PostHydrationCache postHydrationCache;
+
 	@InjectMocks
 	private PostHashtagService postHashtagService;
 
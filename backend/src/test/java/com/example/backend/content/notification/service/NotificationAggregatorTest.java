@@ -0,0 +1,109 @@
+package com.example.backend.content.notification.service;
+
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.backend.content.notification.type.NotificationType;
+import com.example.backend.entity.NotificationEntity;
+
+/**
+ * @author kwak
+ * 2025-03-15
+ */
+@ExtendWith(MockitoExtension.class)
+class NotificationAggregatorTest {
+
+	private static final String ACTION = "당신의 게시물에 좋아요를 눌렀습니다.";
+
+	@Mock
+	NotificationService notificationService;
+
+	@Test
+	@DisplayName("같은 그룹의 알림은 한 번만 저장 / 전송")
+	void test1() {
+		// given
+		NotificationAggregator aggregator = new NotificationAggregator(notificationService, Duration.ZERO);
+		NotificationEntity notification = NotificationEntity.create("B님 외 1명이 " + ACTION, 1L, NotificationType.LIKE, 2L);
+		when(notificationService.upsertGroupedNotification(anyLong(), any(), anyString(), anyLong(), anyString(),
+			anyCollection(), anyString())).thenReturn(notification);
+
+		aggregator.add(1L, NotificationType.LIKE, "POST:2", 2L, "A", ACTION);
+		aggregator.add(1L, NotificationType.LIKE, "POST:2", 2L, "A", ACTION);
+		aggregator.add(1L, NotificationType.LIKE, "POST:2", 2L, "B", ACTION);
+
+		// when
+		aggregator.flush();
+		aggregator.flush();
+
+		// then
+		verify(notificationService, times(1))
+			.upsertGroupedNotification(1L, NotificationType.LIKE, "POST:2", 2L, "B", List.of("A", "B"), ACTION);
+		verify(notificationService, times(1)).sendNotification(1L, notification);
+	}
+
+	@Test
+	@DisplayName("구간이 끝나기 전에는 저장하지 않음")
+	void test2() {
+		// given
+		NotificationAggregator aggregator = new NotificationAggregator(notificationService, Duration.ofMinutes(1));
+		aggregator.add(1L, NotificationType.FOLLOW, "follow", 3L, "C", "팔로우 요청을 하였습니다.");
+
+		// when
+		aggregator.flush();
+
+		// then
+		verifyNoInteractions(notificationService);
+	}
+
+	@Test
+	@DisplayName("저장에 실패한 그룹은 그 사이 들어온 알림과 합쳐 다시 저장")
+	void test3() {
+		// given
+		NotificationAggregator aggregator = new NotificationAggregator(notificationService, Duration.ZERO);
+		NotificationEntity notification = NotificationEntity.create("B님 외 1명이 " + ACTION, 1L, NotificationType.LIKE, 2L);
+		when(notificationService.upsertGroupedNotification(anyLong(), any(), anyString(), anyLong(), anyString(),
+			anyCollection(), anyString()))
+			.thenThrow(new IllegalStateException("db down"))
+			.thenReturn(notification);
+
+		aggregator.add(1L, NotificationType.LIKE, "POST:2", 2L, "A", ACTION);
+		aggregator.flush();
+		aggregator.add(1L, NotificationType.LIKE, "POST:2", 2L, "B", ACTION);
+
+		// when
+		aggregator.flush();
+
+		// then
+		verify(notificationService, times(1))
+			.upsertGroupedNotification(1L, NotificationType.LIKE, "POST:2", 2L, "B", List.of("A", "B"), ACTION);
+		verify(notificationService, times(1)).sendNotification(1L, notification);
+	}
+
+	@Test
+	@DisplayName("서버 종료 시 구간이 끝나지 않은 그룹도 저장")
+	void test4() {
+		// given
+		NotificationAggregator aggregator = new NotificationAggregator(notificationService, Duration.ofMinutes(1));
+		NotificationEntity notification = NotificationEntity.create("C님이 팔로우 요청을 하였습니다.", 1L,
+			NotificationType.FOLLOW, 3L);
+		when(notificationService.upsertGroupedNotification(anyLong(), any(), anyString(), anyLong(), anyString(),
+			anyCollection(), anyString())).thenReturn(notification);
+		aggregator.add(1L, NotificationType.FOLLOW, "follow", 3L, "C", "팔로우 요청을 하였습니다.");
+
+		// when
+		aggregator.flushAll();
+
+		// then
+		verify(notificationService, times(1))
+			.upsertGroupedNotification(1L, NotificationType.FOLLOW, "follow", 3L, "C", List.of("C"), "팔로우 요청을 하였습니다.");
+		verify(notificationService, times(1)).sendNotification(1L, notification);
+	}
+}
@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.util.List;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -42,20 +44,22 @@ class NotificationServiceTest {
 		Long memberId = 1L;
 		Long targetId = 2L;
 		NotificationType type = NotificationType.LIKE;
-		String message = "A님이 당신의 게시물에 좋아요를 눌렀습니다.";
+		String action = "당신의 게시물에 좋아요를 눌렀습니다.";
 
 		// when
-		notificationService.createAndSendNotification(memberId, targetId, type, message);
+		NotificationEntity saved = notificationService.upsertGroupedNotification(
+			memberId, type, "POST:2", targetId, "A", List.of("A"), action);
+		notificationService.sendNotification(memberId, saved);
 
 		// then
-		NotificationEntity notification = notificationRepository.findById(1L).get();
-		assertThat(notification.getContent()).isEqualTo(message);
+		NotificationEntity notification = notificationRepository.findById(saved.getId()).get();
+		assertThat(notification.getContent()).isEqualTo("A님이 " + action);
 		assertThat(notification.getType()).isEqualTo(type);
 		assertThat(notification.getMemberId()).isEqualTo(1L);
 		assertThat(notification.getTargetId()).isEqualTo(2L);
 
 		verify(sseConnectionPool, times(1))
-			.sendNotification(anyLong(), any());
+			.sendNotification(anyLong(), any(), any());
 
 	}
 
@@ -102,4 +106,47 @@ class NotificationServiceTest {
 		assertThat(response.totalCount()).isEqualTo(2);
 
 	}
+
+	@Test
+	@DisplayName("읽지 않은 같은 그룹의 알림이 있으면 처음 보는 행위자 수만 더해 갱신")
+	void upsertGroupedNotification() {
+		// given
+		Long memberId = 1L;
+		String action = "당신의 게시물에 좋아요를 눌렀습니다.";
+		NotificationEntity first = notificationService.upsertGroupedNotification(
+			memberId, NotificationType.LIKE, "POST:2", 2L, "A", List.of("A"), action);
+
+		// when
+		NotificationEntity merged = notificationService.upsertGroupedNotification(
+			memberId, NotificationType.LIKE, "POST:2", 2L, "B", List.of("A", "B"), action);
+
+		// then
+		assertThat(first.getContent()).isEqualTo("A님이 " + action);
+		assertThat(merged.getId()).isEqualTo(first.getId());
+		assertThat(merged.getActorCount()).isEqualTo(2);
+		assertThat(merged.getContent()).isEqualTo("B님 외 1명이 " + action);
+		assertThat(notificationRepository.count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("lastNotificationId 이하의 읽지 않은 알림만 한 번에 읽음 처리")
+	void markAllRead() {
+		// given
+		Long memberId = 1L;
+		NotificationEntity first = notificationRepository.save(
+			NotificationEntity.create("알림1", memberId, NotificationType.LIKE, 2L));
+		NotificationEntity second = notificationRepository.save(
+			NotificationEntity.create("알림2", memberId, NotificationType.FOLLOW, 3L));
+		NotificationEntity third = notificationRepository.save(
+			NotificationEntity.create("알림3", memberId, NotificationType.COMMENT, 4L));
+		notificationRepository.flush();
+
+		// when
+		notificationService.markAllRead(memberId, second.getId());
+
+		// then
+		assertTrue(notificationRepository.findById(first.getId()).get().isRead());
+		assertTrue(notificationRepository.findById(second.getId()).get().isRead());
+		assertFalse(notificationRepository.findById(third.getId()).get().isRead());
+	}
 }
@@ -0,0 +1,98 @@
+package com.example.backend.content.notification.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import com.example.backend.content.notification.type.NotificationType;
+import com.example.backend.entity.NotificationEntity;
+import com.example.backend.entity.NotificationRepository;
+
+/**
+ * @author kwak
+ * 2025-03-15
+ */
+@SpringBootTest
+class NotificationUnreadCounterTest {
+
+	private static final Long MEMBER_ID = 900_002L;
+
+	@Autowired
+	NotificationUnreadCounter unreadCounter;
+	@MockitoSpyBean
+	NotificationRepository notificationRepository;
+	@Autowired
+	StringRedisTemplate stringRedisTemplate;
+
+	@AfterEach
+	void tearDown() {
+		notificationRepository.deleteAll(notificationRepository.findAll().stream()
+			.filter(notification -> MEMBER_ID.equals(notification.getMemberId()))
+			.toList());
+		stringRedisTemplate.delete(List.of("notification:unread:" + MEMBER_ID, "notification:unread:version:" + MEMBER_ID));
+	}
+
+	@Test
+	@DisplayName("키가 없으면 DB 에서 집계하고 이후에는 Redis 에서 증감")
+	void test1() {
+		// given
+		notificationRepository.save(NotificationEntity.create("알림1", MEMBER_ID, NotificationType.LIKE, 1L));
+		notificationRepository.save(NotificationEntity.create("알림2", MEMBER_ID, NotificationType.FOLLOW, 2L));
+
+		// when
+		long loaded = unreadCounter.get(MEMBER_ID);
+		unreadCounter.increase(MEMBER_ID);
+		unreadCounter.decrease(MEMBER_ID, 2);
+
+		// then
+		assertThat(loaded).isEqualTo(2);
+		assertThat(unreadCounter.get(MEMBER_ID)).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("키가 없을 때의 증감은 무시하고, 음수가 되면 다시 집계")
+	void test2() {
+		// given
+		notificationRepository.save(NotificationEntity.create("알림1", MEMBER_ID, NotificationType.LIKE, 1L));
+
+		// when
+		unreadCounter.increase(MEMBER_ID);
+		long loaded = unreadCounter.get(MEMBER_ID);
+		unreadCounter.decrease(MEMBER_ID, 5);
+
+		// then
+		assertThat(loaded).isEqualTo(1);
+		assertThat(stringRedisTemplate.hasKey("notification:unread:" + MEMBER_ID)).isFalse();
+		assertThat(unreadCounter.get(MEMBER_ID)).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("집계 중에 커밋된 증감이 있으면 집계 값을 채우지 않고 다음 조회 때 다시 집계")
+	void test3() {
+		// given - DB 집계 직후, 채우기 전에 새 알림이 커밋됨
+		notificationRepository.save(NotificationEntity.create("알림1", MEMBER_ID, NotificationType.LIKE, 1L));
+		doAnswer(invocation -> {
+			Object count = invocation.callRealMethod();
+			notificationRepository.save(NotificationEntity.create("알림2", MEMBER_ID, NotificationType.FOLLOW, 2L));
+			unreadCounter.increase(MEMBER_ID);
+			return count;
+		}).doCallRealMethod().when(notificationRepository).countByMemberIdAndIsReadFalse(MEMBER_ID);
+
+		// when
+		long loaded = unreadCounter.get(MEMBER_ID);
+
+		// then
+		assertThat(loaded).isEqualTo(1);
+		assertThat(stringRedisTemplate.hasKey("notification:unread:" + MEMBER_ID)).isFalse();
+		assertThat(unreadCounter.get(MEMBER_ID)).isEqualTo(2);
+	}
+}
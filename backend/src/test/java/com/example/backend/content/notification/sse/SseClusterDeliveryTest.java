@@ -0,0 +1,83 @@
+package com.example.backend.content.notification.sse;
+
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.example.backend.content.notification.dto.NotificationResponse;
+import com.example.backend.content.notification.type.NotificationType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 스프링 컨텍스트의 서버(A) 와 직접 만든 서버(B) 가 같은 Redis 로 알림을 주고받는지 확인
+ * @author kwak
+ * 2025-03-15
+ */
+@SpringBootTest
+class SseClusterDeliveryTest {
+
+	@Autowired
+	SseClusterDelivery sseClusterDelivery;
+	@Autowired
+	StringRedisTemplate stringRedisTemplate;
+	@Autowired
+	RedisConnectionFactory redisConnectionFactory;
+	@Autowired
+	ObjectMapper objectMapper;
+
+	RedisMessageListenerContainer otherContainer;
+	SseNodeRegistry otherRegistry;
+
+	@AfterEach
+	void tearDown() throws Exception {
+		if (otherRegistry != null) {
+			otherRegistry.shutdown();
+		}
+		if (otherContainer != null) {
+			otherContainer.destroy();
+		}
+	}
+
+	@Test
+	@DisplayName("다른 서버에 연결된 사용자에게 알림 전달")
+	void test1() {
+		// given - 사용자 1 은 서버 B 에만 연결
+		SseDispatcher otherDispatcher = mock(SseDispatcher.class);
+		otherRegistry = new SseNodeRegistry(stringRedisTemplate);
+		SseConnectionPool otherPool = new SseConnectionPool(otherDispatcher, otherRegistry,
+			new SseHeartbeatScheduler(otherDispatcher, new SimpleMeterRegistry(), Duration.ofSeconds(20)));
+
+		otherContainer = new RedisMessageListenerContainer();
+		otherContainer.setConnectionFactory(redisConnectionFactory);
+		otherContainer.afterPropertiesSet();
+		new SseClusterDelivery(stringRedisTemplate, otherPool, otherRegistry,
+			new SseReplayBuffer(stringRedisTemplate, objectMapper), otherDispatcher, objectMapper, otherContainer);
+		otherContainer.start();
+
+		SseConnection connection = SseConnection.connect("1", "chrome", otherPool);
+		NotificationResponse response = NotificationResponse.builder()
+			.notificationId(10L)
+			.type(NotificationType.LIKE)
+			.targetId(2L)
+			.message("A님이 당신의 게시물에 좋아요를 눌렀습니다.")
+			.build();
+
+		// when - 서버 A 에서 전송
+		sseClusterDelivery.send(1L, response);
+		sseClusterDelivery.flush();
+
+		// then
+		verify(otherDispatcher, timeout(3000).times(1)).dispatch(eq(connection), anyLong(), eq("message"), eq(response));
+	}
+}
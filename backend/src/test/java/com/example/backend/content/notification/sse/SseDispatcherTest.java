@@ -0,0 +1,169 @@
+package com.example.backend.content.notification.sse;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.backend.content.notification.sse.SseConnection.OutboundMessage;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * @author kwak
+ * 2025-03-15
+ */
+@ExtendWith(MockitoExtension.class)
+class SseDispatcherTest {
+
+	private static final int CAPACITY = 2;
+
+	@Mock
+	SseConnectionPoolIfs<SseConnection> sseConnectionPoolIfs;
+
+	@Test
+	@DisplayName("큐가 가득 차면 가장 오래된 메시지를 버림")
+	void test1() {
+		// given
+		SseConnection connection = SseConnection.connect("1", "chrome", sseConnectionPoolIfs);
+
+		// when
+		connection.offer(new OutboundMessage(null, "message", "a"), CAPACITY);
+		connection.offer(new OutboundMessage(null, "message", "b"), CAPACITY);
+		boolean dropped = connection.offer(new OutboundMessage(null, "message", "c"), CAPACITY);
+
+		// then
+		assertTrue(dropped);
+		assertEquals("b", connection.poll().data());
+		assertEquals("c", connection.poll().data());
+		assertNull(connection.poll());
+	}
+
+	@Test
+	@DisplayName("전송이 멈춘 연결은 큐 크기만큼 연속으로 버려지면 호출 스레드를 막지 않고 종료")
+	void test2() throws InterruptedException {
+		// given
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		SseDispatcher dispatcher = new SseDispatcher(meterRegistry, CAPACITY);
+		SseConnection connection = spy(SseConnection.connect("1", "chrome", sseConnectionPoolIfs));
+
+		// 전송 중인 스레드가 쓰기 잠금을 잡고 멈춘 상태 : 전송이 풀릴 때까지 complete() 도 멈춤
+		CountDownLatch sending = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		SseEmitter emitter = mock(SseEmitter.class);
+		doReturn(emitter).when(connection).getSseEmitter();
+		doAnswer(invocation -> {
+			sending.countDown();
+			release.await();
+			return true;
+		}).when(connection).sendMessage(any(), anyString(), any());
+		doAnswer(invocation -> {
+			release.await();
+			return null;
+		}).when(emitter).complete();
+
+		// when - 첫 메시지 전송이 멈춘 상태에서 계속 추가
+		dispatcher.dispatch(connection, 0L, "message", 0);
+		assertTrue(sending.await(1, TimeUnit.SECONDS));
+		assertTimeoutPreemptively(Duration.ofSeconds(1), () -> {
+			for (int i = 1; i <= CAPACITY * 3; i++) {
+				dispatcher.dispatch(connection, (long)i, "message", i);
+			}
+		});
+
+		// then
+		assertEquals(1.0, meterRegistry.counter("notification.sse.evicted").count());
+		assertEquals(0.0, meterRegistry.get("notification.sse.queue.depth").gauge().value());
+		assertFalse(connection.hasOutbound());
+		verify(sseConnectionPoolIfs, times(1)).remove(connection);
+		verify(emitter, timeout(1000)).complete();
+
+		release.countDown();
+		dispatcher.shutdown();
+	}
+
+	@Test
+	@DisplayName("재전송 중에 들어온 알림은 재전송이 끝난 뒤 중복 없이 ID 순서대로 전송")
+	void test3() throws InterruptedException {
+		// given
+		SseDispatcher dispatcher = new SseDispatcher(new SimpleMeterRegistry(), 16);
+		SseConnection connection = spy(SseConnection.connect("1", "chrome", sseConnectionPoolIfs, true));
+
+		List<Long> sentIds = Collections.synchronizedList(new ArrayList<>());
+		CountDownLatch sent = new CountDownLatch(4);
+		doAnswer(invocation -> {
+			sentIds.add(invocation.getArgument(0));
+			sent.countDown();
+			return true;
+		}).when(connection).sendMessage(any(), anyString(), any());
+
+		// when - 5, 7 은 재전송 중 실시간으로 들어오고, 재전송 목록은 4 ~ 6
+		dispatcher.dispatch(connection, 5L, "message", 5);
+		dispatcher.dispatch(connection, 7L, "message", 7);
+		for (long id = 4; id <= 6; id++) {
+			dispatcher.dispatchReplayed(connection, id, "message", id);
+		}
+		dispatcher.finishReplay(connection, 6L);
+
+		// then
+		assertTrue(sent.await(1, TimeUnit.SECONDS));
+		assertEquals(List.of(4L, 5L, 6L, 7L), sentIds);
+
+		dispatcher.shutdown();
+	}
+
+	@Test
+	@DisplayName("재전송 목록이 큐 크기보다 많아도 버리거나 연결을 끊지 않고 모두 전송")
+	void test4() throws InterruptedException {
+		// given
+		int queueCapacity = 32;
+		int replayCount = SseReplayBuffer.CAPACITY;
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		SseDispatcher dispatcher = new SseDispatcher(meterRegistry, queueCapacity);
+		SseConnection connection = spy(SseConnection.connect("1", "chrome", sseConnectionPoolIfs, true));
+
+		// 첫 전송을 멈춰 두어 재전송 목록이 모두 큐에 쌓이도록 함
+		CountDownLatch release = new CountDownLatch(1);
+		List<Long> sentIds = Collections.synchronizedList(new ArrayList<>());
+		CountDownLatch sent = new CountDownLatch(replayCount + 1);
+		doAnswer(invocation -> {
+			release.await();
+			sentIds.add(invocation.getArgument(0));
+			sent.countDown();
+			return true;
+		}).when(connection).sendMessage(any(), anyString(), any());
+
+		// when
+		for (long id = 1; id <= replayCount; id++) {
+			dispatcher.dispatchReplayed(connection, id, "message", id);
+		}
+		dispatcher.dispatch(connection, (long)replayCount + 1, "message", replayCount + 1);
+		dispatcher.finishReplay(connection, replayCount);
+		release.countDown();
+
+		// then
+		assertTrue(sent.await(1, TimeUnit.SECONDS));
+		List<Long> expected = new ArrayList<>();
+		for (long id = 1; id <= replayCount + 1; id++) {
+			expected.add(id);
+		}
+		assertEquals(expected, sentIds);
+		assertEquals(0.0, meterRegistry.counter("notification.sse.dropped").count());
+		assertEquals(0.0, meterRegistry.counter("notification.sse.evicted").count());
+		assertFalse(connection.isEvicted());
+
+		dispatcher.shutdown();
+	}
+}
@@ -0,0 +1,73 @@
+package com.example.backend.content.notification.sse;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * @author kwak
+ * 2025-03-15
+ */
+@ExtendWith(MockitoExtension.class)
+class SseHeartbeatSchedulerTest {
+
+	private static final int WHEEL_SIZE = 3;
+
+	@Mock
+	SseDispatcher sseDispatcher;
+	@Mock
+	SseConnectionPoolIfs<SseConnection> sseConnectionPoolIfs;
+
+	SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test
+	@DisplayName("등록된 연결은 휠이 한 바퀴 돌 때마다 하트비트 전송")
+	void test1() {
+		// given
+		SseHeartbeatScheduler scheduler = createScheduler();
+		SseConnection connection = SseConnection.connect("1", "chrome", sseConnectionPoolIfs);
+
+		// when
+		scheduler.schedule(connection, false);
+		for (int i = 0; i < WHEEL_SIZE * 2; i++) {
+			scheduler.tick();
+		}
+
+		// then
+		verify(sseDispatcher, times(2)).heartbeat(connection);
+		assertEquals(1.0, meterRegistry.get("notification.sse.live").gauge().value());
+	}
+
+	@Test
+	@DisplayName("해제된 연결에는 하트비트를 보내지 않음")
+	void test2() {
+		// given
+		SseHeartbeatScheduler scheduler = createScheduler();
+		SseConnection connection = SseConnection.connect("1", "chrome", sseConnectionPoolIfs);
+		scheduler.schedule(connection, true);
+
+		// when
+		scheduler.cancel(connection);
+		for (int i = 0; i < WHEEL_SIZE; i++) {
+			scheduler.tick();
+		}
+
+		// then
+		verify(sseDispatcher, never()).heartbeat(any());
+		assertEquals(0.0, meterRegistry.get("notification.sse.live").gauge().value());
+		assertEquals(1.0, meterRegistry.counter("notification.sse.reconnected").count());
+	}
+
+	private SseHeartbeatScheduler createScheduler() {
+		return new SseHeartbeatScheduler(sseDispatcher, meterRegistry, Duration.ofSeconds(WHEEL_SIZE));
+	}
+}
@@ -0,0 +1,101 @@
+package com.example.backend.content.notification.sse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.example.backend.content.notification.dto.NotificationResponse;
+import com.example.backend.content.notification.sse.SseReplayBuffer.ReplayEvent;
+import com.example.backend.content.notification.type.NotificationType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * @author kwak
+ * 2025-03-15
+ */
+@SpringBootTest
+class SseReplayBufferTest {
+
+	private static final Long MEMBER_ID = 900_001L;
+
+	@Autowired
+	StringRedisTemplate stringRedisTemplate;
+	@Autowired
+	ObjectMapper objectMapper;
+
+	@AfterEach
+	void tearDown() {
+		stringRedisTemplate.delete(List.of(
+			"notification:sse:seq:" + MEMBER_ID, "notification:sse:events:" + MEMBER_ID));
+	}
+
+	@Test
+	@DisplayName("Last-Event-ID 이후의 이벤트만 순서대로 조회")
+	void test1() {
+		// given
+		SseReplayBuffer buffer = new SseReplayBuffer(stringRedisTemplate, objectMapper);
+		Long first = buffer.append(MEMBER_ID, createResponse(1L));
+		Long second = buffer.append(MEMBER_ID, createResponse(2L));
+		Long third = buffer.append(MEMBER_ID, createResponse(3L));
+
+		// when
+		List<ReplayEvent> events = buffer.findAfter(MEMBER_ID, first);
+
+		// then
+		assertTrue(first < second && second < third);
+		assertEquals(List.of(second, third), events.stream().map(ReplayEvent::id).toList());
+		assertEquals(2L, events.get(0).notification().notificationId());
+	}
+
+	@Test
+	@DisplayName("다른 서버에서 발급한 이벤트는 Redis 리스트에서 조회")
+	void test2() {
+		// given
+		SseReplayBuffer buffer = new SseReplayBuffer(stringRedisTemplate, objectMapper);
+		SseReplayBuffer otherBuffer = new SseReplayBuffer(stringRedisTemplate, objectMapper);
+		Long first = otherBuffer.append(MEMBER_ID, createResponse(1L));
+		otherBuffer.append(MEMBER_ID, createResponse(2L));
+
+		// when
+		List<ReplayEvent> events = buffer.findAfter(MEMBER_ID, first - 1);
+
+		// then
+		assertEquals(2, events.size());
+		assertEquals(1L, events.get(0).notification().notificationId());
+		assertTrue(buffer.findAfter(MEMBER_ID, first + 1).isEmpty());
+	}
+
+	@Test
+	@DisplayName("보관 개수를 넘으면 오래된 이벤트부터 제거")
+	void test3() {
+		// given
+		SseReplayBuffer buffer = new SseReplayBuffer(stringRedisTemplate, objectMapper);
+		Long first = buffer.append(MEMBER_ID, createResponse(0L));
+		for (long i = 1; i <= SseReplayBuffer.CAPACITY; i++) {
+			buffer.append(MEMBER_ID, createResponse(i));
+		}
+
+		// when
+		List<ReplayEvent> events = buffer.findAfter(MEMBER_ID, first - 1);
+
+		// then
+		assertEquals(SseReplayBuffer.CAPACITY, events.size());
+		assertEquals(first + 1, events.getFirst().id());
+	}
+
+	private NotificationResponse createResponse(Long notificationId) {
+		return NotificationResponse.builder()
+			.notificationId(notificationId)
+			.type(NotificationType.LIKE)
+			.targetId(1L)
+			.message("A님이 당신의 게시물에 좋아요를 눌렀습니다.")
+			.build();
+	}
+}
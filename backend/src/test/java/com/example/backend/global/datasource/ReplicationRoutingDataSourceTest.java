@@ -0,0 +1,102 @@
+package com.example.backend.global.datasource;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * primary / replica 역할의 H2 데이터베이스 두 개로 라우팅을 검증
+ * @author kwak
+ * @since 2025-03-15
+ */
+class ReplicationRoutingDataSourceTest {
+
+	private ReplicationRoutingDataSource routingDataSource;
+	private JdbcTemplate jdbcTemplate;
+	private TransactionTemplate writeTransaction;
+	private TransactionTemplate readOnlyTransaction;
+
+	@BeforeEach
+	void setUp() {
+		DataSource primary = createDatabase("primary");
+		DataSource replica = createDatabase("replica");
+
+		routingDataSource = new ReplicationRoutingDataSource(primary, List.of(replica));
+		routingDataSource.afterPropertiesSet();
+
+		DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+		DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		writeTransaction = new TransactionTemplate(transactionManager);
+		readOnlyTransaction = new TransactionTemplate(transactionManager);
+		readOnlyTransaction.setReadOnly(true);
+	}
+
+	@AfterEach
+	void tearDown() {
+		ReplicaRoutingContext.clear();
+	}
+
+	@Test
+	@DisplayName("readOnly 트랜잭션은 replica, 일반 트랜잭션은 primary 로 라우팅")
+	void route_by_read_only() {
+		assertThat(readOnlyTransaction.execute(status -> findDatabaseName())).isEqualTo("replica");
+		assertThat(writeTransaction.execute(status -> findDatabaseName())).isEqualTo("primary");
+	}
+
+	@Test
+	@DisplayName("read-your-writes 로 고정된 요청은 readOnly 여도 primary 로 라우팅")
+	void route_to_primary_if_pinned() {
+		ReplicaRoutingContext.pinPrimary();
+
+		assertThat(readOnlyTransaction.execute(status -> findDatabaseName())).isEqualTo("primary");
+	}
+
+	@Test
+	@DisplayName("정상 replica 가 없으면 readOnly 트랜잭션도 primary 로 라우팅")
+	void route_to_primary_if_replica_unhealthy() {
+		DataSource primary = createDatabase("primary");
+		DriverManagerDataSource brokenReplica = new DriverManagerDataSource("jdbc:h2:mem:broken;IFEXISTS=TRUE");
+
+		ReplicationRoutingDataSource routing = new ReplicationRoutingDataSource(primary, List.of(brokenReplica));
+		routing.afterPropertiesSet();
+		routing.checkReplicaHealth();
+
+		DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+		TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+		transaction.setReadOnly(true);
+
+		assertThat(routing.getHealthyReplicaKeys()).isEmpty();
+		assertThat(transaction.execute(status -> new JdbcTemplate(dataSource)
+			.queryForObject("select name from database_role", String.class)))
+			.isEqualTo("primary");
+	}
+
+	private String findDatabaseName() {
+		return jdbcTemplate.queryForObject("select name from database_role", String.class);
+	}
+
+	private static DataSource createDatabase(String name) {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(
+			"jdbc:h2:mem:" + name + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("create table if not exists database_role (name varchar(20))");
+		jdbcTemplate.update("delete from database_role");
+		jdbcTemplate.update("insert into database_role values (?)", name);
+		return dataSource;
+	}
+}
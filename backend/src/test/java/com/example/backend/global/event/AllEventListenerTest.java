@@ -1,6 +1,5 @@
 package com.example.backend.global.event;
 
-import static org.assertj.core.api.AssertionsForClassTypes.*;
 import static org.mockito.Mockito.*;
 
 import org.junit.jupiter.api.DisplayName;
@@ -10,8 +9,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import com.example.backend.content.notification.exception.NotificationErrorCode;
-import com.example.backend.content.notification.exception.NotificationException;
+import com.example.backend.content.notification.service.NotificationAggregator;
 import com.example.backend.content.notification.type.NotificationType;
 
 /**
@@ -22,7 +20,7 @@ import com.example.backend.content.notification.type.NotificationType;
 class AllEventListenerTest {
 
 	@Mock
-	NotificationService notificationService;
+	NotificationAggregator notificationAggregator;
 
 	@InjectMocks
 	LikeEventListener likeEventListener;
@@ -43,49 +41,8 @@ class AllEventListenerTest {
 		likeEventListener.handleLikeEvent(likeEvent);
 
 		// then
-		verify(notificationService, times(1))
-			.createAndSendNotification(1L, 1L, NotificationType.LIKE, "A님이 당신의 게시물에 좋아요를 눌렀습니다.");
-	}
-
-	@Test
-	@DisplayName("예외 시 3회 까지 재시도 후 에러 발생")
-	void test2() {
-		// given
-		LikeEvent likeEvent = getLikeEvent();
-
-		doThrow(new NotificationException(NotificationErrorCode.FAILED_SEND))
-			.when(notificationService)
-			.createAndSendNotification(anyLong(), anyLong(), any(), anyString());
-
-		// when
-		// then
-		assertThatThrownBy(() -> likeEventListener.handleLikeEvent(likeEvent))
-			.isInstanceOf(NotificationException.class)
-			.hasMessageContaining("알림 전송에 실패하였습니다.");
-
-		verify(notificationService, times(3))
-			.createAndSendNotification(anyLong(), anyLong(), any(), anyString());
-	}
-
-	@Test
-	@DisplayName("인터럽트 발생시 FAILED_SEND 발생")
-	void test3() {
-		// given
-		LikeEvent likeEvent = getLikeEvent();
-
-		doAnswer(invocationOnMock -> {
-			Thread.currentThread().interrupt();
-			throw new NotificationException(NotificationErrorCode.FAILED_SEND);
-		}).when(notificationService).createAndSendNotification(anyLong(), anyLong(), any(), anyString());
-
-		// when
-		// then
-		assertThatThrownBy(() -> likeEventListener.handleLikeEvent(likeEvent))
-			.isInstanceOf(NotificationException.class)
-			.hasMessageContaining("알림 전송에 실패하였습니다.");
-
-		verify(notificationService, times(1))
-			.createAndSendNotification(1L, 1L, NotificationType.LIKE, "A님이 당신의 게시물에 좋아요를 눌렀습니다.");
+		verify(notificationAggregator, times(1))
+			.add(1L, NotificationType.LIKE, "POST:1", 1L, "A", "당신의 게시물에 좋아요를 눌렀습니다.");
 	}
 
 	@Test
@@ -98,8 +55,8 @@ class AllEventListenerTest {
 		followEventListener.handleFollowEvent(followEvent);
 
 		// then
-		verify(notificationService, times(1))
-			.createAndSendNotification(1L, 1L, NotificationType.FOLLOW, "B님이 팔로우 요청을 하였습니다.");
+		verify(notificationAggregator, times(1))
+			.add(1L, NotificationType.FOLLOW, "follow", 1L, "B", "팔로우 요청을 하였습니다.");
 	}
 
 	@Test
@@ -112,8 +69,8 @@ class AllEventListenerTest {
 		commentEventListener.handleCommentEvent(commentEvent);
 
 		// then
-		verify(notificationService, times(1))
-			.createAndSendNotification(1L, 1L, NotificationType.COMMENT, "C님이 댓글을 달았습니다.");
+		verify(notificationAggregator, times(1))
+			.add(1L, NotificationType.COMMENT, "post:1", 1L, "C", "게시물 (ID: 1)에 댓글을 달았습니다.");
 	}
 
 	private LikeEvent getLikeEvent() {
@@ -4,11 +4,14 @@ import static com.example.backend.social.feed.constant.FeedConstants.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,14 +19,15 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
-import org.springframework.transaction.annotation.Transactional;
 
 import com.example.backend.entity.MemberEntity;
 import com.example.backend.global.event.CommentEventListener;
@@ -32,12 +36,13 @@ import com.example.backend.global.event.LikeEventListener;
 import com.example.backend.identity.member.service.MemberService;
 import com.example.backend.identity.security.jwt.AccessTokenService;
 import com.example.backend.identity.security.user.CustomUser;
+import com.example.backend.social.feed.FeedCursor;
 import com.example.backend.social.feed.implement.FeedTestHelper;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jayway.jsonpath.JsonPath;
 
+// 병렬 조회 / 스트리밍은 별도 트랜잭션에서 실행되므로 테스트 데이터를 커밋하고, 테스트가 끝나면 직접 정리한다
 @SpringBootTest
-@Transactional
 @DirtiesContext
 @AutoConfigureMockMvc
 class FeedControllerTest {
@@ -57,6 +62,9 @@ class FeedControllerTest {
 	@Autowired
 	private AccessTokenService accessTokenService;
 
+	@Autowired
+	private StringRedisTemplate stringRedisTemplate;
+
 	private String accessToken;
 	private MemberEntity testMember;
 
@@ -73,6 +81,8 @@ class FeedControllerTest {
 
 	@BeforeEach
 	void setUp() {
+		// 이전 테스트의 타임라인 / 본 게시물 기록이 남아 있으면 피드 구성이 달라지므로 Redis 를 비우고 시작
+		stringRedisTemplate.getConnectionFactory().getConnection().serverCommands().flushDb();
 		feedTestHelper.setData();
 
 		// 멤버 로그인
@@ -98,6 +108,11 @@ class FeedControllerTest {
 		SecurityContextHolder.getContext().setAuthentication(authentication);
 	}
 
+	@AfterEach
+	void tearDown() {
+		feedTestHelper.clearData();
+	}
+
 	@Test
 	@DisplayName("피드요청 - 성공")
 	void t1() throws Exception {
@@ -226,4 +241,64 @@ class FeedControllerTest {
 			}
 		}
 	}
+
+	@Test
+	@DisplayName("피드 스트리밍 요청 - 실패: 잘못된 Request 는 스트리밍 시작 전에 오류 반환")
+	void t5() throws Exception {
+		LocalDateTime now = LocalDateTime.now();
+
+		mockMvc.perform(get("/api-v1/feed/stream")
+				.header("Authorization", "Bearer " + accessToken)
+				.param("maxSize", String.valueOf(REQUEST_FEED_MAX_SIZE + 1))
+				.param("lastPostId", "0")
+				.param("timestamp", now.minusDays(1).format(formatter))
+				.accept(MediaType.APPLICATION_NDJSON, MediaType.APPLICATION_JSON))
+			.andExpect(request().asyncNotStarted())
+			.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	@DisplayName("피드 스트리밍 요청 - 성공: 피드를 한 줄씩 전달한 뒤 마지막 줄에 다음 페이지 정보 전달")
+	void t6() throws Exception {
+		LocalDateTime now = LocalDateTime.now();
+		int maxSize = 4;
+
+		MvcResult mvcResult = mockMvc.perform(get("/api-v1/feed/stream")
+				.header("Authorization", "Bearer " + accessToken)
+				.param("maxSize", String.valueOf(maxSize))
+				.param("lastPostId", "0")
+				.param("timestamp", now.format(formatter))
+				.accept(MediaType.APPLICATION_NDJSON))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+		mvcResult.getAsyncResult();
+
+		mockMvc.perform(asyncDispatch(mvcResult))
+			.andExpect(status().isOk())
+			.andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON));
+
+		List<String> lines = Arrays.stream(
+				mvcResult.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n"))
+			.filter(line -> !line.isBlank())
+			.toList();
+		List<String> feedLines = lines.subList(0, lines.size() - 1);
+		String pageLine = lines.getLast();
+
+		// 피드 줄 : 게시물 하나씩, 중복 없이 최대 maxSize 개
+		Assertions.assertFalse(feedLines.isEmpty());
+		Assertions.assertTrue(feedLines.size() <= maxSize);
+		List<Number> postIds = feedLines.stream()
+			.map(line -> (Number)JsonPath.read(line, "$.postId"))
+			.toList();
+		Assertions.assertEquals(postIds.size(), postIds.stream().distinct().count());
+
+		// 마지막 줄 : 피드 없이 다음 페이지 커서만 전달하며, 커서는 전달한 게시물 중 하나를 가리킨다
+		List<Object> pageFeedList = JsonPath.read(pageLine, "$.feedList");
+		Assertions.assertTrue(pageFeedList.isEmpty());
+		FeedCursor nextCursor = FeedCursor.decode(JsonPath.read(pageLine, "$.nextCursor"));
+		Assertions.assertFalse(nextCursor.isFirst());
+		Assertions.assertTrue(postIds.stream().anyMatch(postId -> postId.longValue() == nextCursor.postId()));
+		Number lastPostId = JsonPath.read(pageLine, "$.lastPostId");
+		Assertions.assertEquals(nextCursor.postId(), lastPostId.longValue());
+	}
 }
@@ -12,6 +12,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.transaction.annotation.Transactional;
@@ -48,6 +49,9 @@ class FeedSelectorTest {
 	@Autowired
 	private LikeSyncService likeSyncService;
 
+	@Autowired
+	private StringRedisTemplate stringRedisTemplate;
+
 	@MockitoBean
 	LikeEventListener likeEventListener;
 	@MockitoBean
@@ -57,6 +61,8 @@ class FeedSelectorTest {
 
 	@BeforeEach
 	void setUp() {
+		// 이전 테스트의 좋아요 키 / 타임라인 / 캐시가 남아 있으면 좋아요 토글 결과가 달라지므로 Redis 를 비우고 시작
+		stringRedisTemplate.getConnectionFactory().getConnection().serverCommands().flushDb();
 		feedTestHelper.setData();
 
 		member = queryFactory.selectFrom(memberEntity)
@@ -71,7 +77,8 @@ class FeedSelectorTest {
 
 		Assertions.assertNotEquals(0, member.getFollowingList().size());
 
-		List<Feed> byFollower = feedSelector.findByFollower(member, 0L, 10);
+		List<Long> timelinePostIds = feedSelector.findTimelinePostIds(member, 10);
+		List<Feed> byFollower = feedSelector.findByPostIds(timelinePostIds, member);
 		Assertions.assertNotNull(byFollower);
 		Assertions.assertFalse(byFollower.isEmpty());
 		Assertions.assertEquals(10, byFollower.size());
@@ -80,7 +87,6 @@ class FeedSelectorTest {
 		Assertions.assertNotNull(latestFeed);
 		Assertions.assertNotNull(latestFeed.getPost().getId());
 		Assertions.assertEquals(3L, latestFeed.getCommentCount());
-		Assertions.assertEquals(0L, latestFeed.getPost().getLikeCount());
 
 		Assertions.assertNotNull(latestFeed.getHashTagList());
 		Assertions.assertEquals(3, latestFeed.getHashTagList().size());
@@ -92,7 +98,7 @@ class FeedSelectorTest {
 	@Test
 	@DisplayName("팔로잉 게시물들은 시간 순으로 내림차 정렬되어 반환된다")
 	void t2() {
-		List<Feed> byFollower = feedSelector.findByFollower(member, 0L, 10);
+		List<Feed> byFollower = feedSelector.findByPostIds(feedSelector.findTimelinePostIds(member, 10), member);
 
 		for (int i = 0; i < byFollower.size() - 1; i++) {
 			LocalDateTime front = byFollower.get(i).getPost().getCreateDate();
@@ -126,7 +132,7 @@ class FeedSelectorTest {
 		Feed byPostId = feedSelector.findByPostId(post.getId(), member);
 		Assertions.assertNotNull(byPostId);
 		Assertions.assertEquals("content", byPostId.getPost().getContent());
-		Assertions.assertEquals(0, byPostId.getPost().getLikeCount());
+		Assertions.assertEquals(0L, byPostId.getLikeCount());
 		Assertions.assertEquals(0, byPostId.getCommentCount());
 		Assertions.assertEquals(0, byPostId.getImageUrlList().size());
 		Assertions.assertEquals(0, byPostId.getHashTagList().size());
@@ -146,4 +152,16 @@ class FeedSelectorTest {
 
 		Assertions.assertTrue(byMember2.getFirst().getPost().getId() < lastPostId);
 	}
+
+	@Test
+	@DisplayName("좋아요 여부와 좋아요 수는 DB 동기화 전이라도 Redis 의 최신 값으로 채워진다")
+	void t6() {
+		// user1 은 user2 의 게시물에 좋아요를 눌렀지만 아직 DB 에 동기화되지 않은 상태
+		List<Feed> byMember = feedSelector.findByMember(
+			queryFactory.selectFrom(memberEntity).where(memberEntity.username.eq("user2")).fetchOne(), 0L, 5);
+
+		Feed likedFeed = feedSelector.findByPostId(byMember.getFirst().getPost().getId(), member);
+		Assertions.assertTrue(likedFeed.isLiked());
+		Assertions.assertEquals(1L, likedFeed.getLikeCount());
+	}
 }
@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.transaction.annotation.Transactional;
@@ -61,6 +62,8 @@ public class FeedTestHelper {
 	@Autowired
 	EntityManager entityManager;
 	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Autowired
 	private MemberService memberService;
 
 	@MockitoBean
@@ -174,4 +177,20 @@ public class FeedTestHelper {
 		commentRepository.saveAll(comments);
 		commentRepository.flush();
 	}
+
+	/**
+	 * 커밋된 테스트 데이터를 모두 지운다
+	 * 병렬 조회 / 스트리밍처럼 별도 트랜잭션에서 조회하는 경로는 테스트 트랜잭션의 데이터를 볼 수 없으므로,
+	 * 데이터를 커밋하여 검증한 뒤 이 메서드로 정리한다.
+	 */
+	public void clearData() {
+		jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+		try {
+			jdbcTemplate.queryForList(
+					"SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA = 'PUBLIC'", String.class)
+				.forEach(table -> jdbcTemplate.execute("TRUNCATE TABLE " + table));
+		} finally {
+			jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE");
+		}
+	}
 }
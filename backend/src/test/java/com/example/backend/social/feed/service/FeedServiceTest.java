@@ -2,33 +2,42 @@ package com.example.backend.social.feed.service;
 
 import static com.example.backend.entity.QMemberEntity.*;
 import static com.example.backend.social.feed.constant.FeedConstants.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 
 import com.example.backend.entity.MemberEntity;
 import com.example.backend.global.event.CommentEventListener;
 import com.example.backend.global.event.FollowEventListener;
 import com.example.backend.global.event.LikeEventListener;
+import com.example.backend.social.feed.FeedCursor;
 import com.example.backend.social.feed.dto.FeedListResponse;
 import com.example.backend.social.feed.dto.FeedMemberRequest;
 import com.example.backend.social.feed.dto.FeedRequest;
 import com.example.backend.social.feed.exception.FeedException;
+import com.example.backend.social.feed.implement.FeedSelectorCache;
 import com.example.backend.social.feed.implement.FeedTestHelper;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
+// 병렬 조회는 별도 트랜잭션에서 실행되므로 테스트 데이터를 커밋하고, 테스트가 끝나면 직접 정리한다
 @SpringBootTest
 @DirtiesContext
-@Transactional
 class FeedServiceTest {
 
 	@Autowired
@@ -40,6 +49,12 @@ class FeedServiceTest {
 	@Autowired
 	private JPAQueryFactory queryFactory;
 
+	@Autowired
+	private StringRedisTemplate stringRedisTemplate;
+
+	@MockitoSpyBean
+	private FeedSelectorCache feedSelectorCache;
+
 	private MemberEntity member;
 
 	@MockitoBean
@@ -51,6 +66,8 @@ class FeedServiceTest {
 
 	@BeforeEach
 	void setUp() {
+		// 이전 테스트의 타임라인 / 인기 점수가 남아 있으면 피드 구성이 달라지므로 Redis 를 비우고 시작
+		stringRedisTemplate.getConnectionFactory().getConnection().serverCommands().flushDb();
 		feedTestHelper.setData();
 
 		member = queryFactory.selectFrom(memberEntity)
@@ -58,6 +75,11 @@ class FeedServiceTest {
 			.fetchOne();
 	}
 
+	@AfterEach
+	void tearDown() {
+		feedTestHelper.clearData();
+	}
+
 	@Test
 	@DisplayName("메인 피드 validate 테스트")
 	void t1() {
@@ -116,4 +138,76 @@ class FeedServiceTest {
 
 		feedService.findMembersList(request, 1L);
 	}
+
+	@Test
+	@DisplayName("병렬 조회 - 다음 페이지는 이전 페이지와 겹치지 않음")
+	void t4() {
+		FeedRequest firstRequest = FeedRequest.builder()
+			.maxSize(4)
+			.lastPostId(0L)
+			.timestamp(LocalDateTime.now())
+			.build();
+		FeedListResponse firstPage = feedService.findList(firstRequest, member.getId());
+
+		FeedRequest nextRequest = FeedRequest.builder()
+			.maxSize(4)
+			.cursor(firstPage.nextCursor())
+			.build();
+		FeedListResponse nextPage = feedService.findList(nextRequest, member.getId());
+
+		Assertions.assertEquals(4, firstPage.feedList().size());
+		Assertions.assertFalse(nextPage.feedList().isEmpty());
+		firstPage.feedList().forEach(first -> nextPage.feedList()
+			.forEach(next -> Assertions.assertNotEquals(first.postId(), next.postId())));
+	}
+
+	@Test
+	@DisplayName("병렬 조회 - 제한 시간을 넘긴 작업은 중단하고 준비된 팔로잉 피드만 반환")
+	void t5() throws Exception {
+		CountDownLatch interrupted = new CountDownLatch(1);
+		doAnswer(invocation -> {
+			try {
+				Thread.sleep(FEED_SOURCE_TIMEOUT_MILLIS * 10);
+			} catch (InterruptedException e) {
+				interrupted.countDown();
+				throw e;
+			}
+			return invocation.callRealMethod();
+		}).when(feedSelectorCache).findRecommendFinder(any(), any(), any(), anyInt());
+
+		FeedRequest request = FeedRequest.builder()
+			.maxSize(4)
+			.lastPostId(0L)
+			.timestamp(LocalDateTime.now())
+			.build();
+
+		FeedListResponse response = Assertions.assertTimeoutPreemptively(
+			Duration.ofMillis(FEED_SOURCE_TIMEOUT_MILLIS * 5), () -> feedService.findList(request, member.getId()));
+
+		Assertions.assertEquals((int)(4 * FOLLOWING_FEED_RATE), response.feedList().size());
+		Assertions.assertTrue(interrupted.await(FEED_SOURCE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+	}
+
+	@Test
+	@DisplayName("병렬 조회 - 팔로잉 피드가 제한 시간을 넘기면 다음 페이지 커서가 팔로잉 게시물을 건너뛰지 않음")
+	void t6() {
+		doAnswer(invocation -> {
+			Thread.sleep(FEED_SOURCE_TIMEOUT_MILLIS * 10);
+			return invocation.callRealMethod();
+		}).when(feedSelectorCache).findByPostIds(anyList(), any());
+
+		LocalDateTime now = LocalDateTime.now();
+		FeedRequest request = FeedRequest.builder()
+			.maxSize(4)
+			.lastPostId(0L)
+			.timestamp(now)
+			.build();
+
+		FeedListResponse response = feedService.findList(request, member.getId());
+		FeedCursor nextCursor = FeedCursor.decode(response.nextCursor());
+
+		Assertions.assertFalse(nextCursor.isFirst());
+		Assertions.assertEquals(0L, nextCursor.postId());
+		Assertions.assertEquals(now, nextCursor.createDate());
+	}
 }
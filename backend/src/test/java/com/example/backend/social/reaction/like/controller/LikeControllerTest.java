@@ -36,7 +36,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import jakarta.persistence.EntityManager;
 
-@SpringBootTest
+@SpringBootTest(properties = "custom.like.journal.enabled=false")
 @AutoConfigureMockMvc
 @ActiveProfiles("test")
 @Transactional
@@ -2,6 +2,14 @@ package com.example.backend.social.reaction.like.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -10,6 +18,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -25,14 +34,17 @@ import com.example.backend.entity.PostRepository;
 import com.example.backend.global.event.LikeEventListener;
 import com.example.backend.identity.member.service.MemberService;
 import com.example.backend.social.exception.SocialException;
+import com.example.backend.social.reaction.like.dto.LikeInfo;
 import com.example.backend.social.reaction.like.dto.LikeToggleResponse;
+import com.example.backend.social.reaction.like.dto.LikeToggleResult;
+import com.example.backend.social.reaction.like.dto.LikerListResponse;
 import com.example.backend.social.reaction.like.scheduler.LikeSyncManager;
 import com.example.backend.social.reaction.like.util.RedisKeyUtil;
 import com.example.backend.social.reaction.like.util.component.RedisLikeService;
 
 import jakarta.persistence.EntityManager;
 
-@SpringBootTest
+@SpringBootTest(properties = "custom.like.journal.enabled=false")
 @AutoConfigureMockMvc
 @ActiveProfiles("test")
 @Transactional
@@ -44,6 +56,9 @@ public class LikeServiceTest {
 	@Autowired
 	private RedisTemplate<String, Object> redisTemplate;
 
+	@Autowired
+	private StringRedisTemplate stringRedisTemplate;
+
 	@Autowired
 	private LikeService likeService;
 
@@ -53,6 +68,9 @@ public class LikeServiceTest {
 	@Autowired
 	private LikeSyncManager likeSyncManager;
 
+	@Autowired
+	private LikeSyncService likeSyncService;
+
 	@Autowired
 	private LikeRepository likeRepository;
 
@@ -253,4 +271,86 @@ public class LikeServiceTest {
 		assertTrue(replyResponse.isLiked());
 		assertEquals(1L, replyResponse.likeCount());
 	}
+
+	@Test
+	@DisplayName("7. 같은 멤버의 동시 좋아요 토글 시 상태와 좋아요 수 일관성 테스트")
+	public void t007() throws Exception {
+		// Given
+		Long memberId = testMember.getId();
+		Long resourceId = testPost.getId();
+		String likeKey = RedisKeyUtil.getLikeKey("POST", resourceId, memberId);
+		String countKey = RedisKeyUtil.getLikeCountKey("POST", resourceId);
+
+		int toggleCount = 11;
+		ExecutorService executor = Executors.newFixedThreadPool(toggleCount);
+		CountDownLatch startLatch = new CountDownLatch(1);
+		List<Future<LikeToggleResult>> futures = new ArrayList<>();
+
+		// When - 동시에 11번 토글
+		for (int i = 0; i < toggleCount; i++) {
+			futures.add(executor.submit(() -> {
+				startLatch.await();
+				return redisLikeService.toggleLike(likeKey, countKey, memberId, resourceId, "POST");
+			}));
+		}
+		startLatch.countDown();
+
+		int likedCount = 0;
+		for (Future<LikeToggleResult> future : futures) {
+			if (future.get().likeInfo().isActive()) {
+				likedCount++;
+			}
+		}
+		executor.shutdown();
+
+		// Then - 좋아요 6번, 취소 5번으로 최종 상태는 좋아요, 좋아요 수는 1
+		assertEquals(6, likedCount);
+		assertEquals(1L, redisLikeService.getLikeCount(countKey));
+	}
+
+	@Test
+	@DisplayName("8. 좋아요 수 키가 없으면 DB 좋아요 수에서 시작하고, 변경 리소스로 기록 테스트")
+	public void t008() {
+		// Given - 다른 멤버의 좋아요가 DB 에만 있는 상태
+		MemberEntity otherMember = memberService.join("otherMember", "testPassword", "other@gmail.com");
+		LocalDateTime now = LocalDateTime.now();
+		likeRepository.bulkUpsertLikes(List.of(
+			new LikeInfo(otherMember.getId(), testPost.getId(), "POST", now, now, true)));
+
+		// When
+		LikeToggleResponse response = likeService.toggleLike(testMember.getId(), "post", testPost.getId());
+
+		// Then
+		assertTrue(response.isLiked());
+		assertEquals(2L, response.likeCount());
+		assertTrue(stringRedisTemplate.opsForSet().isMember(
+			RedisKeyUtil.getLikeCountDirtyKey(), RedisKeyUtil.getResourceMember("POST", testPost.getId())));
+	}
+
+	@Test
+	@DisplayName("9. 좋아요 누른 멤버 목록은 최근 좋아요 순으로 커서 페이징")
+	public void t009() {
+		// Given - DB 에 동기화된 좋아요 2건
+		MemberEntity otherMember = memberService.join("otherMember", "testPassword", "other@gmail.com");
+		MemberEntity thirdMember = memberService.join("thirdMember", "testPassword", "third@gmail.com");
+		Long postId = testPost.getId();
+		likeService.toggleLike(testMember.getId(), "post", postId);
+		likeService.toggleLike(otherMember.getId(), "post", postId);
+		likeSyncService.syncToDatabase();
+
+		// When - 목록을 DB 에서 채운 뒤 새 좋아요가 추가됨
+		LikerListResponse loaded = likeService.getLikers("post", postId, null, null, 10);
+		likeService.toggleLike(thirdMember.getId(), "post", postId);
+		LikerListResponse firstPage = likeService.getLikers("post", postId, null, null, 2);
+		LikerListResponse secondPage = likeService.getLikers(
+			"post", postId, firstPage.lastLikedAt(), firstPage.lastMemberId(), 2);
+
+		// Then
+		assertEquals(2, loaded.likerList().size());
+		assertEquals(otherMember.getId(), loaded.likerList().get(0).memberId());
+		assertEquals(List.of(thirdMember.getId(), otherMember.getId()),
+			firstPage.likerList().stream().map(LikerListResponse.LikerDto::memberId).toList());
+		assertEquals(List.of(testMember.getId()),
+			secondPage.likerList().stream().map(LikerListResponse.LikerDto::memberId).toList());
+	}
 }
@@ -29,12 +29,11 @@ import com.example.backend.entity.PostRepository;
 import com.example.backend.identity.member.service.MemberService;
 import com.example.backend.social.reaction.like.dto.LikeInfo;
 import com.example.backend.social.reaction.like.scheduler.LikeSyncManager;
-import com.example.backend.social.reaction.like.util.RedisKeyUtil;
-import com.example.backend.social.reaction.like.util.component.RedisLikeService;
 
 import jakarta.persistence.EntityManager;
 
-@SpringBootTest
+// 롤백된 테스트 데이터의 좋아요가 저널에 남아 다음 컨텍스트에서 복구되지 않도록 저널 비활성화
+@SpringBootTest(properties = "custom.like.journal.enabled=false")
 @ActiveProfiles("test")
 @Transactional
 @DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
@@ -46,9 +45,6 @@ public class LikeSyncServiceTest {
     @Autowired
     private LikeSyncManager likeSyncManager;
     
-    @Autowired
-    private RedisLikeService redisLikeService;
-    
     @Autowired
     private LikeRepository likeRepository;
     
@@ -115,11 +111,8 @@ public class LikeSyncServiceTest {
         Long postId = testPost.getId();
         String resourceType = "POST";
         
-        // 좋아요 정보 수동 생성 및 Redis에 저장
+        // 좋아요 정보 수동 생성
         for (MemberEntity member : Arrays.asList(member1, member2, member3, member4, member5)) {
-            String likeKey = RedisKeyUtil.getLikeKey(resourceType, postId, member.getId());
-            String countKey = RedisKeyUtil.getLikeCountKey(resourceType, postId);
-            
             LikeInfo likeInfo = new LikeInfo(
                 member.getId(),
                 postId,
@@ -129,9 +122,6 @@ public class LikeSyncServiceTest {
                 true
             );
             
-            redisLikeService.updateLikeInfo(likeKey, likeInfo);
-            redisLikeService.updateLikeCount(countKey, true);
-            
             // 동기화 스케줄링
             likeSyncService.addToPendingSync(likeInfo);
         }
@@ -169,22 +159,6 @@ public class LikeSyncServiceTest {
         Long postId = testPost.getId();
         String resourceType = "POST";
         
-        // 좋아요 정보 생성 및 Redis에 저장
-        String likeKey = RedisKeyUtil.getLikeKey(resourceType, postId, likeMember.getId());
-        String countKey = RedisKeyUtil.getLikeCountKey(resourceType, postId);
-        
-        LikeInfo likeInfo = new LikeInfo(
-            likeMember.getId(),
-            postId,
-            resourceType,
-            LocalDateTime.now(),
-            LocalDateTime.now(),
-            true
-        );
-        
-        redisLikeService.updateLikeInfo(likeKey, likeInfo);
-        redisLikeService.updateLikeCount(countKey, true);
-        
         // 동기화 스케줄링
         likeSyncManager.scheduleSyncToDatabase(likeMember.getId(), postId, resourceType, true, true);
         
@@ -212,47 +186,18 @@ public class LikeSyncServiceTest {
         String[] resourceTypes = {"POST", "COMMENT", "REPLY"};
         
         for (String resourceType : resourceTypes) {
-            String likeKey1 = RedisKeyUtil.getLikeKey(resourceType, postId, member1.getId());
-            String countKey1 = RedisKeyUtil.getLikeCountKey(resourceType, postId);
-            
-            LikeInfo likeInfo1 = new LikeInfo(
-                member1.getId(),
-                postId,
-                resourceType,
-                LocalDateTime.now(),
-                LocalDateTime.now(),
-                true
-            );
-            
-            redisLikeService.updateLikeInfo(likeKey1, likeInfo1);
-            redisLikeService.updateLikeCount(countKey1, true);
-            
             // member1의 좋아요 동기화 스케줄링
             likeSyncManager.scheduleSyncToDatabase(member1.getId(), postId, resourceType, true, true);
             
             // member2도 같은 리소스에 좋아요
-            String likeKey2 = RedisKeyUtil.getLikeKey(resourceType, postId, member2.getId());
-            
-            LikeInfo likeInfo2 = new LikeInfo(
-                member2.getId(),
-                postId,
-                resourceType,
-                LocalDateTime.now(),
-                LocalDateTime.now(),
-                true
-            );
-            
-            redisLikeService.updateLikeInfo(likeKey2, likeInfo2);
-            redisLikeService.updateLikeCount(countKey1, true);
-            
             // member2의 좋아요 동기화 스케줄링
             likeSyncManager.scheduleSyncToDatabase(member2.getId(), postId, resourceType, true, true);
         }
         
-        // 6개의 좋아요중 5개는 자동 동기화로 DB 반영
+        // 배치 크기에 도달하지 않은 좋아요는 플러셔 스레드가 아직 반영하지 않음
         Thread.sleep(1000);
 
-        // 첫 번째 배치 이후 남은 1개의 좋아요를 처리하기 위해 수동 동기화 실행
+        // 남은 좋아요를 처리하기 위해 수동 동기화 실행
         likeSyncService.syncToDatabase();
         Thread.sleep(500);
         
@@ -271,4 +216,25 @@ public class LikeSyncServiceTest {
         assertEquals(2L, likeCountByResourceType.getOrDefault("COMMENT", 0L));
         assertEquals(2L, likeCountByResourceType.getOrDefault("REPLY", 0L));
     }
+
+    @Test
+    @DisplayName("4. 같은 대상에 대한 반복 토글은 마지막 상태 한 건만 반영되는지 테스트")
+    public void t004() throws Exception {
+        // Given
+        MemberEntity likeMember = memberService.join("likeMember", "password", "likeMember@test.com");
+        Long postId = testPost.getId();
+        String resourceType = "POST";
+
+        // When - 좋아요 / 취소를 반복하여 최종적으로 좋아요 상태
+        likeSyncManager.scheduleSyncToDatabase(likeMember.getId(), postId, resourceType, true, true);
+        for (int i = 0; i < 4; i++) {
+            likeSyncManager.scheduleSyncToDatabase(likeMember.getId(), postId, resourceType, i % 2 != 0, false);
+        }
+        likeSyncService.syncToDatabase();
+
+        // Then - 신규 좋아요 한 건이 마지막 상태로 저장
+        List<LikeEntity> likes = likeRepository.findAll();
+        assertEquals(1, likes.size());
+        assertTrue(likes.get(0).isLiked());
+    }
 }
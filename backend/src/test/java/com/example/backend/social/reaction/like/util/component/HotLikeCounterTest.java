@@ -0,0 +1,54 @@
+package com.example.backend.social.reaction.like.util.component;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.backend.social.reaction.like.util.component.HotLikeCounter.HotCounter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class HotLikeCounterTest {
+    private static final String COUNT_KEY = "likeCount:POST:1";
+    private static final String RESOURCE_MEMBER = "POST:1";
+
+    private final HotLikeCounter hotLikeCounter = new HotLikeCounter(null, null, new SimpleMeterRegistry(), 3);
+
+    @Test
+    @DisplayName("1. 구간 내 토글 수가 임계값에 도달하면 hot 리소스로 전환")
+    public void t001() {
+        // When
+        HotCounter first = hotLikeCounter.acquire(COUNT_KEY, RESOURCE_MEMBER);
+        HotCounter second = hotLikeCounter.acquire(COUNT_KEY, RESOURCE_MEMBER);
+        HotCounter third = hotLikeCounter.acquire(COUNT_KEY, RESOURCE_MEMBER);
+        HotCounter fourth = hotLikeCounter.acquire(COUNT_KEY, RESOURCE_MEMBER);
+
+        // Then
+        assertNull(first);
+        assertNull(second);
+        assertNotNull(third);
+        assertSame(third, fourth);
+        assertNull(hotLikeCounter.acquire("likeCount:POST:2", "POST:2"));
+    }
+
+    @Test
+    @DisplayName("2. hot 리소스의 미반영 증감 합산")
+    public void t002() {
+        // Given
+        HotCounter counter = null;
+        for (int i = 0; i < 3; i++) {
+            counter = hotLikeCounter.acquire(COUNT_KEY, RESOURCE_MEMBER);
+        }
+
+        // When
+        counter.add(1);
+        counter.add(1);
+        counter.add(-1);
+
+        // Then
+        assertEquals(1L, counter.pendingDelta());
+        assertEquals(1L, hotLikeCounter.pendingDelta(COUNT_KEY));
+        assertEquals(0L, hotLikeCounter.pendingDelta("likeCount:POST:2"));
+    }
+}
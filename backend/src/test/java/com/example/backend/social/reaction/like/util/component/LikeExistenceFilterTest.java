@@ -0,0 +1,97 @@
+package com.example.backend.social.reaction.like.util.component;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import com.example.backend.social.reaction.like.dto.LikeInfo;
+
+public class LikeExistenceFilterTest {
+    private static final List<String> FILTER_KEYS = List.of(
+        "likeFilter:POST", "likeFilter:COMMENT", "likeFilter:POST:building", "likeFilter:COMMENT:building",
+        "likeFilter:rebuild:lock");
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate stringRedisTemplate;
+    private LikeExistenceFilter likeExistenceFilter;
+
+    @BeforeEach
+    public void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .generateUniqueName(true)
+            .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE likes (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+            + "member_id BIGINT, resource_type VARCHAR(255), resource_id BIGINT)");
+
+        connectionFactory = new LettuceConnectionFactory();
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        stringRedisTemplate.delete(FILTER_KEYS);
+        likeExistenceFilter = new LikeExistenceFilter(jdbcTemplate, stringRedisTemplate);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        stringRedisTemplate.delete(FILTER_KEYS);
+        connectionFactory.destroy();
+        database.shutdown();
+    }
+
+    @Test
+    @DisplayName("1. 필터 생성 전에는 항상 DB 조회가 필요하다고 판단")
+    public void t001() {
+        assertTrue(likeExistenceFilter.mightExist(1L, "POST", 1L));
+    }
+
+    @Test
+    @DisplayName("2. likes 테이블의 행과 이후 추가된 행은 있을 수 있음, 그 외는 확실히 없음")
+    public void t002() {
+        // Given
+        jdbcTemplate.update("INSERT INTO likes (member_id, resource_type, resource_id) VALUES (1, 'POST', 10)");
+        jdbcTemplate.update("INSERT INTO likes (member_id, resource_type, resource_id) VALUES (3, 'COMMENT', 30)");
+        likeExistenceFilter.rebuild();
+
+        // When
+        LocalDateTime now = LocalDateTime.now();
+        likeExistenceFilter.addAll(List.of(new LikeInfo(2L, 20L, "COMMENT", now, now, true)));
+
+        // Then
+        assertTrue(likeExistenceFilter.mightExist(1L, "POST", 10L));
+        assertTrue(likeExistenceFilter.mightExist(2L, "COMMENT", 20L));
+        assertFalse(likeExistenceFilter.mightExist(1L, "COMMENT", 10L));
+    }
+
+    @Test
+    @DisplayName("3. 다른 서버에서 DB 에 반영한 행도 같은 필터로 확인")
+    public void t003() {
+        // Given
+        jdbcTemplate.update("INSERT INTO likes (member_id, resource_type, resource_id) VALUES (1, 'POST', 10)");
+        likeExistenceFilter.rebuild();
+        LikeExistenceFilter otherNode = new LikeExistenceFilter(jdbcTemplate, stringRedisTemplate);
+
+        // When
+        LocalDateTime now = LocalDateTime.now();
+        otherNode.addAll(List.of(new LikeInfo(4L, 40L, "POST", now, now, true)));
+
+        // Then
+        assertTrue(likeExistenceFilter.mightExist(4L, "POST", 40L));
+        assertFalse(likeExistenceFilter.mightExist(5L, "POST", 40L));
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.backend.social.reaction.like.util.component;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.backend.social.reaction.like.dto.LikeInfo;
+import com.example.backend.social.reaction.like.util.component.LikeSyncJournal.JournalEntry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class LikeSyncJournalTest {
+    private static final int CAPACITY = 4096;
+
+    @TempDir
+    Path tempDir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("1. acknowledge 되지 않은 기록은 재시작 시 복구")
+    public void t001() {
+        // Given
+        Path path = tempDir.resolve("like-sync.journal");
+        LikeSyncJournal journal = openJournal(path);
+        long first = journal.append(createLikeInfo(1L));
+        long second = journal.append(createLikeInfo(2L));
+        journal.append(createLikeInfo(3L));
+
+        // When - 두 번째 기록만 커밋되고 종료
+        journal.acknowledge(List.of(second));
+        journal.close();
+
+        // Then
+        List<JournalEntry> recovered = openJournal(path).drainRecovered();
+        assertEquals(2, recovered.size());
+        assertEquals(first, recovered.get(0).sequence());
+        assertEquals(1L, recovered.get(0).likeInfo().memberId());
+        assertEquals(3L, recovered.get(1).likeInfo().memberId());
+    }
+
+    @Test
+    @DisplayName("2. 모두 acknowledge 된 경우 복구할 기록이 없고 seq 는 이어서 증가")
+    public void t002() {
+        // Given
+        Path path = tempDir.resolve("like-sync.journal");
+        LikeSyncJournal journal = openJournal(path);
+        long first = journal.append(createLikeInfo(1L));
+        long second = journal.append(createLikeInfo(2L));
+
+        // When
+        journal.acknowledge(List.of(first, second));
+        journal.close();
+
+        // Then
+        LikeSyncJournal reopened = openJournal(path);
+        assertTrue(reopened.drainRecovered().isEmpty());
+        assertTrue(reopened.append(createLikeInfo(3L)) > second);
+    }
+
+    @Test
+    @DisplayName("3. 체크섬이 맞지 않는 기록부터는 복구하지 않음")
+    public void t003() throws Exception {
+        // Given
+        Path path = tempDir.resolve("like-sync.journal");
+        LikeSyncJournal journal = openJournal(path);
+        journal.append(createLikeInfo(1L));
+        journal.append(createLikeInfo(2L));
+        journal.close();
+
+        // When - 마지막 기록의 payload 일부를 손상
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            int firstLength = readInt(file, Long.BYTES);
+            long secondPayload = Long.BYTES + 20L + firstLength + 20L;
+            file.seek(secondPayload);
+            file.write('X');
+        }
+
+        // Then
+        List<JournalEntry> recovered = openJournal(path).drainRecovered();
+        assertEquals(1, recovered.size());
+        assertEquals(1L, recovered.get(0).likeInfo().memberId());
+    }
+
+    @Test
+    @DisplayName("4. 모든 기록이 미반영 상태로 저널이 가득 차면 기록하지 않고 메트릭으로 알림")
+    public void t004() {
+        // Given
+        LikeSyncJournal journal = openJournal(tempDir.resolve("like-sync.journal"));
+
+        // When
+        long sequence = 0;
+        for (int i = 0; i < CAPACITY && sequence != LikeSyncJournal.NOT_JOURNALED; i++) {
+            sequence = journal.append(createLikeInfo((long)i));
+        }
+
+        // Then
+        assertEquals(LikeSyncJournal.NOT_JOURNALED, sequence);
+        assertEquals(1.0, meterRegistry.counter("like.journal.full").count());
+    }
+
+    @Test
+    @DisplayName("5. 가득 찬 저널은 미반영 기록만 남기고 compaction 하여 계속 기록")
+    public void t005() {
+        // Given - 첫 기록만 미반영인 채로 가득 참
+        Path path = tempDir.resolve("like-sync.journal");
+        LikeSyncJournal journal = openJournal(path);
+        long first = journal.append(createLikeInfo(1L));
+        List<Long> acknowledged = new ArrayList<>();
+        long sequence = 0;
+        while (sequence != LikeSyncJournal.NOT_JOURNALED) {
+            sequence = journal.append(createLikeInfo(2L));
+            acknowledged.add(sequence);
+        }
+        acknowledged.removeLast();
+        journal.acknowledge(acknowledged);
+
+        // When
+        long next = journal.append(createLikeInfo(3L));
+        journal.close();
+
+        // Then
+        assertNotEquals(LikeSyncJournal.NOT_JOURNALED, next);
+        assertEquals(1.0, meterRegistry.counter("like.journal.compaction").count());
+        List<JournalEntry> recovered = openJournal(path).drainRecovered();
+        assertEquals(List.of(first, next), recovered.stream().map(JournalEntry::sequence).toList());
+        assertEquals(3L, recovered.get(1).likeInfo().memberId());
+    }
+
+    private LikeSyncJournal openJournal(Path path) {
+        LikeSyncJournal journal = new LikeSyncJournal(objectMapper, meterRegistry, true, path.toString(), CAPACITY);
+        journal.open();
+        return journal;
+    }
+
+    private static LikeInfo createLikeInfo(Long memberId) {
+        return new LikeInfo(memberId, 1L, "POST", LocalDateTime.now(), LocalDateTime.now(), true);
+    }
+
+    private static int readInt(RandomAccessFile file, long position) throws Exception {
+        file.seek(position);
+        return file.readInt();
+    }
+}
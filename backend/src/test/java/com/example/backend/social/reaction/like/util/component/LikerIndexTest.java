@@ -0,0 +1,118 @@
+package com.example.backend.social.reaction.like.util.component;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.example.backend.entity.LikeRepository;
+import com.example.backend.social.reaction.like.dto.LikeInfo;
+import com.example.backend.social.reaction.like.dto.LikerInfo;
+import com.example.backend.social.reaction.like.service.LikeSyncService;
+import com.example.backend.social.reaction.like.util.RedisKeyUtil;
+
+public class LikerIndexTest {
+    private static final Long POST_ID = 900_001L;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 3, 15, 0, 0);
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate stringRedisTemplate;
+    private LikeRepository likeRepository;
+    private LikeSyncService likeSyncService;
+    private LikerIndex likerIndex;
+
+    @BeforeEach
+    public void setUp() {
+        connectionFactory = new LettuceConnectionFactory();
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        deleteKeys();
+        likeRepository = mock(LikeRepository.class);
+        likeSyncService = mock(LikeSyncService.class);
+        likerIndex = new LikerIndex(stringRedisTemplate, likeRepository, likeSyncService);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        deleteKeys();
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("1. 보관 범위가 가득 찬 목록은 좋아요 취소로 줄어든 뒤에도 범위 밖 페이지를 DB 에서 조회")
+    public void t001() {
+        // Given - DB 에 MAX_LIKERS 명 이상이 있어 최근 MAX_LIKERS 명만 보관 (멤버 ID 가 클수록 최근)
+        when(likeRepository.findLikers("POST", POST_ID, null, null, LikerIndex.MAX_LIKERS))
+            .thenReturn(likers(LikerIndex.MAX_LIKERS, 1));
+        likerIndex.findLikers("POST", POST_ID, null, null, 1);
+
+        // When - 보관 중인 멤버 한 명이 좋아요 취소 (토글 스크립트와 같이 ZREM)
+        stringRedisTemplate.opsForZSet().remove(
+            RedisKeyUtil.getLikersKey("POST", POST_ID), LikerIndex.toMember((long)LikerIndex.MAX_LIKERS));
+        LikerInfo oldest = new LikerInfo(1L, BASE_TIME.plusSeconds(1));
+        LikerInfo older = new LikerInfo(0L, BASE_TIME);
+        when(likeRepository.findLikers("POST", POST_ID, oldest.likedAt(), oldest.memberId(), 10))
+            .thenReturn(List.of(older));
+        List<LikerInfo> page = likerIndex.findLikers("POST", POST_ID, oldest.likedAt(), oldest.memberId(), 10);
+
+        // Then
+        assertEquals(List.of(older), page);
+    }
+
+    @Test
+    @DisplayName("2. DB 의 전체 목록을 보관한 경우 범위 밖 페이지를 DB 에서 조회하지 않음")
+    public void t002() {
+        // Given
+        when(likeRepository.findLikers("POST", POST_ID, null, null, LikerIndex.MAX_LIKERS))
+            .thenReturn(likers(3, 1));
+
+        // When
+        List<LikerInfo> page = likerIndex.findLikers("POST", POST_ID, null, null, 10);
+
+        // Then
+        assertEquals(List.of(3L, 2L, 1L), page.stream().map(LikerInfo::memberId).toList());
+        verify(likeRepository, times(1)).findLikers(anyString(), anyLong(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("3. DB 에 반영되지 않은 좋아요 / 좋아요 취소를 합쳐서 채움")
+    public void t003() {
+        // Given - DB 에는 1 ~ 3 번 멤버, 4 번 멤버의 좋아요와 2 번 멤버의 좋아요 취소는 DB 반영 대기 중
+        when(likeRepository.findLikers("POST", POST_ID, null, null, LikerIndex.MAX_LIKERS))
+            .thenReturn(likers(3, 1));
+        when(likeSyncService.findPendingLikes("POST", POST_ID)).thenReturn(List.of(
+            new LikeInfo(4L, POST_ID, "POST", BASE_TIME.plusSeconds(4), BASE_TIME.plusSeconds(4), true),
+            new LikeInfo(2L, POST_ID, "POST", null, BASE_TIME.plusSeconds(5), false)));
+
+        // When
+        List<LikerInfo> page = likerIndex.findLikers("POST", POST_ID, null, null, 10);
+
+        // Then
+        assertEquals(List.of(4L, 3L, 1L), page.stream().map(LikerInfo::memberId).toList());
+        verify(likeRepository, times(1)).findLikers(anyString(), anyLong(), any(), any(), anyInt());
+    }
+
+    // 최근 좋아요 순 (멤버 ID 내림차순) 목록
+    private static List<LikerInfo> likers(int count, long fromMemberId) {
+        return LongStream.range(fromMemberId, fromMemberId + count)
+            .map(memberId -> fromMemberId + count - 1 - (memberId - fromMemberId))
+            .mapToObj(memberId -> new LikerInfo(memberId, BASE_TIME.plusSeconds(memberId)))
+            .toList();
+    }
+
+    private void deleteKeys() {
+        stringRedisTemplate.delete(List.of(
+            RedisKeyUtil.getLikersKey("POST", POST_ID), RedisKeyUtil.getLikersCompleteKey("POST", POST_ID)));
+    }
+}